@@ -0,0 +1,148 @@
+package seng.monsters.model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for resolving many battles at once, either one BattleManager at a time or packed into a BattleBatch,
+ * on the vector kernel when the module is added and on the scalar kernel.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BattleBatchBenchmark {
+    /**
+     * The amount of battles resolved in each invocation.
+     */
+    @Param({"64", "1024"})
+    public int battles;
+
+    /**
+     * The amount of monster in each party.
+     */
+    @Param({"1", "4"})
+    public int partySize;
+
+    /**
+     * The day, which is also the level of every monster as the shop would generate on normal difficulty.
+     */
+    @Param({"1", "15"})
+    public int day;
+
+    /**
+     * The player trainer, only read to make copies.
+     */
+    private Trainer player;
+
+    /**
+     * The enemy trainer, only read to make copies.
+     */
+    private Trainer enemy;
+
+    /**
+     * The random source for every battle.
+     */
+    private RandomSource rng;
+
+    /**
+     * The battles already packed, rerun by <code>batch</code> with the fastest kernel available.
+     */
+    private BattleBatch packed;
+
+    /**
+     * The battles already packed, rerun by <code>scalarBatch</code> with the scalar kernel.
+     */
+    private BattleBatch scalarPacked;
+
+    /**
+     * The batch refilled by <code>packAndRun</code>.
+     */
+    private BattleBatch refilled;
+
+    @Setup
+    public void setUp() {
+        final List<Monster> all = Monster.all(day);
+        player = new Trainer("Player");
+        enemy = new Trainer("Enemy");
+        for (int i = 0; i < partySize; i++) {
+            player.add(all.get(i % all.size()).copy());
+            enemy.add(all.get((i + 3) % all.size()).copy());
+        }
+        rng = RandomSource.seeded(42);
+        packed = new BattleBatch(battles);
+        scalarPacked = new BattleBatch(battles, ScalarAttackKernel.INSTANCE);
+        for (int i = 0; i < battles; i++) {
+            packed.add(player, enemy, Environment.FIELD);
+            scalarPacked.add(player, enemy, Environment.FIELD);
+        }
+        refilled = new BattleBatch(battles);
+    }
+
+    /**
+     * Every battle resolved by its own BattleManager, including copying both parties.
+     */
+    @Benchmark
+    public int manager() {
+        int wins = 0;
+        for (int i = 0; i < battles; i++) {
+            final BattleManager battle = new BattleManager(
+                BattleManager.UI.HEADLESS, player.copy(), enemy.copy(), Environment.FIELD, rng
+            );
+            battle.resolve();
+            if (battle.hasPlayerWon())
+                wins++;
+        }
+        return wins;
+    }
+
+    /**
+     * Every battle resolved by a batch packed once.
+     */
+    @Benchmark
+    public int batch() {
+        packed.run(rng);
+        return wins(packed);
+    }
+
+    /**
+     * Every battle resolved by a batch packed once, always on the scalar kernel.
+     */
+    @Benchmark
+    public int scalarBatch() {
+        scalarPacked.run(rng);
+        return wins(scalarPacked);
+    }
+
+    /**
+     * Every battle packed from the trainers then resolved by a batch.
+     */
+    @Benchmark
+    public int packAndRun() {
+        refilled.clear();
+        for (int i = 0; i < battles; i++) {
+            refilled.add(player, enemy, Environment.FIELD);
+        }
+        refilled.run(rng);
+        return wins(refilled);
+    }
+
+    /**
+     * Count the battles the player won in the last run of a batch.
+     *
+     * @param batch The batch.
+     * @return The amount of wins.
+     */
+    private static int wins(BattleBatch batch) {
+        int res = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            if (batch.hasPlayerWon(i))
+                res++;
+        }
+        return res;
+    }
+}
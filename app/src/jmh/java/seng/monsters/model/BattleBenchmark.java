@@ -0,0 +1,101 @@
+package seng.monsters.model;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for a battle, either ticked one iteration at a time as the UIs do, or resolved at once.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BattleBenchmark {
+    /**
+     * The amount of monster in each party.
+     */
+    @Param({"1", "2", "4"})
+    public int partySize;
+
+    /**
+     * The day, which is also the level of every monster as the shop would generate on normal difficulty.
+     */
+    @Param({"1", "5", "15"})
+    public int day;
+
+    /**
+     * The player trainer, only read to make copies.
+     */
+    private Trainer player;
+
+    /**
+     * The enemy trainer, only read to make copies.
+     */
+    private Trainer enemy;
+
+    /**
+     * The random source for every battle.
+     */
+    private RandomSource rng;
+
+    /**
+     * The battle being ticked by <code>nextIteration</code>.
+     */
+    private BattleManager ticking;
+
+    @Setup
+    public void setUp() {
+        final List<Monster> all = Monster.all(day);
+        player = new Trainer("Player");
+        enemy = new Trainer("Enemy");
+        for (int i = 0; i < partySize; i++) {
+            player.add(all.get(i % all.size()).copy());
+            enemy.add(all.get((i + 3) % all.size()).copy());
+        }
+        rng = RandomSource.seeded(42);
+        ticking = newBattle();
+    }
+
+    /**
+     * A single tick of the battle, which is a battle restart once every few hundred ticks.
+     */
+    @Benchmark
+    public void nextIteration(Blackhole bh) {
+        if (ticking.isSettled())
+            ticking = newBattle();
+        ticking.nextIteration();
+        bh.consume(ticking);
+    }
+
+    /**
+     * A full battle resolved at once, including copying both parties.
+     */
+    @Benchmark
+    public boolean resolve() {
+        final BattleManager battle = newBattle();
+        battle.resolve();
+        return battle.hasPlayerWon();
+    }
+
+    /**
+     * A full battle solved exactly without any sampling.
+     */
+    @Benchmark
+    public double solve() {
+        return BattleSolver.solve(player, enemy, Environment.FIELD).winProbability();
+    }
+
+    /**
+     * Create a new battle between copies of both parties.
+     *
+     * @return A new battle.
+     */
+    private BattleManager newBattle() {
+        return new BattleManager(BattleManager.UI.HEADLESS, player.copy(), enemy.copy(), Environment.FIELD, rng);
+    }
+}
@@ -0,0 +1,87 @@
+package seng.monsters.model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the daily game logic, i.e. restocking the shop, generating battles, and proceeding to the next day.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameManagerBenchmark {
+    /**
+     * The difficulty scale.
+     */
+    @Param({"1", "2", "3"})
+    public int difficulty;
+
+    /**
+     * The current day.
+     */
+    @Param({"1", "5", "15"})
+    public int day;
+
+    /**
+     * The amount of monster in the player's party.
+     */
+    @Param({"1", "4"})
+    public int partySize;
+
+    /**
+     * The game being measured.
+     */
+    private GameManager manager;
+
+    @Setup
+    public void setUp() {
+        manager = new GameManager(500, day, 100, difficulty, "Player", RandomSource.seeded(42));
+        manager.setCurrentDay(day);
+        final List<Monster> all = Monster.all(day);
+        for (int i = 0; i < partySize; i++) {
+            manager.getPlayer().add(all.get(i));
+        }
+        manager.getInventory().add(Item.Potion.INSTANCE);
+        manager.getInventory().add(Item.Revive.INSTANCE);
+        manager.getInventory().add(Item.RareCandy.INSTANCE);
+    }
+
+    @Benchmark
+    public Shop restock() {
+        manager.getShop().restock();
+        return manager.getShop();
+    }
+
+    @Benchmark
+    public List<Trainer> updateAvailableBattles() {
+        manager.updateAvailableBattles();
+        return manager.getAllBattles();
+    }
+
+    /**
+     * A night, where the day is set back before each night so every night is on the same day.
+     */
+    @Benchmark
+    public boolean nextDay() {
+        manager.setCurrentDay(day);
+        return manager.nextDay();
+    }
+
+    @Benchmark
+    public List<Item> getItems() {
+        return manager.getInventory().getItems();
+    }
+
+    /**
+     * Checking the game fail conditions, which the UIs do after every night.
+     */
+    @Benchmark
+    public boolean failConditions() {
+        return manager.hasNotEnoughMoneyForMonster() || manager.hasNoPossibilityForRevive() || manager.hasNotBattleOnce();
+    }
+}
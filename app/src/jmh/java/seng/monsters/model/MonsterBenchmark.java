@@ -0,0 +1,58 @@
+package seng.monsters.model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the level scaled stats of a monster.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MonsterBenchmark {
+    /**
+     * The level of the monster, where the last one is outside the precomputed multipliers.
+     */
+    @Param({"1", "20", "300"})
+    public int level;
+
+    /**
+     * The monster being measured.
+     */
+    private Monster monster;
+
+    @Setup
+    public void setUp() {
+        monster = new Monster.Eel(level);
+    }
+
+    @Benchmark
+    public int maxHp() {
+        return monster.maxHp();
+    }
+
+    @Benchmark
+    public int attackDamage() {
+        return monster.attackDamage(Environment.BEACH);
+    }
+
+    /**
+     * All stats read by a battle and the shop for a single monster.
+     */
+    @Benchmark
+    public int stats() {
+        return monster.maxHp() + monster.attackDamage(Environment.FIELD) + monster.buyPrice() + monster.sellPrice();
+    }
+
+    /**
+     * The damage of an attack, which includes the lifesteal heal of the Eel.
+     */
+    @Benchmark
+    public int damage() {
+        return monster.damage(Environment.BEACH);
+    }
+}
@@ -0,0 +1,51 @@
+package seng.monsters;
+
+import seng.monsters.model.GameRunner;
+import seng.monsters.model.Strategy;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+/**
+ * The entry for playing games without any UI, measuring the games per second across a growing number of cores
+ */
+public class Headless {
+    /**
+     * The main function to play the headless games
+     *
+     * @param args The games per run, max days, difficulty, and strategy (greedy or aimless), all optional
+     */
+    public static void main(String[] args) {
+        final int games = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        final int maxDays = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        final int difficulty = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+        final String name = args.length > 3 ? args[3] : "greedy";
+        final Supplier<Strategy> strategies = switch (name) {
+            case "greedy" -> Strategy.Greedy::new;
+            case "aimless" -> Strategy.Aimless::new;
+            default -> throw new IllegalArgumentException("Unknown strategy " + name);
+        };
+        final GameRunner runner = new GameRunner(maxDays, difficulty);
+
+        // Warm up on every core before measuring
+        runner.playAll(strategies, games, 0, ForkJoinPool.commonPool());
+
+        final int cores = Runtime.getRuntime().availableProcessors();
+        for (int parallelism = 1; ; parallelism = Math.min(cores, parallelism * 2)) {
+            final ForkJoinPool pool = new ForkJoinPool(parallelism);
+            final GameRunner.Summary summary = runner.playAll(strategies, games, 1, pool);
+            pool.shutdown();
+            System.out.printf(
+                "%2d cores: %,10.0f games/s | completed %5.1f%% | score %8.1f | gold %8.1f | days %4.1f%n",
+                parallelism,
+                summary.gamesPerSecond(),
+                summary.completionRate() * 100,
+                summary.averageScore(),
+                summary.averageGold(),
+                summary.averageDays()
+            );
+            if (parallelism == cores)
+                break;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package seng.monsters;
+
+import seng.monsters.model.GameManager;
+import seng.monsters.model.RandomSource;
+import seng.monsters.ui.cli.Output;
+import seng.monsters.ui.cli.SetupCLI;
+import seng.monsters.ui.cli.Terminal;
+import seng.monsters.ui.cli.Transcript;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * The entry for replaying a recorded transcript of commands against the CLI, without any pauses,
+ * reporting the latency of each command and the games per minute
+ */
+public class Scripted {
+    /**
+     * The main function to replay the transcript
+     *
+     * @param args The transcript file (or - for the standard input), replays, seed, and quiet to discard the game output,
+     *             all optional
+     * @throws IOException If the transcript cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        final String path = args.length > 0 ? args[0] : "-";
+        final int replays = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+        final long seed = args.length > 2 ? Long.parseLong(args[2]) : 0;
+        final boolean isQuiet = args.length > 3 && args[3].equals("quiet");
+        final List<String> commands = Transcript.read(path.equals("-")
+            ? new InputStreamReader(System.in)
+            : Files.newBufferedReader(Path.of(path)));
+
+        // The game output is only written out in large chunks, instead of on every line
+        final Output output = isQuiet
+            ? Output.none()
+            : Output.buffered(new OutputStreamWriter(new FileOutputStream(FileDescriptor.out)));
+
+        final long[] latencies = new long[replays * commands.size()];
+        final long[] lineTotals = new long[commands.size()];
+        final int[] lineCounts = new int[commands.size()];
+        int measured = 0;
+        int completed = 0;
+        long totalScore = 0;
+        final long start = System.nanoTime();
+        for (int i = 0; i < replays; i++) {
+            // The same seed for every replay, so the transcript lines up with the same game each time
+            final Transcript transcript = new Transcript(commands);
+            final SetupCLI setupCLI = new SetupCLI(Terminal.scripted(transcript, output), RandomSource.seeded(seed));
+            try {
+                final GameManager gameManager = setupCLI.setup();
+                completed++;
+                totalScore += gameManager.getScore();
+            } catch (NoSuchElementException e) {
+                // The transcript ended before the game did
+            }
+            final long[] replayLatencies = transcript.latencies(System.nanoTime());
+            System.arraycopy(replayLatencies, 0, latencies, measured, replayLatencies.length);
+            for (int line = 0; line < replayLatencies.length; line++) {
+                lineTotals[line] += replayLatencies[line];
+                lineCounts[line]++;
+            }
+            measured += replayLatencies.length;
+        }
+        final long elapsed = System.nanoTime() - start;
+        output.flush();
+
+        final long[] sorted = Arrays.copyOf(latencies, measured);
+        Arrays.sort(sorted);
+        System.err.printf(
+            "%,d replays in %.2fs: %,.0f games/min | completed %d | average score %.1f%n",
+            replays,
+            elapsed / 1e9,
+            replays / (elapsed / 6e10),
+            completed,
+            completed == 0 ? 0.0 : (double) totalScore / completed
+        );
+        System.err.printf(
+            "%,d commands: mean %s | p50 %s | p99 %s | max %s%n",
+            measured,
+            micros(measured == 0 ? 0 : Arrays.stream(sorted).sum() / measured),
+            micros(percentile(sorted, 0.50)),
+            micros(percentile(sorted, 0.99)),
+            micros(measured == 0 ? 0 : sorted[measured - 1])
+        );
+        for (int line = 0; line < commands.size() && lineCounts[line] > 0; line++) {
+            System.err.printf("%5d  %12s  %s%n",
+                line + 1, micros(lineTotals[line] / lineCounts[line]), commands.get(line));
+        }
+    }
+
+    /**
+     * Get a percentile of sorted latencies
+     *
+     * @param sorted     The latencies, sorted
+     * @param percentile The percentile between 0 and 1
+     * @return The latency at that percentile, or 0 if there are none
+     */
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0)
+            return 0;
+        return sorted[(int) Math.min(sorted.length - 1, Math.round(percentile * (sorted.length - 1)))];
+    }
+
+    /**
+     * Format a latency in microseconds
+     *
+     * @param nanos The latency in nanoseconds
+     * @return The formatted latency
+     */
+    private static String micros(long nanos) {
+        return String.format("%,.1fus", nanos / 1e3);
+    }
+}
@@ -0,0 +1,58 @@
+package seng.monsters.model;
+
+/**
+ * <p>
+ * A single attack step for every unsettled battle of a <code>BattleBatch</code>, one battle per lane.
+ * On each lane the monster whose turn it is heals itself by its attack heal, up to its max hp,
+ * then rolls its damage and hits the other monster, whose hp is floored at 0.
+ * The turn passes to the other side unless the hit monster fainted, in which case the lane is listed for the batch to switch it out.
+ * </p>
+ * <p>
+ * Every kernel must give the exact same results as <code>ScalarAttackKernel</code> for the same lanes,
+ * so a batch settles the same way whichever kernel is in use.
+ * </p>
+ */
+interface AttackKernel {
+    /**
+     * The increment of the counter of every lane between two rolls, the 32 bit golden ratio.
+     */
+    int GOLDEN = 0x9E3779B9;
+
+    /**
+     * The largest damage roll range drawn from 32 random bits, as the bias of the draw is at most the range over 2^32.
+     * Wider ranges draw from 64 random bits on the scalar loop.
+     */
+    int MAX_SPAN = 1 << 15;
+
+    /**
+     * The name of the kernel using <code>jdk.incubator.vector</code>, built in its own source set and only loaded if the module is available.
+     */
+    String VECTOR_KERNEL = "seng.monsters.model.VectorAttackKernel";
+
+    /**
+     * Make one attack on each of the first lanes, listing the lanes where a monster fainted in <code>lanes.fainted</code>.
+     *
+     * @param lanes The lanes of the unsettled battles.
+     * @param count The amount of lanes in use.
+     * @return The amount of lanes listed, in increasing order.
+     */
+    int attack(BattleBatch.Lanes lanes, int count);
+
+    /**
+     * Get the fastest kernel available in this runtime.
+     * The vector kernel is used only if the <code>jdk.incubator.vector</code> module was added,
+     * and can be turned off with <code>-Dseng.monsters.vector=false</code>.
+     *
+     * @return The vector kernel if available, otherwise the scalar one.
+     */
+    static AttackKernel best() {
+        if (!Boolean.parseBoolean(System.getProperty("seng.monsters.vector", "true")))
+            return ScalarAttackKernel.INSTANCE;
+        try {
+            return (AttackKernel) Class.forName(VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError err) {
+            // The module was not added to this runtime, so stick to plain loops
+            return ScalarAttackKernel.INSTANCE;
+        }
+    }
+}
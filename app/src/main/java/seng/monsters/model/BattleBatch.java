@@ -0,0 +1,537 @@
+package seng.monsters.model;
+
+import java.util.List;
+
+/**
+ * <p>
+ * A batch of independent battles packed into primitive arrays, resolved together without any allocation.
+ * Each battle follows the same rules as <code>BattleManager.resolve()</code>:
+ * the first monster still standing on each side fights, the faster one attacks first after every switch,
+ * each attack heals the attacker by its attack heal then rolls between a quarter of its damage and its damage (exclusive),
+ * and the rewards are the sell prices and levels of the losing party.
+ * </p>
+ * <p>
+ * The monsters are only read when a battle is added, so the batch can be run over and over
+ * from the same starting hp, for example to sample many outcomes of the same battles.
+ * </p>
+ * <p>
+ * The attacks themselves are made by an <code>AttackKernel</code> on the monsters currently battling,
+ * kept lane by lane so a vector kernel can make many attacks at once when the CPU supports it.
+ * </p>
+ */
+public final class BattleBatch {
+    /**
+     * The amount of monster slots for each side of a battle, the largest party a trainer can have.
+     */
+    static final int SLOTS = 4;
+
+    /**
+     * The side of the player, for indexing the per side arrays.
+     */
+    private static final int PLAYER = 0;
+
+    /**
+     * The side of the enemy, for indexing the per side arrays.
+     */
+    private static final int ENEMY = 1;
+
+    /**
+     * The fastest kernel available in this runtime, used unless one is given.
+     */
+    private static final AttackKernel BEST = AttackKernel.best();
+
+    /**
+     * The amount of battles the batch can hold.
+     */
+    private final int capacity;
+
+    /**
+     * The amount of battles added.
+     */
+    private int size = 0;
+
+    /**
+     * The hp each monster starts every run with, indexed by <code>(battle * 2 + side) * SLOTS + slot</code>.
+     */
+    private final int[] startHp;
+
+    /**
+     * The max hp of each monster, indexed like <code>startHp</code>.
+     */
+    private final int[] maxHp;
+
+    /**
+     * The lowest damage roll of each monster in the environment of its battle, indexed like <code>startHp</code>.
+     */
+    private final int[] low;
+
+    /**
+     * The amount of different damage rolls of each monster in the environment of its battle, indexed like <code>startHp</code>.
+     */
+    private final int[] span;
+
+    /**
+     * The hp each monster heals itself on every attack in the environment of its battle, indexed like <code>startHp</code>.
+     */
+    private final int[] heal;
+
+    /**
+     * The speed of each monster, indexed like <code>startHp</code>.
+     */
+    private final int[] speed;
+
+    /**
+     * The amount of monsters still standing at the start of a battle, indexed by <code>battle * 2 + side</code>.
+     */
+    private final int[] count;
+
+    /**
+     * The slot of the monster currently battling, indexed like <code>count</code>.
+     */
+    private final int[] active;
+
+    /**
+     * The total sell price of each party, rewarded if that side loses, indexed like <code>count</code>.
+     */
+    private final int[] gold;
+
+    /**
+     * The total level of each party, rewarded if that side loses, indexed like <code>count</code>.
+     */
+    private final int[] score;
+
+    /**
+     * The monsters currently battling in the battles not yet settled during a run.
+     */
+    private final Lanes lanes;
+
+    /**
+     * The kernel making the attacks.
+     */
+    private final AttackKernel kernel;
+
+    /**
+     * Creates an empty batch using the fastest kernel available.
+     *
+     * @param capacity The amount of battles the batch can hold.
+     * @throws IllegalArgumentException If the capacity is negative.
+     */
+    public BattleBatch(int capacity) throws IllegalArgumentException {
+        this(capacity, BEST);
+    }
+
+    /**
+     * Creates an empty batch.
+     *
+     * @param capacity The amount of battles the batch can hold.
+     * @param kernel   The kernel making the attacks.
+     * @throws IllegalArgumentException If the capacity is negative.
+     */
+    BattleBatch(int capacity, AttackKernel kernel) throws IllegalArgumentException {
+        if (capacity < 0)
+            // Error if the arrays cannot be allocated
+            throw new IllegalArgumentException("Capacity cannot be negative");
+        this.capacity = capacity;
+        this.startHp = new int[capacity * 2 * SLOTS];
+        this.maxHp = new int[capacity * 2 * SLOTS];
+        this.low = new int[capacity * 2 * SLOTS];
+        this.span = new int[capacity * 2 * SLOTS];
+        this.heal = new int[capacity * 2 * SLOTS];
+        this.speed = new int[capacity * 2 * SLOTS];
+        this.count = new int[capacity * 2];
+        this.active = new int[capacity * 2];
+        this.gold = new int[capacity * 2];
+        this.score = new int[capacity * 2];
+        this.lanes = new Lanes(capacity);
+        this.kernel = kernel;
+    }
+
+    /**
+     * Add a battle between two trainers, reading their monsters as they are now.
+     *
+     * @param player      The player trainer.
+     * @param enemy       The enemy trainer.
+     * @param environment The environment for the battle.
+     * @return The index of the battle in the batch.
+     * @throws IllegalStateException    If the batch is full.
+     * @throws IllegalArgumentException If a monster still standing can only roll zero damage, which a battle cannot settle.
+     */
+    public int add(Trainer player, Trainer enemy, Environment environment) throws IllegalStateException, IllegalArgumentException {
+        if (size >= capacity)
+            // Error if there is no room for another battle
+            throw new IllegalStateException("The batch is full");
+        final int battle = size;
+        pack(battle, PLAYER, player.getParty(), environment);
+        pack(battle, ENEMY, enemy.getParty(), environment);
+        size++;
+        return battle;
+    }
+
+    /**
+     * Pack a side of a battle into the arrays.
+     *
+     * @param battle      The index of the battle.
+     * @param side        The side of the party.
+     * @param party       The party of the trainer.
+     * @param environment The environment for the battle.
+     * @throws IllegalArgumentException If a monster still standing can only roll zero damage.
+     */
+    private void pack(int battle, int side, List<Monster> party, Environment environment) throws IllegalArgumentException {
+        final int team = battle * 2 + side;
+        int standing = 0;
+        int totalGold = 0;
+        int totalScore = 0;
+        for (int i = 0; i < party.size(); i++) {
+            final Monster mon = party.get(i);
+            totalGold += mon.sellPrice();
+            totalScore += mon.getLevel();
+            // Fainted monsters never battle, so only the ones standing take a slot
+            if (mon.isFainted())
+                continue;
+            final int monDamage = mon.attackDamage(environment);
+            if (monDamage < 2)
+                // Error if the monster can only roll zero damage, as the battle would never settle
+                throw new IllegalArgumentException("Every battling monster must deal damage");
+            final int slot = team * SLOTS + standing;
+            startHp[slot] = mon.getCurrentHp();
+            maxHp[slot] = mon.maxHp();
+            low[slot] = monDamage / 4;
+            span[slot] = monDamage - (monDamage / 4);
+            heal[slot] = mon.attackHeal(environment);
+            speed[slot] = mon.speed();
+            standing++;
+        }
+        count[team] = standing;
+        gold[team] = totalGold;
+        score[team] = totalScore;
+    }
+
+    /**
+     * Remove every battle, keeping the arrays for the next ones.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Get the amount of battles added.
+     *
+     * @return The amount of battles.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Resolve every battle from their starting hp, one attack of each unsettled battle at a time.
+     * Each battle rolls its damage from its own stream, seeded from the random source.
+     *
+     * @param rng The random source seeding the damage rolls.
+     */
+    public void run(RandomSource rng) {
+        int live = 0;
+        for (int battle = 0; battle < size; battle++) {
+            active[battle * 2 + PLAYER] = 0;
+            active[battle * 2 + ENEMY] = 0;
+            if (count[battle * 2 + PLAYER] == 0 || count[battle * 2 + ENEMY] == 0)
+                // Settled before it started, as either side has nothing to fight with
+                continue;
+            lanes.battle[live] = battle;
+            lanes.counter[live] = (int) rng.nextLong();
+            load(live, PLAYER);
+            load(live, ENEMY);
+            live++;
+        }
+
+        int unsettled = live;
+        while (unsettled > 0) {
+            final int fainted = kernel.attack(lanes, live);
+            for (int f = 0; f < fainted; f++) {
+                final int lane = lanes.fainted[f];
+                // The turn does not pass on a faint, so the side not in turn is the one that fainted
+                final int side = lanes.playerTurn[lane] != 0 ? ENEMY : PLAYER;
+                final int team = lanes.battle[lane] * 2 + side;
+                if (++active[team] < count[team]) {
+                    load(lane, side);
+                } else {
+                    lanes.settle(lane);
+                    unsettled--;
+                }
+            }
+            // Settled lanes idle until they are half of the lanes, so the lanes are only moved every so often
+            if (unsettled * 2 <= live)
+                live = lanes.compact(live);
+        }
+    }
+
+    /**
+     * Put the battling monster of a side into a lane, and give the turn to the faster monster.
+     *
+     * @param lane The lane of the battle.
+     * @param side The side of the monster.
+     */
+    private void load(int lane, int side) {
+        final int battle = lanes.battle[lane];
+        final int team = battle * 2 + side;
+        final int slot = team * SLOTS + active[team];
+        if (side == PLAYER) {
+            lanes.playerHp[lane] = startHp[slot];
+            lanes.playerMax[lane] = maxHp[slot];
+            lanes.playerHeal[lane] = heal[slot];
+            lanes.playerLow[lane] = low[slot];
+            lanes.playerSpan[lane] = span[slot];
+        } else {
+            lanes.enemyHp[lane] = startHp[slot];
+            lanes.enemyMax[lane] = maxHp[slot];
+            lanes.enemyHeal[lane] = heal[slot];
+            lanes.enemyLow[lane] = low[slot];
+            lanes.enemySpan[lane] = span[slot];
+        }
+        lanes.playerTurn[lane] = fasterIsPlayer(battle) ? 1 : 0;
+    }
+
+    /**
+     * Check if the player's battling monster attacks first.
+     *
+     * @param battle The index of the battle.
+     * @return A boolean whether the player's monster is at least as fast.
+     */
+    private boolean fasterIsPlayer(int battle) {
+        final int player = battle * 2 + PLAYER;
+        final int enemy = battle * 2 + ENEMY;
+        return speed[player * SLOTS + active[player]] >= speed[enemy * SLOTS + active[enemy]];
+    }
+
+    /**
+     * Get the amount of monsters still standing on a side after the last run.
+     *
+     * @param team The index of the side, <code>battle * 2 + side</code>.
+     * @return The amount of monsters standing.
+     */
+    private int remaining(int team) {
+        return count[team] - active[team];
+    }
+
+    /**
+     * Check if the player won a battle in the last run.
+     *
+     * @param battle The index of the battle.
+     * @return True if the enemy has no monster standing, otherwise false.
+     */
+    public boolean hasPlayerWon(int battle) {
+        return remaining(battle * 2 + ENEMY) == 0;
+    }
+
+    /**
+     * Get the amount of the player's monsters still standing after the last run.
+     *
+     * @param battle The index of the battle.
+     * @return The amount of monsters standing.
+     */
+    public int playerRemaining(int battle) {
+        return remaining(battle * 2 + PLAYER);
+    }
+
+    /**
+     * Get the amount of the enemy's monsters still standing after the last run.
+     *
+     * @param battle The index of the battle.
+     * @return The amount of monsters standing.
+     */
+    public int enemyRemaining(int battle) {
+        return remaining(battle * 2 + ENEMY);
+    }
+
+    /**
+     * The gold total rewarded for a battle in the last run, the same as <code>BattleManager.goldReward()</code>.
+     *
+     * @param battle The index of the battle.
+     * @return The total sell price of the losing party.
+     */
+    public int goldReward(int battle) {
+        return gold[loser(battle)];
+    }
+
+    /**
+     * The score total rewarded for a battle in the last run, the same as <code>BattleManager.scoreReward()</code>.
+     *
+     * @param battle The index of the battle.
+     * @return The total level of the losing party.
+     */
+    public int scoreReward(int battle) {
+        return score[loser(battle)];
+    }
+
+    /**
+     * Get the losing side of a battle in the last run.
+     *
+     * @param battle The index of the battle.
+     * @return The index of the losing side, <code>battle * 2 + side</code>.
+     */
+    private int loser(int battle) {
+        final int player = battle * 2 + PLAYER;
+        final int enemy = battle * 2 + ENEMY;
+        return remaining(player) >= remaining(enemy) ? enemy : player;
+    }
+
+    /**
+     * The monsters currently battling, one lane for each battle not yet settled, laid out for an <code>AttackKernel</code>.
+     */
+    static final class Lanes {
+        /**
+         * The battle of a lane whose battle is settled.
+         */
+        static final int SETTLED = -1;
+
+        /**
+         * The index of the battle in each lane.
+         */
+        final int[] battle;
+
+        /**
+         * The counter of each lane, scrambled into the next damage roll.
+         */
+        final int[] counter;
+
+        /**
+         * 1 if it is the player's turn in each lane, otherwise 0.
+         */
+        final int[] playerTurn;
+
+        /**
+         * The lanes where the last attack made a monster faint, only the amount returned by the kernel are meaningful.
+         */
+        final int[] fainted;
+
+        /**
+         * The hp of the player's battling monster in each lane.
+         */
+        final int[] playerHp;
+
+        /**
+         * The hp of the enemy's battling monster in each lane.
+         */
+        final int[] enemyHp;
+
+        /**
+         * The max hp of the player's battling monster in each lane.
+         */
+        final int[] playerMax;
+
+        /**
+         * The max hp of the enemy's battling monster in each lane.
+         */
+        final int[] enemyMax;
+
+        /**
+         * The attack heal of the player's battling monster in each lane.
+         */
+        final int[] playerHeal;
+
+        /**
+         * The attack heal of the enemy's battling monster in each lane.
+         */
+        final int[] enemyHeal;
+
+        /**
+         * The lowest damage roll of the player's battling monster in each lane.
+         */
+        final int[] playerLow;
+
+        /**
+         * The lowest damage roll of the enemy's battling monster in each lane.
+         */
+        final int[] enemyLow;
+
+        /**
+         * The amount of different damage rolls of the player's battling monster in each lane.
+         */
+        final int[] playerSpan;
+
+        /**
+         * The amount of different damage rolls of the enemy's battling monster in each lane.
+         */
+        final int[] enemySpan;
+
+        /**
+         * Creates the lanes.
+         *
+         * @param capacity The amount of lanes.
+         */
+        Lanes(int capacity) {
+            battle = new int[capacity];
+            counter = new int[capacity];
+            playerTurn = new int[capacity];
+            fainted = new int[capacity];
+            playerHp = new int[capacity];
+            enemyHp = new int[capacity];
+            playerMax = new int[capacity];
+            enemyMax = new int[capacity];
+            playerHeal = new int[capacity];
+            enemyHeal = new int[capacity];
+            playerLow = new int[capacity];
+            enemyLow = new int[capacity];
+            playerSpan = new int[capacity];
+            enemySpan = new int[capacity];
+        }
+
+        /**
+         * Leave a settled lane idle, where attacks can only roll zero damage so it never has another faint.
+         *
+         * @param lane The lane of the settled battle.
+         */
+        void settle(int lane) {
+            battle[lane] = SETTLED;
+            playerHp[lane] = 1;
+            enemyHp[lane] = 1;
+            playerMax[lane] = 1;
+            enemyMax[lane] = 1;
+            playerHeal[lane] = 0;
+            enemyHeal[lane] = 0;
+            playerLow[lane] = 0;
+            enemyLow[lane] = 0;
+            playerSpan[lane] = 0;
+            enemySpan[lane] = 0;
+        }
+
+        /**
+         * Move the lanes not settled to the front, keeping their order.
+         *
+         * @param count The amount of lanes in use.
+         * @return The amount of lanes not settled.
+         */
+        int compact(int count) {
+            int res = 0;
+            for (int i = 0; i < count; i++) {
+                if (battle[i] == SETTLED)
+                    continue;
+                if (i != res)
+                    move(i, res);
+                res++;
+            }
+            return res;
+        }
+
+        /**
+         * Move a lane onto another, overwriting it.
+         *
+         * @param from The lane to move.
+         * @param to   The lane to overwrite.
+         */
+        void move(int from, int to) {
+            battle[to] = battle[from];
+            counter[to] = counter[from];
+            playerTurn[to] = playerTurn[from];
+            playerHp[to] = playerHp[from];
+            enemyHp[to] = enemyHp[from];
+            playerMax[to] = playerMax[from];
+            enemyMax[to] = enemyMax[from];
+            playerHeal[to] = playerHeal[from];
+            enemyHeal[to] = enemyHeal[from];
+            playerLow[to] = playerLow[from];
+            enemyLow[to] = enemyLow[from];
+            playerSpan[to] = playerSpan[from];
+            enemySpan[to] = enemySpan[from];
+        }
+    }
+}
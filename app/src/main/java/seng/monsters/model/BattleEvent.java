@@ -0,0 +1,103 @@
+package seng.monsters.model;
+
+/**
+ * <p>
+ * An event that happened during a battle.
+ * Events only hold the values involved, the text is formatted only when <code>describe()</code> is called.
+ * </p>
+ */
+public sealed interface BattleEvent {
+    /**
+     * An attack that landed and dealt damage.
+     *
+     * @param attacker The trainer of the attacking monster.
+     * @param atk      The attacking monster.
+     * @param defender The trainer of the defending monster.
+     * @param def      The defending monster.
+     * @param damage   The damage dealt.
+     */
+    record Attack(Trainer attacker, Monster atk, Trainer defender, Monster def, int damage) implements BattleEvent {
+        @Override
+        public String describe() {
+            return String.format(
+                "%s's %s attacked %s's %s dealing %d",
+                attacker.getName(), atk.getName(),
+                defender.getName(), def.getName(),
+                damage
+            );
+        }
+    }
+
+    /**
+     * A monster fainted from an attack.
+     *
+     * @param trainer The trainer of the fainted monster.
+     * @param monster The fainted monster.
+     */
+    record Faint(Trainer trainer, Monster monster) implements BattleEvent {
+        @Override
+        public String describe() {
+            return String.format("%s's %s fainted", trainer.getName(), monster.getName());
+        }
+    }
+
+    /**
+     * The battling monsters changed after a monster fainted.
+     *
+     * @param playerMonster The player's monster now battling.
+     * @param enemyMonster  The enemy's monster now battling.
+     * @param isPlayerTurn  True if the player attacks first.
+     */
+    record Switch(Monster playerMonster, Monster enemyMonster, boolean isPlayerTurn) implements BattleEvent {
+        @Override
+        public String describe() {
+            return String.format("%s is up against %s", playerMonster.getName(), enemyMonster.getName());
+        }
+    }
+
+    /**
+     * The battle has concluded.
+     *
+     * @param winner    The winning trainer.
+     * @param remaining The amount of non-fainted monster left for the winner.
+     * @param loser     The losing trainer.
+     */
+    record Settle(Trainer winner, int remaining, Trainer loser) implements BattleEvent {
+        @Override
+        public String describe() {
+            return String.format(
+                "%s win with %d monster left and %s lost",
+                winner.getName(), remaining, loser.getName()
+            );
+        }
+    }
+
+    /**
+     * The rewards given to the player after winning.
+     *
+     * @param gold  The gold rewarded.
+     * @param score The score rewarded.
+     */
+    record Reward(int gold, int score) implements BattleEvent {
+        @Override
+        public String describe() {
+            return String.format("You gained %d gold and %d score!", gold, score);
+        }
+    }
+
+    /**
+     * Format the event into a readable feed.
+     *
+     * @return The event as a string.
+     */
+    String describe();
+
+    /**
+     * Check if the event is shown as a feed. Monster switches are displayed by the UIs on their own.
+     *
+     * @return True if the event is a feed.
+     */
+    default boolean isFeed() {
+        return !(this instanceof Switch);
+    }
+}
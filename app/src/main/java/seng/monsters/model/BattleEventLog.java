@@ -0,0 +1,194 @@
+package seng.monsters.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * A bounded log of battle events, kept in a ring buffer where the oldest events are overwritten.
+ * Written by the battle only, and read by any number of consumers through a <code>Cursor</code>.
+ * </p>
+ */
+public final class BattleEventLog {
+    /**
+     * A reading position in the log for a single consumer.
+     */
+    public final class Cursor {
+        /**
+         * The sequence of the next event to be read.
+         */
+        private long position;
+
+        /**
+         * The amount of events overwritten before they were read.
+         */
+        private long missed = 0;
+
+        private Cursor(long position) {
+            this.position = position;
+        }
+
+        /**
+         * Check if there is any unread event.
+         *
+         * @return True if <code>next()</code> will give an event.
+         */
+        public boolean hasNext() {
+            return position < written;
+        }
+
+        /**
+         * Read the next event, skipping any event that was overwritten before it was read.
+         *
+         * @return The next event, or null if there is none.
+         */
+        public BattleEvent next() {
+            while (position < written) {
+                final long oldest = Math.max(0, written - events.length);
+                if (position < oldest) {
+                    // Skip to the oldest retained event if the consumer fell behind
+                    missed += oldest - position;
+                    position = oldest;
+                }
+                final BattleEvent event = events[(int) (position & mask)];
+
+                // Re-check, in case the slot was overwritten while being read
+                if (position >= written - events.length) {
+                    position++;
+                    return event;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Get the amount of events overwritten before they were read.
+         *
+         * @return The amount of missed events.
+         */
+        public long getMissed() {
+            return missed;
+        }
+    }
+
+    /**
+     * The default amount of events retained.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * The ring buffer of events.
+     */
+    private final BattleEvent[] events;
+
+    /**
+     * The mask to turn a sequence into an index in the ring buffer.
+     */
+    private final int mask;
+
+    /**
+     * The total amount of events ever written, which is also the sequence of the next event.
+     */
+    private volatile long written = 0;
+
+    /**
+     * Creates an event log with the default capacity.
+     */
+    public BattleEventLog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an event log retaining up to a certain amount of events.
+     *
+     * @param capacity The amount of events retained, rounded up to a power of two.
+     * @throws IllegalArgumentException If the capacity is not positive.
+     */
+    public BattleEventLog(int capacity) throws IllegalArgumentException {
+        if (capacity <= 0 || capacity > 1 << 30)
+            // Error if the capacity cannot be a ring buffer
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30");
+        final int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.events = new BattleEvent[Math.max(1, size)];
+        this.mask = events.length - 1;
+    }
+
+    /**
+     * Add a new event, overwriting the oldest if the log is full.
+     *
+     * @param event The new event.
+     */
+    void append(BattleEvent event) {
+        final long sequence = written;
+        events[(int) (sequence & mask)] = event;
+        written = sequence + 1;
+    }
+
+    /**
+     * Create a cursor that starts from the oldest retained event.
+     *
+     * @return A new cursor.
+     */
+    public Cursor cursor() {
+        return new Cursor(Math.max(0, written - events.length));
+    }
+
+    /**
+     * Create a cursor that only reads events written after this call.
+     *
+     * @return A new cursor.
+     */
+    public Cursor tail() {
+        return new Cursor(written);
+    }
+
+    /**
+     * Get the total amount of events ever written.
+     *
+     * @return The amount of events.
+     */
+    public long getWritten() {
+        return written;
+    }
+
+    /**
+     * Get the amount of events retained.
+     *
+     * @return The size of the ring buffer.
+     */
+    public int capacity() {
+        return events.length;
+    }
+
+    /**
+     * Get the latest events, formatting only those that are feeds.
+     *
+     * @param count The maximum amount of feeds.
+     * @return The latest feeds from oldest to newest.
+     */
+    public List<String> latestFeeds(int count) {
+        final ArrayList<BattleEvent> latest = new ArrayList<>(count);
+        final long end = written;
+        final long oldest = Math.max(0, end - events.length);
+        for (long seq = end - 1; seq >= oldest && latest.size() < count; seq--) {
+            final BattleEvent event = events[(int) (seq & mask)];
+            if (event.isFeed())
+                latest.add(0, event);
+        }
+        return latest.stream().map(BattleEvent::describe).toList();
+    }
+
+    /**
+     * Get all the retained events.
+     *
+     * @return The events from oldest to newest.
+     */
+    public List<BattleEvent> toList() {
+        final Cursor cursor = cursor();
+        final ArrayList<BattleEvent> res = new ArrayList<>(events.length);
+        for (BattleEvent event = cursor.next(); event != null; event = cursor.next()) {
+            res.add(event);
+        }
+        return res;
+    }
+}
@@ -0,0 +1,111 @@
+package seng.monsters.model;
+
+import java.util.List;
+
+/**
+ * <p>
+ * An immutable snapshot of a battle at one tick, holding everything a UI needs to display it.
+ * Frames can be handed to another thread while the battle keeps going.
+ * </p>
+ *
+ * @param tick         The amount of ticks done before this frame.
+ * @param player       The player's monster currently battling.
+ * @param enemy        The enemy's monster currently battling.
+ * @param playerParty  Whether each monster in the player's party is still standing.
+ * @param enemyParty   Whether each monster in the enemy's party is still standing.
+ * @param isPlayerTurn True if the player is attacking, otherwise false.
+ * @param progress     The progress percentage of the attack, or <code>NO_ATTACK</code> if no attack is moving.
+ * @param isPlayerHit  True if the player's monster has just been hit.
+ * @param isEnemyHit   True if the enemy's monster has just been hit.
+ * @param feeds        The latest feeds from oldest to newest.
+ * @param isSettled    True if the battle has concluded.
+ */
+public record BattleFrame(
+    long tick,
+    Fighter player,
+    Fighter enemy,
+    List<Boolean> playerParty,
+    List<Boolean> enemyParty,
+    boolean isPlayerTurn,
+    int progress,
+    boolean isPlayerHit,
+    boolean isEnemyHit,
+    List<String> feeds,
+    boolean isSettled
+) {
+    /**
+     * The progress when no attack is moving.
+     */
+    public static final int NO_ATTACK = -1;
+
+    /**
+     * An immutable snapshot of a battling monster.
+     *
+     * @param name             The name of the monster.
+     * @param level            The level of the monster.
+     * @param type             The type of the monster.
+     * @param currentHp        The current hp of the monster.
+     * @param maxHp            The max hp of the monster.
+     * @param idealEnvironment The environment the monster is boosted in.
+     */
+    public record Fighter(String name, int level, String type, int currentHp, int maxHp, Environment idealEnvironment) {
+        /**
+         * Take a snapshot of a monster.
+         *
+         * @param monster The monster.
+         * @return The snapshot of the monster.
+         */
+        public static Fighter of(Monster monster) {
+            return new Fighter(
+                monster.getName(), monster.getLevel(), monster.monsterType(),
+                monster.getCurrentHp(), monster.maxHp(), monster.idealEnvironment()
+            );
+        }
+    }
+
+    /**
+     * Take a snapshot of a battle.
+     *
+     * @param battle       The battle.
+     * @param tick         The amount of ticks done.
+     * @param isPlayerTurn True if the player is attacking, otherwise false.
+     * @param progress     The progress percentage of the attack, or <code>NO_ATTACK</code>.
+     * @param isPlayerHit  True if the player's monster has just been hit.
+     * @param isEnemyHit   True if the enemy's monster has just been hit.
+     * @param feeds        The latest feeds.
+     * @return The snapshot of the battle.
+     */
+    public static BattleFrame of(
+        BattleManager battle,
+        long tick,
+        boolean isPlayerTurn,
+        int progress,
+        boolean isPlayerHit,
+        boolean isEnemyHit,
+        List<String> feeds
+    ) {
+        return new BattleFrame(
+            tick,
+            Fighter.of(battle.getBattlingPlayerMonster()),
+            Fighter.of(battle.getBattlingEnemyMonster()),
+            standing(battle.getPlayer()),
+            standing(battle.getEnemy()),
+            isPlayerTurn,
+            progress,
+            isPlayerHit,
+            isEnemyHit,
+            List.copyOf(feeds),
+            battle.isSettled()
+        );
+    }
+
+    /**
+     * Check which monsters of a trainer are still standing.
+     *
+     * @param trainer The trainer.
+     * @return Whether each monster in the party has not fainted.
+     */
+    private static List<Boolean> standing(Trainer trainer) {
+        return trainer.getParty().stream().map(mon -> !mon.isFainted()).toList();
+    }
+}
@@ -0,0 +1,276 @@
+package seng.monsters.model;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * Runs a battle on its own thread, ticking it at a fixed rate and publishing a <code>BattleFrame</code> after each tick.
+ * A UI reads the latest frame whenever it is ready to draw, so frames it falls behind on are skipped
+ * and the battle goes on at the same rate however long the UI takes.
+ * </p>
+ */
+public final class BattleLoop {
+    /**
+     * The default time between two ticks.
+     */
+    public static final Duration DEFAULT_TICK = Duration.ofMillis(25);
+
+    /**
+     * The amount of feeds kept in each frame.
+     */
+    public static final int FEED_COUNT = 4;
+
+    /**
+     * The battle being run, only touched by the battle thread once started.
+     */
+    private final BattleManager battle;
+
+    /**
+     * The time between two ticks.
+     */
+    private final Duration tick;
+
+    /**
+     * The latest published frame.
+     */
+    private final AtomicReference<BattleFrame> latest = new AtomicReference<>();
+
+    /**
+     * The speed the battle is played back at.
+     */
+    private volatile Playback playback = Playback.NORMAL;
+
+    /**
+     * True if the rest of the battle should be resolved on the next tick.
+     */
+    private volatile boolean isSkipping = false;
+
+    /**
+     * The error that stopped the battle thread, if any.
+     */
+    private volatile RuntimeException failure = null;
+
+    /**
+     * The battle thread, if started.
+     */
+    private ScheduledExecutorService executor = null;
+
+    /**
+     * The amount of ticks done.
+     */
+    private long ticks = 0;
+
+    /**
+     * True if the player is attacking.
+     */
+    private boolean isPlayerTurn;
+
+    /**
+     * The progress of the moving attack, if any.
+     */
+    private int progress = BattleFrame.NO_ATTACK;
+
+    /**
+     * True if the player's monster has just been hit.
+     */
+    private boolean isPlayerHit = false;
+
+    /**
+     * True if the enemy's monster has just been hit.
+     */
+    private boolean isEnemyHit = false;
+
+    /**
+     * The amount of events the cached feeds were formatted from.
+     */
+    private long feedsWritten = -1;
+
+    /**
+     * The latest feeds, formatted again only when new events are written.
+     */
+    private List<String> feeds = List.of();
+
+    /**
+     * Creates a loop for a battle, publishing the first frame immediately.
+     *
+     * @param prepare The function that prepares the battle, given the UI receiving its events.
+     */
+    public BattleLoop(Function<BattleManager.UI, BattleManager> prepare) {
+        this(prepare, DEFAULT_TICK);
+    }
+
+    /**
+     * Creates a loop for a battle with a given tick, publishing the first frame immediately.
+     *
+     * @param prepare The function that prepares the battle, given the UI receiving its events.
+     * @param tick    The time between two ticks.
+     * @throws IllegalArgumentException If the tick is not positive.
+     */
+    public BattleLoop(Function<BattleManager.UI, BattleManager> prepare, Duration tick) throws IllegalArgumentException {
+        if (tick.isNegative() || tick.isZero())
+            // Error if the battle would never progress
+            throw new IllegalArgumentException("Tick must be positive");
+
+        this.tick = tick;
+        this.battle = prepare.apply(new Tracker());
+        this.isPlayerTurn = !battle.isSettled()
+            && battle.getBattlingPlayerMonster().speed() >= battle.getBattlingEnemyMonster().speed();
+        publish();
+    }
+
+    /**
+     * Start ticking the battle on its own thread, until it is settled or stopped.
+     *
+     * @throws IllegalStateException If the loop has already been started.
+     */
+    public synchronized void start() throws IllegalStateException {
+        if (executor != null)
+            // Error if the battle would be ticked by two threads
+            throw new IllegalStateException("Battle loop has already been started");
+
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "battle-loop");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleAtFixedRate(this::step, 0, tick.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Stop ticking the battle, leaving it where it is.
+     */
+    public synchronized void stop() {
+        if (executor != null)
+            executor.shutdownNow();
+    }
+
+    /**
+     * Change the speed the battle is played back at, from the next tick onward.
+     *
+     * @param playback The playback speed.
+     */
+    public void setPlayback(Playback playback) {
+        this.playback = playback;
+    }
+
+    /**
+     * Get the speed the battle is played back at.
+     *
+     * @return The playback speed.
+     */
+    public Playback getPlayback() {
+        return playback;
+    }
+
+    /**
+     * Resolve the rest of the battle on the next tick, starting the loop if it has not been started.
+     */
+    public synchronized void skip() {
+        isSkipping = true;
+        if (executor == null)
+            start();
+    }
+
+    /**
+     * Get the latest frame published.
+     * <p>
+     * Safe to call from any thread. Once the frame is settled, the battle can be read as well.
+     *
+     * @return The latest frame.
+     */
+    public BattleFrame latest() {
+        return latest.get();
+    }
+
+    /**
+     * Get the error that stopped the battle before it was settled.
+     * <p>
+     * Safe to call from any thread. Once present, no more frames are published, so a UI waiting for a settled frame should give up.
+     *
+     * @return The error if the battle thread failed, otherwise empty.
+     */
+    public Optional<RuntimeException> getFailure() {
+        return Optional.ofNullable(failure);
+    }
+
+    /**
+     * Get the battle being run.
+     * <p>
+     * The battle must only be read once the latest frame is settled, as it is changed by the battle thread until then.
+     *
+     * @return The battle.
+     */
+    public BattleManager getBattle() {
+        return battle;
+    }
+
+    /**
+     * Tick the battle at the playback speed and publish a frame, stopping once it is settled or if it fails.
+     */
+    private void step() {
+        try {
+            (isSkipping ? Playback.INSTANT : playback).tick(battle);
+            ticks++;
+            publish();
+            if (battle.isSettled())
+                executor.shutdown();
+        } catch (RuntimeException err) {
+            // Kept for the UI, as the executor would silently cancel the schedule and no settled frame would ever come
+            failure = err;
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Take a snapshot of the battle and publish it.
+     */
+    private void publish() {
+        final long written = battle.getEvents().getWritten();
+        if (written != feedsWritten) {
+            feeds = battle.latestFeeds(FEED_COUNT);
+            feedsWritten = written;
+        }
+        latest.set(BattleFrame.of(battle, ticks, isPlayerTurn, progress, isPlayerHit, isEnemyHit, feeds));
+    }
+
+    /**
+     * The UI receiving the events of the battle on the battle thread, keeping what the next frame displays.
+     */
+    private final class Tracker implements BattleManager.UI {
+        @Override
+        public void onEachAttackProgress(int percentage) {
+            progress = percentage;
+            if (percentage > 40 && percentage < 60) {
+                isPlayerHit = false;
+                isEnemyHit = false;
+            }
+        }
+
+        @Override
+        public void onEachLandedAttack(boolean isPlayerTurn, int dmg) {
+            progress = BattleFrame.NO_ATTACK;
+            isPlayerHit = !isPlayerTurn;
+            isEnemyHit = isPlayerTurn;
+            BattleLoop.this.isPlayerTurn = !isPlayerTurn;
+        }
+
+        @Override
+        public void onEachNextMonster(boolean isPlayerTurn) {
+            isPlayerHit = false;
+            isEnemyHit = false;
+            BattleLoop.this.isPlayerTurn = isPlayerTurn;
+        }
+
+        @Override
+        public void onEnd() {
+            progress = BattleFrame.NO_ATTACK;
+        }
+    }
+}
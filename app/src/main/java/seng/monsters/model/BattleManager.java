@@ -8,10 +8,9 @@
 package seng.monsters.model;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
-import java.util.Random;
-import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -25,6 +24,27 @@ public final class BattleManager {
      * The UI that provides callbacks at certain event during the match.
      */
     public interface UI {
+        /**
+         * The UI for battles run without any display, which does nothing on any event.
+         */
+        UI HEADLESS = new UI() {
+            @Override
+            public void onEachAttackProgress(int percentage) {
+            }
+
+            @Override
+            public void onEachLandedAttack(boolean isPlayerTurn, int dmg) {
+            }
+
+            @Override
+            public void onEachNextMonster(boolean isPlayerTurn) {
+            }
+
+            @Override
+            public void onEnd() {
+            }
+        };
+
         /**
          * The action done on each frame of the moving attack.
          *
@@ -95,14 +115,14 @@ public final class BattleManager {
     private AtomicBoolean isSettled;
 
     /**
-     * The list of actions done.
+     * The events of the actions done.
      */
-    private final ConcurrentLinkedDeque<String> feeds = new ConcurrentLinkedDeque<>();
+    private final BattleEventLog events = new BattleEventLog();
 
     /**
      * The randomizer used to simulate fluctuating damage output.
      */
-    private final Random rng = new Random();
+    private final RandomSource rng;
 
     /**
      * The boolean signalling whose turn is at this moment.
@@ -133,10 +153,23 @@ public final class BattleManager {
      * @param environment The environment for the battle.
      */
     public BattleManager(UI ui, Trainer player, Trainer enemy, Environment environment) {
+        this(ui, player, enemy, environment, RandomSource.create());
+    }
+
+    /**
+     * Creates a battle manager that provide functions to simulate the battle process with a given random source.
+     * @param ui The UI that is shown to the use and can display actions on certain events.
+     * @param player The player trainer.
+     * @param enemy The enemy trainer to fight.
+     * @param environment The environment for the battle.
+     * @param rng The random source used for the damage rolls.
+     */
+    public BattleManager(UI ui, Trainer player, Trainer enemy, Environment environment, RandomSource rng) {
         this.player = player;
         this.enemy = enemy;
         this.ui = ui;
         this.environment = environment;
+        this.rng = rng;
         try {
             this.battlingPlayerMonster = nextPlayerMon();
             this.battlingEnemyMonster = nextEnemyMon();
@@ -158,15 +191,7 @@ public final class BattleManager {
             return;
 
         if (isEitherFallen()) {
-            try {
-                // Loads next monster when either monster faints
-                battlingPlayerMonster = battlingPlayerMonster.isFainted() ? nextPlayerMon() : battlingPlayerMonster;
-                battlingEnemyMonster = battlingEnemyMonster.isFainted() ? nextEnemyMon() : battlingEnemyMonster;
-                changeMonster();
-            } catch (WhitedOutException ignored) {
-                // Ends battle if either party is wiped
-                endGame();
-            }
+            loadNextMonsters();
             return;
         }
 
@@ -178,13 +203,64 @@ public final class BattleManager {
         // and reset / flip the pseudo attack position, goal, and speed
         if (hasAttackLanded()) {
             performDamage();
-            isPlayerTurn = !isPlayerTurn;
-            pseudoAttackPosition = isPlayerTurn ? PSEUDO_MIN_POSITION : PSEUDO_MAX_POSITION;
-            pseudoSpeed = -pseudoSpeed;
-            pseudoGoal = isPlayerTurn ? PSEUDO_MAX_POSITION : PSEUDO_MIN_POSITION;
+            flipTurn();
         }
     }
 
+    /**
+     * <p>
+     * A method to proceed straight to the next event of the battle, i.e. a landed attack, a monster switch, or the end.
+     * The pseudo attack progress is skipped entirely, so <code>onEachAttackProgress</code> is never called,
+     * but the damage dealt and the feeds are the same as calling <code>nextIteration()</code> until that event.
+     * </p>
+     */
+    public void advanceToNextEvent() {
+        if (isSettled())
+            return;
+
+        if (isEitherFallen()) {
+            loadNextMonsters();
+            return;
+        }
+
+        performDamage();
+        flipTurn();
+    }
+
+    /**
+     * Resolve the remaining battle immediately without any pseudo attack progress.
+     */
+    public void resolve() {
+        while (!isSettled()) {
+            advanceToNextEvent();
+        }
+    }
+
+    /**
+     * Loads the next monster for whichever side has fainted, or ends the match if either party is wiped.
+     */
+    private void loadNextMonsters() {
+        try {
+            // Loads next monster when either monster faints
+            battlingPlayerMonster = battlingPlayerMonster.isFainted() ? nextPlayerMon() : battlingPlayerMonster;
+            battlingEnemyMonster = battlingEnemyMonster.isFainted() ? nextEnemyMon() : battlingEnemyMonster;
+            changeMonster();
+        } catch (WhitedOutException ignored) {
+            // Ends battle if either party is wiped
+            endGame();
+        }
+    }
+
+    /**
+     * Gives the turn to the other side and resets the pseudo attack position, goal, and speed.
+     */
+    private void flipTurn() {
+        isPlayerTurn = !isPlayerTurn;
+        pseudoAttackPosition = isPlayerTurn ? PSEUDO_MIN_POSITION : PSEUDO_MAX_POSITION;
+        pseudoSpeed = -pseudoSpeed;
+        pseudoGoal = isPlayerTurn ? PSEUDO_MAX_POSITION : PSEUDO_MIN_POSITION;
+    }
+
     /**
      * Check if the pseudo attack has reach the target and lands.
      *
@@ -209,15 +285,10 @@ public final class BattleManager {
 
         def.takeDamage(dmg);
 
-        feeds.add(String.format(
-            "%s's %s attacked %s's %s dealing %d",
-            atkTrainer.getName(), atk.getName(),
-            defTrainer.getName(), def.getName(),
-            dmg
-        ));
+        events.append(new BattleEvent.Attack(atkTrainer, atk, defTrainer, def, dmg));
 
         if (def.isFainted()) {
-            feeds.add(String.format("%s's %s fainted", defTrainer.getName(), def.getName()));
+            events.append(new BattleEvent.Faint(defTrainer, def));
         }
 
         ui.onEachLandedAttack(isPlayerTurn, dmg);
@@ -231,6 +302,7 @@ public final class BattleManager {
         pseudoAttackPosition = isPlayerTurn ? PSEUDO_MIN_POSITION : PSEUDO_MAX_POSITION;
         pseudoSpeed = isPlayerTurn ? PSEUDO_ATTACK_SPEED : -PSEUDO_ATTACK_SPEED;
         pseudoGoal = isPlayerTurn ? PSEUDO_MAX_POSITION : PSEUDO_MIN_POSITION;
+        events.append(new BattleEvent.Switch(battlingPlayerMonster, battlingEnemyMonster, isPlayerTurn));
         ui.onEachNextMonster(isPlayerTurn);
     }
 
@@ -238,16 +310,11 @@ public final class BattleManager {
      * Ends the match, add ending to the feed, and call the end callback
      */
     private void endGame() {
-        feeds.add(String.format(
-            "%s win with %d monster left and %s lost",
-            winner().getName(),
-            winner().getParty().stream().filter(m -> !m.isFainted()).toList().size(),
-            loser().getName()
-        ));
+        final Trainer winner = winner();
+        final int remaining = (int) winner.getParty().stream().filter(m -> !m.isFainted()).count();
+        events.append(new BattleEvent.Settle(winner, remaining, loser()));
         if (hasPlayerWon()) {
-            feeds.add(String.format(
-                    "You gained %d gold and %d score!",
-                    goldReward(), scoreReward()));
+            events.append(new BattleEvent.Reward(goldReward(), scoreReward()));
         }
         isSettled.set(true);
         ui.onEnd();
@@ -286,12 +353,38 @@ public final class BattleManager {
     }
 
     /**
-     * Get the feeds broadcast during the battle.
+     * Get the feeds of the events still retained by the event log, which only keeps the last
+     * <code>BattleEventLog.DEFAULT_CAPACITY</code> events, so the oldest feeds of a long battle are dropped.
+     * For every feed of the battle, take a cursor with <code>getEvents().cursor()</code> before the battle and read it as the battle goes.
+     * Each retained event is formatted on every call, prefer <code>getEvents()</code> or <code>latestFeeds()</code>.
      *
-     * @return A concurrent linked deque containing the feeds.
+     * @return A collection containing the retained feeds from oldest to newest.
      */
     public Collection<String> getFeeds() {
-        return feeds;
+        return events.toList()
+            .stream()
+            .filter(BattleEvent::isFeed)
+            .map(BattleEvent::describe)
+            .toList();
+    }
+
+    /**
+     * Get the latest feeds broadcast during the battle.
+     *
+     * @param count The maximum amount of feeds.
+     * @return A list containing the latest feeds from oldest to newest.
+     */
+    public List<String> latestFeeds(int count) {
+        return events.latestFeeds(count);
+    }
+
+    /**
+     * Get the events that happened during the battle.
+     *
+     * @return The bounded event log, which can be read through a cursor.
+     */
+    public BattleEventLog getEvents() {
+        return events;
     }
 
     /**
@@ -0,0 +1,288 @@
+package seng.monsters.model;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * <p>
+ * A Monte Carlo simulator that estimates the outcome of a battle without affecting the actual parties.
+ * Each simulation battles copies of both trainers using <code>BattleManager.resolve()</code>,
+ * and the simulations are split across a fork-join pool.
+ * </p>
+ */
+public final class BattleSimulator {
+    /**
+     * The estimated outcome of battling a certain enemy trainer.
+     *
+     * @param enemy          The enemy trainer being estimated.
+     * @param simulations    The amount of simulations finished within the time budget.
+     * @param winProbability The ratio of simulations won by the player.
+     * @param expectedGold   The average gold rewarded to the player (zero for a loss).
+     * @param expectedScore  The average score rewarded to the player (zero for a loss).
+     */
+    public record Estimate(
+        Trainer enemy,
+        int simulations,
+        double winProbability,
+        double expectedGold,
+        double expectedScore
+    ) {
+    }
+
+    /**
+     * The amount of simulations below which a task is no longer split.
+     */
+    private static final int SPLIT_THRESHOLD = 64;
+
+    /**
+     * The pool used to run the simulations.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * The amount of simulations done for each enemy trainer.
+     */
+    private final int simulations;
+
+    /**
+     * The maximum wall time for each call to estimate.
+     */
+    private final Duration timeBudget;
+
+    /**
+     * The random source split for each call to estimate.
+     */
+    private final RandomSource rng;
+
+    /**
+     * Creates a simulator that runs on the common fork-join pool.
+     *
+     * @param simulations The amount of simulations done for each enemy trainer.
+     * @param timeBudget  The maximum wall time for each call to estimate.
+     * @throws IllegalArgumentException If the amount of simulations is not positive.
+     */
+    public BattleSimulator(int simulations, Duration timeBudget) throws IllegalArgumentException {
+        this(ForkJoinPool.commonPool(), simulations, timeBudget, RandomSource.create());
+    }
+
+    /**
+     * Creates a simulator that runs on a given fork-join pool.
+     * With a seeded random source, the simulations finished within the time budget are reproducible.
+     *
+     * @param pool        The pool used to run the simulations.
+     * @param simulations The amount of simulations done for each enemy trainer.
+     * @param timeBudget  The maximum wall time for each call to estimate.
+     * @param rng         The random source split for each call to estimate.
+     * @throws IllegalArgumentException If the amount of simulations is not positive.
+     */
+    public BattleSimulator(
+        ForkJoinPool pool,
+        int simulations,
+        Duration timeBudget,
+        RandomSource rng
+    ) throws IllegalArgumentException {
+        if (simulations <= 0)
+            // Error if there is nothing to simulate
+            throw new IllegalArgumentException("Simulations must be positive");
+        this.pool = pool;
+        this.simulations = simulations;
+        this.timeBudget = timeBudget;
+        this.rng = rng;
+    }
+
+    /**
+     * Estimate the outcome of the player battling an enemy trainer.
+     *
+     * @param player      The player trainer.
+     * @param enemy       The enemy trainer.
+     * @param environment The environment for the battle.
+     * @return The estimated outcome of the battle.
+     */
+    public Estimate estimate(Trainer player, Trainer enemy, Environment environment) {
+        final long deadline = System.nanoTime() + timeBudget.toNanos();
+        final SimulationTask task = new SimulationTask(
+            player.copy(), enemy.copy(), environment, simulations, deadline, splitRandomSource()
+        );
+        return pool.invoke(task).toEstimate(enemy);
+    }
+
+    /**
+     * Estimate the outcome of the player battling each of the available battles for the day.
+     * All enemy trainers share the same time budget.
+     *
+     * @param manager The game manager.
+     * @return The estimated outcomes in the same order as <code>getAvailableBattles()</code>.
+     */
+    public List<Estimate> estimateAvailableBattles(GameManager manager) {
+        final long deadline = System.nanoTime() + timeBudget.toNanos();
+        final Trainer player = manager.getPlayer().copy();
+        final List<Trainer> enemies = manager.getAvailableBattles();
+
+        // Submit every enemy before joining, so all of them are simulated at once
+        final List<SimulationTask> tasks = new ArrayList<>(enemies.size());
+        for (final Trainer enemy : enemies) {
+            final SimulationTask task = new SimulationTask(
+                player, enemy.copy(), manager.getEnvironment(), simulations, deadline, splitRandomSource()
+            );
+            pool.execute(task);
+            tasks.add(task);
+        }
+
+        final List<Estimate> res = new ArrayList<>(enemies.size());
+        for (int i = 0; i < enemies.size(); i++) {
+            res.add(tasks.get(i).join().toEstimate(enemies.get(i)));
+        }
+        return res;
+    }
+
+    /**
+     * Split a new random source for a batch of simulations, guarded as estimate can be called from any thread.
+     *
+     * @return A new random source.
+     */
+    private synchronized RandomSource splitRandomSource() {
+        return rng.split();
+    }
+
+    /**
+     * The accumulated results of a number of simulations.
+     */
+    private static final class Tally {
+        /**
+         * The amount of simulations finished.
+         */
+        private int simulations = 0;
+
+        /**
+         * The amount of simulations won by the player.
+         */
+        private int wins = 0;
+
+        /**
+         * The total gold rewarded to the player.
+         */
+        private long gold = 0;
+
+        /**
+         * The total score rewarded to the player.
+         */
+        private long score = 0;
+
+        /**
+         * Combine another tally into this one.
+         *
+         * @param other The other tally.
+         * @return This tally.
+         */
+        private Tally merge(Tally other) {
+            simulations += other.simulations;
+            wins += other.wins;
+            gold += other.gold;
+            score += other.score;
+            return this;
+        }
+
+        /**
+         * Convert the tally into an estimate.
+         *
+         * @param enemy The enemy trainer being estimated.
+         * @return The estimate with the averaged results, or zeroes if nothing was simulated.
+         */
+        private Estimate toEstimate(Trainer enemy) {
+            if (simulations == 0)
+                return new Estimate(enemy, 0, 0, 0, 0);
+            return new Estimate(
+                enemy,
+                simulations,
+                (double) wins / simulations,
+                (double) gold / simulations,
+                (double) score / simulations
+            );
+        }
+    }
+
+    /**
+     * A task that runs a range of simulations, splitting itself if the range is large.
+     */
+    private static final class SimulationTask extends RecursiveTask<Tally> {
+        /**
+         * The player trainer, only read to make copies.
+         */
+        private final Trainer player;
+
+        /**
+         * The enemy trainer, only read to make copies.
+         */
+        private final Trainer enemy;
+
+        /**
+         * The environment for the battle.
+         */
+        private final Environment environment;
+
+        /**
+         * The amount of simulations to run.
+         */
+        private final int count;
+
+        /**
+         * The time in nanoseconds after which no new simulation is started.
+         */
+        private final long deadline;
+
+        /**
+         * The random source owned by this task.
+         */
+        private final RandomSource rng;
+
+        private SimulationTask(
+            Trainer player,
+            Trainer enemy,
+            Environment environment,
+            int count,
+            long deadline,
+            RandomSource rng
+        ) {
+            this.player = player;
+            this.enemy = enemy;
+            this.environment = environment;
+            this.count = count;
+            this.deadline = deadline;
+            this.rng = rng;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (count > SPLIT_THRESHOLD) {
+                final int half = count / 2;
+                // The split is done before forking, so each half gets the same stream regardless of scheduling
+                final SimulationTask left = new SimulationTask(
+                    player, enemy, environment, half, deadline, rng.split()
+                );
+                final SimulationTask right = new SimulationTask(
+                    player, enemy, environment, count - half, deadline, rng
+                );
+                left.fork();
+                return right.compute().merge(left.join());
+            }
+
+            final Tally tally = new Tally();
+            for (int i = 0; i < count && System.nanoTime() < deadline; i++) {
+                final BattleManager battle = new BattleManager(
+                    BattleManager.UI.HEADLESS, player.copy(), enemy.copy(), environment, rng
+                );
+                battle.resolve();
+                tally.simulations++;
+                if (battle.hasPlayerWon()) {
+                    tally.wins++;
+                    tally.gold += battle.goldReward();
+                    tally.score += battle.scoreReward();
+                }
+            }
+            return tally;
+        }
+    }
+}
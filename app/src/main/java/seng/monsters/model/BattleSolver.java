@@ -0,0 +1,311 @@
+package seng.monsters.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>
+ * An exact solver for the outcome of a battle, without any sampling.
+ * A battle is a Markov chain over the battling monsters and their hp,
+ * so the probability of each state is propagated attack by attack until every path has settled.
+ * Solving a full party battle takes a few milliseconds even at high levels.
+ * </p>
+ */
+public final class BattleSolver {
+    /**
+     * The exact outcome of battling a certain enemy trainer.
+     *
+     * @param enemy           The enemy trainer being solved.
+     * @param winProbability  The probability of the player winning.
+     * @param playerRemaining The probability of the player winning with each amount of monster left, indexed by amount.
+     * @param enemyRemaining  The probability of the enemy winning with each amount of monster left, indexed by amount.
+     * @param expectedGold    The expected gold rewarded to the player (zero for a loss).
+     * @param expectedScore   The expected score rewarded to the player (zero for a loss).
+     */
+    public record Outcome(
+        Trainer enemy,
+        double winProbability,
+        double[] playerRemaining,
+        double[] enemyRemaining,
+        double expectedGold,
+        double expectedScore
+    ) {
+    }
+
+    /**
+     * The remaining probability below which the unsettled paths of a matchup are dropped,
+     * as each attack only settles a fraction of them.
+     */
+    private static final double EPSILON = 1e-15;
+
+    /**
+     * The probability below which a single state is treated as rounding error.
+     */
+    private static final double NOISE = 1e-18;
+
+    private BattleSolver() {
+    }
+
+    /**
+     * Solve the outcome of the player battling an enemy trainer.
+     *
+     * @param player      The player trainer.
+     * @param enemy       The enemy trainer.
+     * @param environment The environment for the battle.
+     * @return The exact outcome of the battle.
+     * @throws IllegalArgumentException If a battling monster can only roll zero damage, which a battle cannot handle either.
+     */
+    public static Outcome solve(Trainer player, Trainer enemy, Environment environment) throws IllegalArgumentException {
+        final List<Monster> players = player.getParty().stream().filter(mon -> !mon.isFainted()).toList();
+        final List<Monster> enemies = enemy.getParty().stream().filter(mon -> !mon.isFainted()).toList();
+        final double[] playerRemaining = new double[players.size() + 1];
+        final double[] enemyRemaining = new double[enemies.size() + 1];
+
+        if (enemies.isEmpty()) {
+            // The battle settles immediately, and the player wins if the enemy has nothing to fight with
+            playerRemaining[players.size()] = 1;
+        } else if (players.isEmpty()) {
+            enemyRemaining[enemies.size()] = 1;
+        } else {
+            new Chain(players, enemies, environment, playerRemaining, enemyRemaining).run();
+        }
+
+        double winProbability = 0;
+        for (final double probability : playerRemaining) {
+            winProbability += probability;
+        }
+        final int gold = enemy.getParty().stream().mapToInt(Monster::sellPrice).sum();
+        final int score = enemy.getParty().stream().mapToInt(Monster::getLevel).sum();
+        return new Outcome(
+            enemy, winProbability, playerRemaining, enemyRemaining, winProbability * gold, winProbability * score
+        );
+    }
+
+    /**
+     * Solve the outcome of the player battling each of the available battles for the day.
+     *
+     * @param manager The game manager.
+     * @return The exact outcomes in the same order as <code>getAvailableBattles()</code>.
+     */
+    public static List<Outcome> solveAvailableBattles(GameManager manager) {
+        return manager.getAvailableBattles()
+            .stream()
+            .map(enemy -> solve(manager.getPlayer(), enemy, manager.getEnvironment()))
+            .toList();
+    }
+
+    /**
+     * <p>
+     * The probability propagation for a single battle.
+     * Within a matchup, each monster's hp only depends on its own heals and the damage rolls against it,
+     * so while neither has fainted the probability of both hp is the product of the probability of each.
+     * A matchup is entered either after the enemy switched (player hp varies, enemy is at its starting hp)
+     * or after the player switched (enemy hp varies, player is at its starting hp),
+     * so each matchup is solved as two pairs of one-dimensional distributions.
+     * </p>
+     */
+    private static final class Chain {
+        private final List<Monster> players;
+        private final List<Monster> enemies;
+        private final Environment environment;
+        private final double[] playerRemaining;
+        private final double[] enemyRemaining;
+
+        /**
+         * The probability of entering each matchup after the enemy switched, indexed by the player monster hp.
+         */
+        private final double[][][] afterEnemySwitch;
+
+        /**
+         * The probability of entering each matchup after the player switched, indexed by the enemy monster hp.
+         */
+        private final double[][][] afterPlayerSwitch;
+
+        private Chain(
+            List<Monster> players,
+            List<Monster> enemies,
+            Environment environment,
+            double[] playerRemaining,
+            double[] enemyRemaining
+        ) {
+            this.players = players;
+            this.enemies = enemies;
+            this.environment = environment;
+            this.playerRemaining = playerRemaining;
+            this.enemyRemaining = enemyRemaining;
+            this.afterEnemySwitch = new double[players.size()][enemies.size()][];
+            this.afterPlayerSwitch = new double[players.size()][enemies.size()][];
+        }
+
+        /**
+         * Propagate through every matchup, in the order they can be reached.
+         */
+        private void run() {
+            // The first matchup is treated as entered after an enemy switch, with the player at its starting hp
+            playerEntry(0, 0)[players.get(0).getCurrentHp()] = 1;
+            for (int step = 0; step < players.size() + enemies.size() - 1; step++) {
+                for (int i = Math.max(0, step - enemies.size() + 1); i <= Math.min(step, players.size() - 1); i++) {
+                    final int j = step - i;
+                    final Monster playerMon = players.get(i);
+                    final Monster enemyMon = enemies.get(j);
+                    if (afterEnemySwitch[i][j] != null) {
+                        final double[] enemyHp = new double[enemyMon.maxHp() + 1];
+                        enemyHp[enemyMon.getCurrentHp()] = 1;
+                        propagate(i, j, afterEnemySwitch[i][j], enemyHp);
+                    }
+                    if (afterPlayerSwitch[i][j] != null) {
+                        final double[] playerHp = new double[playerMon.maxHp() + 1];
+                        playerHp[playerMon.getCurrentHp()] = 1;
+                        propagate(i, j, playerHp, afterPlayerSwitch[i][j]);
+                    }
+                    afterEnemySwitch[i][j] = null;
+                    afterPlayerSwitch[i][j] = null;
+                }
+            }
+        }
+
+        /**
+         * Get the entry after an enemy switch for a matchup, allocating it if needed.
+         */
+        private double[] playerEntry(int i, int j) {
+            if (afterEnemySwitch[i][j] == null)
+                afterEnemySwitch[i][j] = new double[players.get(i).maxHp() + 1];
+            return afterEnemySwitch[i][j];
+        }
+
+        /**
+         * Get the entry after a player switch for a matchup, allocating it if needed.
+         */
+        private double[] enemyEntry(int i, int j) {
+            if (afterPlayerSwitch[i][j] == null)
+                afterPlayerSwitch[i][j] = new double[enemies.get(j).maxHp() + 1];
+            return afterPlayerSwitch[i][j];
+        }
+
+        /**
+         * Propagate the probabilities of a matchup attack by attack until either monster faints in every path.
+         *
+         * @param i        The index of the player monster.
+         * @param j        The index of the enemy monster.
+         * @param playerHp The probability of each player monster hp, updated in place.
+         * @param enemyHp  The probability of each enemy monster hp, updated in place.
+         */
+        private void propagate(int i, int j, double[] playerHp, double[] enemyHp) {
+            final Monster playerMon = players.get(i);
+            final Monster enemyMon = enemies.get(j);
+            final int playerDmg = playerMon.attackDamage(environment);
+            final int enemyDmg = enemyMon.attackDamage(environment);
+            final int playerHeal = playerMon.attackHeal(environment);
+            final int enemyHeal = enemyMon.attackHeal(environment);
+            if (playerDmg < 2 || enemyDmg < 2)
+                // Error if a monster can only roll zero damage, as the battle would never settle
+                throw new IllegalArgumentException("Every battling monster must deal damage");
+
+            final double[] buffer = new double[Math.max(playerHp.length, enemyHp.length) + 1];
+            boolean isPlayerTurn = playerMon.speed() >= enemyMon.speed();
+            double playerMass = sum(playerHp);
+            double enemyMass = sum(enemyHp);
+
+            while (playerMass * enemyMass > EPSILON) {
+                if (isPlayerTurn) {
+                    heal(playerHp, playerHeal, buffer);
+                    final double fainted = attack(enemyHp, playerDmg, buffer);
+                    if (fainted > 0) {
+                        // The player monster carries on with its hp against the next enemy monster
+                        if (j + 1 < enemies.size()) {
+                            final double[] entry = playerEntry(i, j + 1);
+                            for (int a = 1; a < playerHp.length; a++) {
+                                entry[a] += playerHp[a] * fainted;
+                            }
+                        } else {
+                            playerRemaining[players.size() - i] += playerMass * fainted;
+                        }
+                    }
+                    enemyMass -= fainted;
+                } else {
+                    heal(enemyHp, enemyHeal, buffer);
+                    final double fainted = attack(playerHp, enemyDmg, buffer);
+                    if (fainted > 0) {
+                        // The enemy monster carries on with its hp against the next player monster
+                        if (i + 1 < players.size()) {
+                            final double[] entry = enemyEntry(i + 1, j);
+                            for (int b = 1; b < enemyHp.length; b++) {
+                                entry[b] += enemyHp[b] * fainted;
+                            }
+                        } else {
+                            enemyRemaining[enemies.size() - j] += enemyMass * fainted;
+                        }
+                    }
+                    playerMass -= fainted;
+                }
+                isPlayerTurn = !isPlayerTurn;
+            }
+        }
+
+        /**
+         * Heal every hp by a fixed amount, capped at the max hp.
+         *
+         * @param hp     The probability of each hp, updated in place.
+         * @param amount The amount healed.
+         * @param buffer A scratch array at least as long as the hp array.
+         */
+        private static void heal(double[] hp, int amount, double[] buffer) {
+            if (amount <= 0)
+                return;
+            final int max = hp.length - 1;
+            Arrays.fill(buffer, 0, hp.length, 0);
+            for (int h = 1; h <= max; h++) {
+                buffer[Math.min(h + amount, max)] += hp[h];
+            }
+            System.arraycopy(buffer, 0, hp, 0, hp.length);
+        }
+
+        /**
+         * Roll an attack against every hp, spreading each probability evenly over the damage rolls.
+         *
+         * @param hp     The probability of each hp, updated in place to the hp left for those still standing.
+         * @param maxDmg The damage of the attacker, where the rolls are between a quarter of it and itself (exclusive).
+         * @param buffer A scratch array at least one longer than the hp array.
+         * @return The probability of the defender fainting from this attack.
+         */
+        private static double attack(double[] hp, int maxDmg, double[] buffer) {
+            final int minDmg = maxDmg / 4;
+            final int rolls = maxDmg - minDmg;
+            final int max = hp.length - 1;
+
+            // buffer[h] holds the sum of the probabilities of hp below h
+            buffer[0] = 0;
+            for (int h = 0; h <= max; h++) {
+                buffer[h + 1] = buffer[h] + hp[h];
+            }
+
+            double fainted = 0;
+            for (int h = 1; h <= max; h++) {
+                if (hp[h] != 0)
+                    fainted += hp[h] * Math.max(0, maxDmg - Math.max(minDmg, h)) / rolls;
+            }
+
+            // Standing at hp h means having been at any hp between h + minDmg and h + maxDmg - 1
+            for (int h = 1; h <= max; h++) {
+                final int from = Math.min(max + 1, h + minDmg);
+                final int to = Math.min(max + 1, h + maxDmg);
+                final double value = (buffer[to] - buffer[from]) / rolls;
+                // Rounding leftovers of the prefix sums are not real probabilities
+                hp[h] = value < NOISE ? 0 : value;
+            }
+            hp[0] = 0;
+            return fainted;
+        }
+
+        /**
+         * Sum the probabilities of the standing hp.
+         */
+        private static double sum(double[] hp) {
+            double res = 0;
+            for (int h = 1; h < hp.length; h++) {
+                res += hp[h];
+            }
+            return res;
+        }
+    }
+}
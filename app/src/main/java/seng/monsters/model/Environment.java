@@ -8,7 +8,6 @@
 package seng.monsters.model;
 
 import java.util.List;
-import java.util.Random;
 
 /**
  * <p>
@@ -69,9 +68,18 @@ public enum Environment {
      * @return An environment randomly chosen from the list of environments.
      */
     public static Environment generateRandomEnvironment() {
+        return generateRandomEnvironment(RandomSource.current());
+    }
+
+    /**
+     * Generates a random environment from a given random source.
+     *
+     * @param rng The random source used to pick the environment.
+     * @return An environment randomly chosen from the list of environments.
+     */
+    public static Environment generateRandomEnvironment(RandomSource rng) {
         Environment[] environments = Environment.values();
-        final Random random = new Random();
-        return environments[random.nextInt(environments.length)];
+        return environments[rng.nextInt(environments.length)];
     }
 
     @Override
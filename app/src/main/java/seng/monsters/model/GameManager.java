@@ -7,7 +7,6 @@
 //
 package seng.monsters.model;
 
-import java.io.InputStream;
 import java.util.*;
 
 /**
@@ -64,11 +63,30 @@ public class GameManager {
      */
     private final ArrayList<Trainer> availableBattles = new ArrayList<>();
 
+    /**
+     * The random source for this game session.
+     */
+    private final RandomSource rng;
+
+    /**
+     * The pool of names for the enemy trainers.
+     */
+    private TrainerNames trainerNames = TrainerNames.bundled();
+
 
     /**
      * Creates a bare-bone GameManager that still requires additional setup.
      */
     public GameManager() {
+        this(RandomSource.create());
+    }
+
+    /**
+     * Creates a bare-bone GameManager with a given random source that still requires additional setup.
+     * @param rng The random source for this game session.
+     */
+    public GameManager(RandomSource rng) {
+        this.rng = rng;
         player = new Trainer("Anonymous");
         inventory = new Inventory();
         shop = new Shop(this);
@@ -83,6 +101,21 @@ public class GameManager {
      * @param name The trainer name.
      */
     public GameManager(int gold, int currentDay, int maxDays, int difficulty, String name) {
+        this(gold, currentDay, maxDays, difficulty, name, RandomSource.create());
+    }
+
+    /**
+     * Creates a fully ready and functional GameManager with a given random source that requires no additional setup.
+     * The same seeded random source and the same actions always give the same game.
+     * @param gold The starting amount of gold.
+     * @param currentDay The current day.
+     * @param maxDays The maximum amount of days.
+     * @param difficulty The difficulty scale.
+     * @param name The trainer name.
+     * @param rng The random source for this game session.
+     */
+    public GameManager(int gold, int currentDay, int maxDays, int difficulty, String name, RandomSource rng) {
+        this.rng = rng;
         this.gold = gold;
         this.currentDay = currentDay % maxDays;
         this.maxDays = maxDays;
@@ -191,6 +224,25 @@ public class GameManager {
         return shop;
     }
 
+    /**
+     * Get the random source for this game session.
+     *
+     * @return The RandomSource used by the game logic.
+     */
+    public RandomSource getRandomSource() {
+        return rng;
+    }
+
+    /**
+     * Get every battle for this current day, including the trainers that have been defeated.
+     * <b>(Internal code, for snapshots)</b>
+     *
+     * @return The List of all enemy Trainers for the day.
+     */
+    List<Trainer> getAllBattles() {
+        return availableBattles;
+    }
+
     // MARK: -- Rule checking methods --
 
     /**
@@ -215,9 +267,9 @@ public class GameManager {
      * @return true if the player's party is all fainted and gold is less than the price of revive.
      */
     public boolean hasNoPossibilityForRevive() {
-        final boolean hasNoRevive = inventory.getItemNumber(new Item.Revive()) <= 0 &&
-            inventory.getItemNumber(new Item.FullRestore()) <= 0;
-        return player.isWhitedOut() && getGold() < new Item.Revive().buyPrice() && hasNoRevive;
+        final boolean hasNoRevive = inventory.getItemNumber(Item.Revive.INSTANCE) <= 0 &&
+            inventory.getItemNumber(Item.FullRestore.INSTANCE) <= 0;
+        return player.isWhitedOut() && getGold() < Item.Revive.INSTANCE.buyPrice() && hasNoRevive;
     }
 
     /**
@@ -278,7 +330,7 @@ public class GameManager {
      * Changes the environment to a randomly selected environment.
      */
     protected void changeEnvironment() {
-        final Environment newEnvironment = Environment.generateRandomEnvironment();
+        final Environment newEnvironment = Environment.generateRandomEnvironment(rng);
         setEnvironment(newEnvironment);
     }
 
@@ -294,7 +346,7 @@ public class GameManager {
         // Checking each monster in the party if they meet leave conditions.
         for (int i = 0; i < player.getParty().size(); i++) {
             final Monster mon = player.getParty().get(i);
-            if (mon.shouldLeave()) {
+            if (mon.shouldLeave(rng)) {
                 player.remove(i);
                 return Optional.of(mon);
             }
@@ -325,7 +377,7 @@ public class GameManager {
             .getParty()
             .stream()
             .filter(mon -> !mon.isFainted())
-            .filter(Monster::shouldLevelUp)
+            .filter(mon -> mon.shouldLevelUp(rng))
             .toList();
         lastLevelledUp.forEach(Monster::levelUp);
         return lastLevelledUp;
@@ -342,7 +394,7 @@ public class GameManager {
      */
     public Optional<Monster> monsterJoinsParty() {
         final double chance = 0.05 * (0.5 * getDifficulty() + 0.5) * (4 - getPlayer().getParty().size());
-        final boolean isLucky = Math.random() <= chance;
+        final boolean isLucky = rng.nextDouble() <= chance;
         // Returns nothing if the check is failed
         if (!isLucky)
             return Optional.empty();
@@ -360,22 +412,18 @@ public class GameManager {
      * Update the available battles for the day.
      */
     protected void updateAvailableBattles() {
-        final Random rng = new Random();
-        final List<String> names = getRandomTrainerNames();
         final int amountEnemies = Math.max(3, Math.min(5, 5 * getDifficulty() * getCurrentDay() / 5));
         final int amountMonster = Math.max(1, Math.min(4, 4 * getDifficulty() * getCurrentDay() / 5));
+        final List<String> names = trainerNames.sample(amountEnemies, rng);
 
         availableBattles.clear();
 
         // Enemy generation.
-        for (int i = 0; i < amountEnemies; i++) {
-            final int index = rng.nextInt(names.size());
-            final String name = names.get(index);
+        for (final String name : names) {
             final Trainer enemy = new Trainer(name);
-            for (int j = 0; j < amountMonster; j++) {
-                enemy.add(shop.randomMonster());
+            for (final Monster mon : shop.randomMonsters(amountMonster)) {
+                enemy.add(mon);
             }
-            names.remove(index);
             availableBattles.add(enemy);
         }
     }
@@ -393,7 +441,8 @@ public class GameManager {
     public BattleManager prepareBattle(BattleManager.UI ui, int index) throws IndexOutOfBoundsException {
         // Retrieves enemy from availableBattles and creates a BattleManager
         final Trainer enemy = getAvailableBattles().get(index);
-        return new BattleManager(ui, getPlayer(), enemy, getEnvironment());
+        // The battle gets its own stream, as it may be run on another thread
+        return new BattleManager(ui, getPlayer(), enemy, getEnvironment(), rng.split());
     }
 
     /**
@@ -554,6 +603,31 @@ public class GameManager {
         this.score = score;
     }
 
+    /**
+     * Replace every battle for the current day.
+     * <b>(Internal code, for snapshots)</b>
+     *
+     * @param battles The enemy Trainers for the day.
+     */
+    void setAllBattles(List<Trainer> battles) {
+        availableBattles.clear();
+        availableBattles.addAll(battles);
+    }
+
+    /**
+     * Change the pool of names for the enemy trainers, e.g. to a larger corpus from a file.
+     * Only takes effect on the next refresh of the available battles.
+     *
+     * @param trainerNames The new pool of names, which must have at least 5 names.
+     * @throws IllegalArgumentException If the pool has fewer than 5 names, as there can be up to 5 enemy trainers each day.
+     */
+    public void setTrainerNames(TrainerNames trainerNames) throws IllegalArgumentException {
+        if (trainerNames.size() < 5)
+            // Error if there are not enough different names for the available battles
+            throw new IllegalArgumentException("Trainer names must have at least 5 names, got " + trainerNames.size());
+        this.trainerNames = trainerNames;
+    }
+
     /**
      * Change the environment of the current day.
      * <b>(Internal code, for testing purposes)</b>
@@ -583,29 +657,4 @@ public class GameManager {
     public void setDifficulty(int difficulty) {
         this.difficulty = difficulty;
     }
-
-    /**
-     * Get the list of role based name from the resource text file.
-     *
-     * @return A Map of index to role name pair.
-     */
-    private List<String> getRandomTrainerNames() {
-        // Opening text file with all enemy names
-        final InputStream file = Objects.requireNonNull(GameManager.class.getResourceAsStream("/txt/roles.txt"));
-        final Scanner scanner = new Scanner(file);
-        // ArrayList with capacity of the number of names
-        final ArrayList<String> res = new ArrayList<>(56);
-        int i = 0;
-        while (scanner.hasNextLine()) {
-            final String name = scanner.nextLine();
-            if (name.isBlank())
-                continue;
-            res.add(name);
-            i++;
-        }
-        scanner.close();
-        return res;
-    }
 }
-
-
@@ -0,0 +1,256 @@
+package seng.monsters.model;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ * A headless driver that plays whole games from setup until <code>nextDay()</code> ends the game,
+ * with every decision made by a <code>Strategy</code>.
+ * Games follow the same rules as the GUI, including having to battle once before sleeping if able to.
+ * </p>
+ */
+public final class GameRunner {
+    /**
+     * The final result of a single game.
+     *
+     * @param seed            The seed of the game.
+     * @param hasCompleted    True if the game ran out of days, false if the player failed before that.
+     * @param days            The amount of days played.
+     * @param gold            The final gold.
+     * @param score           The final score.
+     * @param battlesWon      The amount of battles won.
+     * @param battlesLost     The amount of battles lost.
+     * @param partySize       The final amount of monster in the party.
+     * @param rejectedActions The amount of actions from the strategy that were not allowed by the game.
+     */
+    public record Result(
+        long seed,
+        boolean hasCompleted,
+        int days,
+        int gold,
+        int score,
+        int battlesWon,
+        int battlesLost,
+        int partySize,
+        int rejectedActions
+    ) {
+    }
+
+    /**
+     * The results of a number of games.
+     *
+     * @param results The result of each game, in the order of their seeds.
+     * @param elapsed The wall time taken to play all games.
+     */
+    public record Summary(List<Result> results, Duration elapsed) {
+        /**
+         * Get the throughput of the games.
+         *
+         * @return The amount of games played per second.
+         */
+        public double gamesPerSecond() {
+            return results.size() / (elapsed.toNanos() / 1e9);
+        }
+
+        /**
+         * Get the ratio of games that ran out of days without failing.
+         *
+         * @return The completion rate between 0 and 1.
+         */
+        public double completionRate() {
+            return results.stream().filter(Result::hasCompleted).count() / (double) results.size();
+        }
+
+        /**
+         * Get the average final score.
+         *
+         * @return The average score.
+         */
+        public double averageScore() {
+            return results.stream().mapToInt(Result::score).average().orElse(0);
+        }
+
+        /**
+         * Get the average final gold.
+         *
+         * @return The average gold.
+         */
+        public double averageGold() {
+            return results.stream().mapToInt(Result::gold).average().orElse(0);
+        }
+
+        /**
+         * Get the average amount of days played.
+         *
+         * @return The average days.
+         */
+        public double averageDays() {
+            return results.stream().mapToInt(Result::days).average().orElse(0);
+        }
+    }
+
+    /**
+     * The maximum amount of days for each game.
+     */
+    private final int maxDays;
+
+    /**
+     * The difficulty scale for each game.
+     */
+    private final int difficulty;
+
+    /**
+     * Creates a runner for games of certain settings.
+     *
+     * @param maxDays    The maximum amount of days for each game.
+     * @param difficulty The difficulty scale for each game.
+     * @throws IllegalArgumentException If the settings are not between those allowed in the settings screen.
+     */
+    public GameRunner(int maxDays, int difficulty) throws IllegalArgumentException {
+        if (maxDays < 5 || maxDays > 15)
+            // Error if the days are not allowed for a normal game
+            throw new IllegalArgumentException("Max days must be between 5 and 15");
+        if (difficulty < 1 || difficulty > 3)
+            // Error if the difficulty is not allowed for a normal game
+            throw new IllegalArgumentException("Difficulty must be between 1 and 3");
+        this.maxDays = maxDays;
+        this.difficulty = difficulty;
+    }
+
+    /**
+     * Play a single game.
+     *
+     * @param strategy The strategy making the decisions, used only for this game.
+     * @param seed     The seed for the game, where the same seed and strategy always gives the same result.
+     * @return The result of the game.
+     */
+    public Result play(Strategy strategy, long seed) {
+        final GameManager manager = new GameManager(RandomSource.seeded(seed));
+        manager.setMaxDays(maxDays);
+        manager.setDifficulty(difficulty);
+        manager.refreshCurrentDay();
+
+        // Same starters as the starting monster screen
+        final List<Monster> starters = Monster.all(5 - difficulty).subList(0, difficulty + 2);
+        manager.getPlayer().add(strategy.chooseStarter(manager, starters));
+
+        int won = 0;
+        int lost = 0;
+        int rejected = 0;
+        boolean hasEnded = false;
+        while (!hasEnded) {
+            rejected += prepare(strategy, manager);
+
+            if (!manager.getPlayer().isWhitedOut() && !manager.getAvailableBattles().isEmpty()) {
+                int index = strategy.chooseBattle(manager);
+                if (index < 0 || index >= manager.getAvailableBattles().size()) {
+                    // The player cannot sleep without battling, so the first battle is taken instead
+                    rejected++;
+                    index = 0;
+                }
+                final BattleManager battle = manager.prepareBattle(BattleManager.UI.HEADLESS, index);
+                battle.resolve();
+                if (battle.hasPlayerWon()) {
+                    // Same rewards as the battle screen
+                    manager.setGold(manager.getGold() + battle.goldReward());
+                    manager.setScore(manager.getScore() + battle.scoreReward() * manager.getDifficulty());
+                    won++;
+                } else {
+                    lost++;
+                }
+            }
+
+            hasEnded = manager.nextDay();
+            if (!hasEnded) {
+                // Same night events as the main menu screen
+                manager.partyMonstersLeave();
+                manager.partyMonstersLevelUp();
+                manager.monsterJoinsParty();
+            }
+        }
+
+        return new Result(
+            seed,
+            manager.getCurrentDay() > manager.getMaxDays(),
+            Math.min(manager.getCurrentDay(), manager.getMaxDays()),
+            manager.getGold(),
+            manager.getScore(),
+            won,
+            lost,
+            manager.getPlayer().getParty().size(),
+            rejected
+        );
+    }
+
+    /**
+     * Play a number of games in parallel on a given pool.
+     *
+     * @param strategies The supplier of a new strategy for each game, called from the threads of the pool.
+     * @param games      The amount of games.
+     * @param seed       The seed used to derive the seed of each game.
+     * @param pool       The pool used to run the games.
+     * @return The summary of all games, which is the same for the same seed regardless of the pool.
+     */
+    public Summary playAll(Supplier<Strategy> strategies, int games, long seed, ForkJoinPool pool) {
+        // The seeds are derived upfront, so each game does not depend on scheduling
+        final RandomSource rng = RandomSource.seeded(seed);
+        final long[] seeds = new long[games];
+        for (int i = 0; i < games; i++) {
+            seeds[i] = rng.nextLong();
+        }
+
+        final long start = System.nanoTime();
+        final List<Result> results = pool.submit(() -> IntStream.range(0, games)
+            .parallel()
+            .mapToObj(i -> play(strategies.get(), seeds[i]))
+            .toList()
+        ).join();
+        return new Summary(results, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Apply the strategy's decisions for selling, buying, using items, and ordering the party.
+     *
+     * @param strategy The strategy making the decisions.
+     * @param manager  The game manager.
+     * @return The amount of actions not allowed by the game.
+     */
+    private static int prepare(Strategy strategy, GameManager manager) {
+        int rejected = 0;
+        for (final Purchasable purchasable : strategy.sell(manager)) {
+            try {
+                manager.sell(purchasable);
+            } catch (IndexOutOfBoundsException ignored) {
+                rejected++;
+            }
+        }
+        for (final Purchasable purchasable : strategy.buy(manager)) {
+            try {
+                manager.buy(purchasable);
+            } catch (IndexOutOfBoundsException | IllegalStateException ignored) {
+                rejected++;
+            }
+        }
+        for (final Strategy.ItemUse use : strategy.useItems(manager)) {
+            try {
+                manager.useItemFromInventory(use.item(), use.monster());
+            } catch (IndexOutOfBoundsException | IllegalStateException ignored) {
+                rejected++;
+            }
+        }
+
+        final List<Monster> order = strategy.arrangeParty(manager);
+        for (int i = 0; i < order.size(); i++) {
+            try {
+                manager.switchMonsterOnParty(order.get(i), i);
+            } catch (IndexOutOfBoundsException ignored) {
+                rejected++;
+            }
+        }
+        return rejected;
+    }
+}
@@ -0,0 +1,502 @@
+package seng.monsters.model;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+/**
+ * <p>
+ * A compact, versioned binary snapshot of a game session, written to and read from NIO channels.
+ * A snapshot is a fixed header (magic, version, body length, and CRC32 of the body) followed by the body,
+ * where every number is a zig-zag variable-length integer and every string is UTF-8 prefixed by its length.
+ * </p>
+ * <p>
+ * Only the player's monsters keep their ids, as monsters in the shop and in battles are never referred to by id
+ * outside the session. Monsters with their default name or base hp only write a flag for them.
+ * The random source is not part of the snapshot, a restored session continues with the one given to <code>read</code>.
+ * </p>
+ */
+public final class GameSnapshot {
+    /**
+     * Signals that the bytes being read are not a valid snapshot.
+     */
+    public static final class InvalidSnapshotException extends IOException {
+        /**
+         * Creates an Exception that indicates that the snapshot cannot be read.
+         *
+         * @param desc The reasoning why the snapshot is invalid as a string.
+         */
+        public InvalidSnapshotException(String desc) {
+            super(desc);
+        }
+    }
+
+    /**
+     * The version of the snapshots written.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * The bytes at the start of every snapshot, "MFSV".
+     */
+    private static final int MAGIC = 0x4D465356;
+
+    /**
+     * The size of the header: magic, version, body length, and checksum.
+     */
+    private static final int HEADER_SIZE = 4 + 1 + 4 + 4;
+
+    /**
+     * The largest body accepted, far above any real session, so a corrupted length cannot allocate gigabytes.
+     */
+    private static final int MAX_BODY_SIZE = 1 << 20;
+
+    /**
+     * The items by their tag.
+     */
+    private static final List<Item> ITEMS = Item.all();
+
+    /**
+     * The environments by their ordinal.
+     */
+    private static final Environment[] ENVIRONMENTS = Environment.values();
+
+    /**
+     * The flag for a monster with its own name.
+     */
+    private static final int CUSTOM_NAME = 1 << 4;
+
+    /**
+     * The flag for a monster with its own base hp.
+     */
+    private static final int CUSTOM_BASE_HP = 1 << 5;
+
+    /**
+     * The flag for a monster with its id written.
+     */
+    private static final int WITH_ID = 1 << 6;
+
+    /**
+     * The mask for the monster tag.
+     */
+    private static final int SPECIES_MASK = 0x0F;
+
+    private GameSnapshot() {
+    }
+
+    // MARK: -- Writing --
+
+    /**
+     * Write a snapshot of a game session.
+     *
+     * @param manager The game session.
+     * @param channel The channel being written to.
+     * @throws IOException              If the channel fails to write.
+     * @throws IllegalArgumentException If a monster is not one of the monsters in the game.
+     */
+    public static void write(GameManager manager, WritableByteChannel channel) throws IOException {
+        final ByteBuffer snapshot = ByteBuffer.wrap(toBytes(manager));
+        while (snapshot.hasRemaining()) {
+            channel.write(snapshot);
+        }
+    }
+
+    /**
+     * Encode a snapshot of a game session.
+     *
+     * @param manager The game session.
+     * @return The snapshot with its header.
+     * @throws IllegalArgumentException If a monster is not one of the monsters in the game.
+     */
+    public static byte[] toBytes(GameManager manager) throws IllegalArgumentException {
+        final Encoder body = new Encoder();
+        body.writeInt(manager.getGold());
+        body.writeInt(manager.getScore());
+        body.writeInt(manager.getCurrentDay());
+        body.writeInt(manager.getMaxDays());
+        body.writeInt(manager.getDifficulty());
+        body.writeInt(manager.getEnvironment().ordinal());
+
+        body.writeTrainer(manager.getPlayer(), true);
+        for (final Item item : ITEMS) {
+            body.writeInt(manager.getInventory().getItemNumber(item));
+        }
+
+        for (final Item item : ITEMS) {
+            body.writeInt(manager.getShop().getItemStock(item));
+        }
+        final List<Monster> stock = manager.getShop().getMonsterStock();
+        body.writeInt(stock.size());
+        for (final Monster mon : stock) {
+            body.writeMonster(mon, false);
+        }
+
+        final List<Trainer> battles = manager.getAllBattles();
+        body.writeInt(battles.size());
+        for (final Trainer enemy : battles) {
+            body.writeTrainer(enemy, false);
+        }
+
+        final CRC32 crc = new CRC32();
+        crc.update(body.bytes, 0, body.size);
+        final ByteBuffer res = ByteBuffer.allocate(HEADER_SIZE + body.size);
+        res.putInt(MAGIC)
+            .put((byte) VERSION)
+            .putInt(body.size)
+            .putInt((int) crc.getValue())
+            .put(body.bytes, 0, body.size);
+        return res.array();
+    }
+
+    // MARK: -- Reading --
+
+    /**
+     * Read a snapshot into a new game session.
+     *
+     * @param channel The channel being read from, positioned at the start of a snapshot.
+     * @param rng     The random source for the restored session.
+     * @return The restored game session.
+     * @throws IOException If the channel fails to read or the snapshot is invalid.
+     */
+    public static GameManager read(ReadableByteChannel channel, RandomSource rng) throws IOException {
+        final ByteBuffer header = readFully(channel, ByteBuffer.allocate(HEADER_SIZE)).flip();
+        final int length = checkHeader(header);
+        final ByteBuffer body = readFully(channel, ByteBuffer.allocate(length));
+        return decode(body.array(), 0, length, header.getInt(HEADER_SIZE - 4), rng);
+    }
+
+    /**
+     * Decode a snapshot into a new game session.
+     *
+     * @param bytes The snapshot with its header.
+     * @param rng   The random source for the restored session.
+     * @return The restored game session.
+     * @throws InvalidSnapshotException If the snapshot is invalid.
+     */
+    public static GameManager fromBytes(byte[] bytes, RandomSource rng) throws InvalidSnapshotException {
+        if (bytes.length < HEADER_SIZE)
+            // Error if the header is cut off
+            throw new InvalidSnapshotException("Snapshot is missing its header");
+        final ByteBuffer header = ByteBuffer.wrap(bytes, 0, HEADER_SIZE);
+        final int length = checkHeader(header);
+        if (bytes.length - HEADER_SIZE != length)
+            // Error if the body is cut off or has trailing bytes
+            throw new InvalidSnapshotException("Snapshot body has the wrong length");
+        return decode(bytes, HEADER_SIZE, length, header.getInt(HEADER_SIZE - 4), rng);
+    }
+
+    /**
+     * Fill a buffer from a channel.
+     *
+     * @param channel The channel being read from.
+     * @param buffer  The buffer to be filled.
+     * @return The buffer, filled.
+     * @throws IOException If the channel fails to read or ends early.
+     */
+    private static ByteBuffer readFully(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0)
+                // Error if the channel ends before the snapshot does
+                throw new InvalidSnapshotException("Snapshot ended early");
+        }
+        return buffer;
+    }
+
+    /**
+     * Check the magic and version of a header.
+     *
+     * @param header The header bytes.
+     * @return The length of the body.
+     * @throws InvalidSnapshotException If the header is not for a readable snapshot.
+     */
+    private static int checkHeader(ByteBuffer header) throws InvalidSnapshotException {
+        final int start = header.position();
+        if (header.getInt(start) != MAGIC)
+            // Error if the bytes are not a snapshot at all
+            throw new InvalidSnapshotException("Not a game snapshot");
+        final int version = header.get(start + 4);
+        if (version < 1 || version > VERSION)
+            // Error if the snapshot was written by a newer version of the game
+            throw new InvalidSnapshotException("Unsupported snapshot version " + version);
+        final int length = header.getInt(start + 5);
+        if (length < 0 || length > MAX_BODY_SIZE)
+            // Error if the length was corrupted
+            throw new InvalidSnapshotException("Snapshot body has an invalid length " + length);
+        return length;
+    }
+
+    /**
+     * Decode the body of a snapshot.
+     *
+     * @param bytes    The bytes holding the body.
+     * @param offset   The start of the body.
+     * @param length   The length of the body.
+     * @param checksum The expected CRC32 of the body.
+     * @param rng      The random source for the restored session.
+     * @return The restored game session.
+     * @throws InvalidSnapshotException If the body is invalid.
+     */
+    private static GameManager decode(
+        byte[] bytes,
+        int offset,
+        int length,
+        int checksum,
+        RandomSource rng
+    ) throws InvalidSnapshotException {
+        final CRC32 crc = new CRC32();
+        crc.update(bytes, offset, length);
+        if ((int) crc.getValue() != checksum)
+            // Error if the body was corrupted
+            throw new InvalidSnapshotException("Snapshot checksum does not match");
+
+        final Decoder body = new Decoder(ByteBuffer.wrap(bytes, offset, length));
+        try {
+            final GameManager manager = new GameManager(rng);
+            manager.setGold(body.readInt());
+            manager.setScore(body.readInt());
+            manager.setCurrentDay(body.readInt());
+            manager.setMaxDays(body.readInt());
+            manager.setDifficulty(body.readInt());
+            manager.setEnvironment(ENVIRONMENTS[body.readInt()]);
+
+            final Trainer player = body.readTrainer();
+            manager.setTrainerName(player.getName());
+            for (final Monster mon : player.getParty()) {
+                manager.getPlayer().add(mon);
+            }
+            for (final Item item : ITEMS) {
+                manager.getInventory().setItemNumber(item, body.readInt());
+            }
+
+            final int[] itemStock = new int[Item.COUNT];
+            for (final Item item : ITEMS) {
+                itemStock[item.ordinal()] = body.readInt();
+            }
+            final int stockSize = body.readInt();
+            final ArrayList<Monster> monsterStock = new ArrayList<>(stockSize);
+            for (int i = 0; i < stockSize; i++) {
+                monsterStock.add(body.readMonster());
+            }
+            manager.getShop().restore(itemStock, monsterStock);
+
+            final int battleSize = body.readInt();
+            final ArrayList<Trainer> battles = new ArrayList<>(battleSize);
+            for (int i = 0; i < battleSize; i++) {
+                battles.add(body.readTrainer());
+            }
+            manager.setAllBattles(battles);
+
+            if (body.buffer.hasRemaining())
+                // Error if the body has more than a snapshot of this version
+                throw new InvalidSnapshotException("Snapshot body has trailing bytes");
+            return manager;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException |
+                 IllegalStateException err) {
+            throw new InvalidSnapshotException("Snapshot body is malformed: " + err);
+        }
+    }
+
+    // MARK: -- Encoding --
+
+    /**
+     * A growable byte array for the body of a snapshot.
+     */
+    private static final class Encoder {
+        /**
+         * The written bytes, with spare capacity.
+         */
+        private byte[] bytes = new byte[512];
+
+        /**
+         * The amount of bytes written.
+         */
+        private int size = 0;
+
+        /**
+         * Write a single byte.
+         */
+        private void writeByte(int value) {
+            if (size == bytes.length)
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            bytes[size++] = (byte) value;
+        }
+
+        /**
+         * Write an int as a zig-zag variable-length integer, taking one byte for anything between -64 and 63.
+         */
+        private void writeInt(int value) {
+            int bits = (value << 1) ^ (value >> 31);
+            while ((bits & ~0x7F) != 0) {
+                writeByte((bits & 0x7F) | 0x80);
+                bits >>>= 7;
+            }
+            writeByte(bits);
+        }
+
+        /**
+         * Write a long in full.
+         */
+        private void writeLong(long value) {
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                writeByte((int) (value >>> shift));
+            }
+        }
+
+        /**
+         * Write a string as its UTF-8 length and bytes.
+         */
+        private void writeString(String value) {
+            final byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeInt(utf8.length);
+            for (final byte b : utf8) {
+                writeByte(b);
+            }
+        }
+
+        /**
+         * Get the tag a monster is written with.
+         * A generic monster sharing the stats of a species is written as that species, as it battles the exact same way.
+         *
+         * @param mon The monster.
+         * @return The tag of the species of the monster.
+         * @throws IllegalArgumentException If the monster is not of any species in the game.
+         */
+        private static int tagOf(Monster mon) throws IllegalArgumentException {
+            if (!(mon instanceof Monster.Generic))
+                return MonsterSpecies.of(mon).ordinal();
+
+            final SpeciesStats stats = mon.getSpeciesStats().orElseThrow();
+            for (final MonsterSpecies species : MonsterSpecies.values()) {
+                if (species.stats().equals(stats))
+                    return species.ordinal();
+            }
+            // Error if the species only exists in a table loaded for this session
+            throw new IllegalArgumentException(String.format(
+                "Cannot save %s, the %s species is not one of the species bundled with the game", mon.getName(), stats.name()
+            ));
+        }
+
+        /**
+         * Write a monster as its tag and flags, level, current hp, and any non-default values.
+         */
+        private void writeMonster(Monster mon, boolean withId) {
+            // Errors if the monster cannot be created again when read
+            final int tag = tagOf(mon);
+
+            final boolean hasCustomName = !mon.getName().equals(mon.monsterType());
+            final boolean hasCustomBaseHp = mon.getBaseHp() != MonsterSpecies.of(tag).stats().baseHp();
+
+            writeByte(tag
+                | (hasCustomName ? CUSTOM_NAME : 0)
+                | (hasCustomBaseHp ? CUSTOM_BASE_HP : 0)
+                | (withId ? WITH_ID : 0));
+            writeInt(mon.getLevel());
+            writeInt(mon.getCurrentHp());
+            if (hasCustomName)
+                writeString(mon.getName());
+            if (hasCustomBaseHp)
+                writeInt(mon.getBaseHp());
+            if (withId) {
+                writeLong(mon.getId().getMostSignificantBits());
+                writeLong(mon.getId().getLeastSignificantBits());
+            }
+        }
+
+        /**
+         * Write a trainer as its name and party.
+         */
+        private void writeTrainer(Trainer trainer, boolean withIds) {
+            writeString(trainer.getName());
+            final List<Monster> party = trainer.getParty();
+            writeInt(party.size());
+            for (final Monster mon : party) {
+                writeMonster(mon, withIds);
+            }
+        }
+    }
+
+    // MARK: -- Decoding --
+
+    /**
+     * A reader for the body of a snapshot, throwing <code>BufferUnderflowException</code> if it ends early.
+     */
+    private static final class Decoder {
+        /**
+         * The body being read.
+         */
+        private final ByteBuffer buffer;
+
+        private Decoder(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        /**
+         * Read a zig-zag variable-length integer.
+         */
+        private int readInt() throws InvalidSnapshotException {
+            int bits = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                final byte b = buffer.get();
+                bits |= (b & 0x7F) << shift;
+                if (b >= 0)
+                    return (bits >>> 1) ^ -(bits & 1);
+            }
+            // Error if the integer does not fit an int
+            throw new InvalidSnapshotException("Snapshot has an integer that is too long");
+        }
+
+        /**
+         * Read a string as its UTF-8 length and bytes.
+         */
+        private String readString() throws InvalidSnapshotException {
+            final int length = readInt();
+            if (length < 0 || length > buffer.remaining())
+                // Error if the length points outside the body
+                throw new InvalidSnapshotException("Snapshot has a string that is too long");
+            final String res = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+            return res;
+        }
+
+        /**
+         * Read a monster, creating it with a new id if none was written.
+         */
+        private Monster readMonster() throws InvalidSnapshotException {
+            final int header = buffer.get();
+            final int tag = header & SPECIES_MASK;
+            if (tag >= MonsterSpecies.values().length)
+                // Error if the tag is not a monster
+                throw new InvalidSnapshotException("Snapshot has an unknown monster type " + tag);
+
+            final int level = readInt();
+            final int currentHp = readInt();
+            final String name = (header & CUSTOM_NAME) != 0 ? readString() : null;
+            final Integer baseHp = (header & CUSTOM_BASE_HP) != 0 ? readInt() : null;
+            final UUID id = (header & WITH_ID) != 0 ? new UUID(buffer.getLong(), buffer.getLong()) : null;
+
+            final Monster mon = MonsterSpecies.of(tag).create(name, level);
+            mon.restore(id, baseHp != null ? baseHp : mon.getBaseHp(), currentHp);
+            return mon;
+        }
+
+        /**
+         * Read a trainer with their party.
+         */
+        private Trainer readTrainer() throws InvalidSnapshotException {
+            final Trainer res = new Trainer(readString());
+            final int size = readInt();
+            for (int i = 0; i < size; i++) {
+                res.add(readMonster());
+            }
+            return res;
+        }
+    }
+}
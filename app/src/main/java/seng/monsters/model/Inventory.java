@@ -7,9 +7,10 @@
 //
 package seng.monsters.model;
 
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * A collection of item used by the player.
@@ -22,9 +23,28 @@ public final class Inventory {
     }
 
     /**
-     * The item collection.
+     * A callback for the count of an item, given by the item's ordinal so no item or boxed count is needed.
      */
-    private final Map<Item, Integer> items = new HashMap<>();
+    @FunctionalInterface
+    public interface CountConsumer {
+        /**
+         * Accept the count of an item.
+         *
+         * @param ordinal The ordinal of the item, see <code>Item.of</code>.
+         * @param count   The amount of the item held.
+         */
+        void accept(int ordinal, int count);
+    }
+
+    /**
+     * The count of each item, indexed by the item's ordinal.
+     */
+    private final int[] counts = new int[Item.COUNT];
+
+    /**
+     * The listeners notified whenever the count of an item changes, copied on write so a listener can add or remove listeners when notified.
+     */
+    private final List<CountConsumer> listeners = new CopyOnWriteArrayList<>();
 
     /**
      * Add a new item to the inventory.
@@ -32,7 +52,7 @@ public final class Inventory {
      * @param item The newly added item.
      */
     public void add(Item item) {
-        items.put(item, items.getOrDefault(item, 0) + 1);
+        setCount(item.ordinal(), counts[item.ordinal()] + 1);
     }
 
     /**
@@ -44,8 +64,7 @@ public final class Inventory {
      * @throws Item.NoEffectException If the item produce no effect.
      */
     public void use(Item item, Monster mon) throws ItemNotExistException, Item.NoEffectException {
-        final int count = items.getOrDefault(item, 0);
-        if (count <= 0)
+        if (counts[item.ordinal()] <= 0)
             // Error if player does not have any of that item to use.
             throw new ItemNotExistException();
         // Use and decrement item amount by one.
@@ -61,11 +80,10 @@ public final class Inventory {
      * @throws ItemNotExistException if the inventory holds 0 of the item.
      */
     public void remove(Item item) throws ItemNotExistException {
-        final int count = items.getOrDefault(item, 0);
-        if (count <= 0)
+        if (counts[item.ordinal()] <= 0)
             // Error if player does not have any of that item.
             throw new ItemNotExistException();
-        items.put(item, count - 1);
+        setCount(item.ordinal(), counts[item.ordinal()] - 1);
     }
 
     /**
@@ -75,7 +93,64 @@ public final class Inventory {
      * @return An int representing the number of the item in the player's inventory.
      */
     public int getItemNumber(Item item) {
-        return items.getOrDefault(item, 0);
+        return counts[item.ordinal()];
+    }
+
+    /**
+     * Set the amount of a specified item.
+     * <b>(Internal code, for snapshots)</b>
+     *
+     * @param item  The item.
+     * @param count The new amount of the item.
+     */
+    void setItemNumber(Item item, int count) {
+        setCount(item.ordinal(), count);
+    }
+
+    /**
+     * Set the amount of an item, notifying the listeners if it changed.
+     *
+     * @param ordinal The ordinal of the item.
+     * @param count   The new amount of the item.
+     */
+    private void setCount(int ordinal, int count) {
+        if (counts[ordinal] == count)
+            return;
+        counts[ordinal] = count;
+        for (final CountConsumer listener : listeners) {
+            listener.accept(ordinal, count);
+        }
+    }
+
+    /**
+     * Go through the count of every item held, in the order of their ordinals, without allocating.
+     *
+     * @param consumer The callback given the ordinal and count of each item held.
+     */
+    public void forEachCount(CountConsumer consumer) {
+        for (int ordinal = 0; ordinal < Item.COUNT; ordinal++) {
+            if (counts[ordinal] > 0)
+                consumer.accept(ordinal, counts[ordinal]);
+        }
+    }
+
+    /**
+     * Listen to every change in the count of an item.
+     * The listener is called with the item's ordinal and its new count, only when the count actually changes.
+     *
+     * @param listener The listener.
+     */
+    public void addListener(CountConsumer listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Stop a listener from being notified of changes.
+     *
+     * @param listener The listener previously added.
+     */
+    public void removeListener(CountConsumer listener) {
+        listeners.remove(listener);
     }
 
     /**
@@ -84,24 +159,26 @@ public final class Inventory {
      * @return The items as an arraylist.
      */
     public List<Item> getItems() {
-        return items
-            .entrySet()
-            .stream()
-            .filter(entry -> entry.getValue() > 0)
-            .map(Map.Entry::getKey)
-            .toList();
+        final ArrayList<Item> res = new ArrayList<>(Item.COUNT);
+        for (int ordinal = 0; ordinal < Item.COUNT; ordinal++) {
+            if (counts[ordinal] > 0)
+                res.add(Item.of(ordinal));
+        }
+        return res;
     }
 
     /**
      * Get all item in the inventory as an entry.
      *
-     * @return The items and their count as entries in a ArrayList.
+     * @return The items held and their count as entries in a ArrayList, in the order of their ordinals.
      */
     public List<Map.Entry<Item, Integer>> getItemEntries() {
-        return items
-            .entrySet()
-            .stream()
-            .toList();
+        final ArrayList<Map.Entry<Item, Integer>> res = new ArrayList<>(Item.COUNT);
+        for (int ordinal = 0; ordinal < Item.COUNT; ordinal++) {
+            if (counts[ordinal] > 0)
+                res.add(Map.entry(Item.of(ordinal), counts[ordinal]));
+        }
+        return res;
     }
 }
 
@@ -8,17 +8,56 @@
 package seng.monsters.model;
 
 import java.util.List;
-import java.util.Objects;
 
 /**
  * A usable item that can be applied to a monster to produce a variety of result.
+ * <p>
+ * Items of the same type are interchangeable, so each type has a canonical <code>INSTANCE</code>
+ * and a small ordinal to index counts by.
+ * </p>
  */
 public abstract class Item implements Purchasable {
+    /**
+     * The amount of item types, every ordinal is below it.
+     */
+    public static final int COUNT = 4;
+
+    /**
+     * The index of this item type, from 0 to <code>COUNT - 1</code>.
+     */
+    private final int ordinal;
+
+    /**
+     * The name of this item type.
+     */
+    private final String name;
+
+    /**
+     * Creates an item of a type.
+     *
+     * @param ordinal The index of the item type.
+     * @param name    The name of the item type.
+     */
+    private Item(int ordinal, String name) {
+        this.ordinal = ordinal;
+        this.name = name;
+    }
 
     /**
      * Potion to heal monsters.
      */
     public static class Potion extends Item {
+        /**
+         * The canonical Potion.
+         */
+        public static final Potion INSTANCE = new Potion();
+
+        /**
+         * Creates a Potion, prefer the canonical <code>INSTANCE</code>.
+         */
+        public Potion() {
+            super(0, "Potion");
+        }
 
         @Override
         public void applyTo(Monster mon) throws NoEffectException {
@@ -51,6 +90,17 @@ public abstract class Item implements Purchasable {
      * Revive to heal fainted monsters.
      */
     public static class Revive extends Item {
+        /**
+         * The canonical Revive.
+         */
+        public static final Revive INSTANCE = new Revive();
+
+        /**
+         * Creates a Revive, prefer the canonical <code>INSTANCE</code>.
+         */
+        public Revive() {
+            super(1, "Revive");
+        }
 
         @Override
         public void applyTo(Monster mon) throws NoEffectException {
@@ -80,6 +130,17 @@ public abstract class Item implements Purchasable {
      * RareCandy to level up a monster.
      */
     public static class RareCandy extends Item {
+        /**
+         * The canonical RareCandy.
+         */
+        public static final RareCandy INSTANCE = new RareCandy();
+
+        /**
+         * Creates a RareCandy, prefer the canonical <code>INSTANCE</code>.
+         */
+        public RareCandy() {
+            super(2, "RareCandy");
+        }
 
         @Override
         public void applyTo(Monster mon) throws NoEffectException {
@@ -106,6 +167,17 @@ public abstract class Item implements Purchasable {
      * FullRestore restores health to full regardless if monster is fainted or not.
      */
     public static class FullRestore extends Item {
+        /**
+         * The canonical FullRestore.
+         */
+        public static final FullRestore INSTANCE = new FullRestore();
+
+        /**
+         * Creates a FullRestore, prefer the canonical <code>INSTANCE</code>.
+         */
+        public FullRestore() {
+            super(3, "FullRestore");
+        }
 
         @Override
         public void applyTo(Monster mon) throws NoEffectException {
@@ -175,7 +247,16 @@ public abstract class Item implements Purchasable {
      */
     @Override
     public String getName() {
-        return this.getClass().getSimpleName();
+        return name;
+    }
+
+    /**
+     * Access the index of this item type.
+     *
+     * @return The ordinal, from 0 to <code>COUNT - 1</code>.
+     */
+    public final int ordinal() {
+        return ordinal;
     }
 
     /**
@@ -192,29 +273,51 @@ public abstract class Item implements Purchasable {
      * @param o The item to be compared to
      * @return A boolean signaling whether the item is identical
      */
+    @Override
     public boolean equals(Object o) {
         if (o instanceof Item item)
-            return this.hashCode() == item.hashCode();
+            return ordinal == item.ordinal;
         return false;
     }
 
     /**
      * The hashcode for the type of item
      *
-     * @return The integer hashed from the type name
+     * @return The ordinal of the item type
      */
     @Override
     public int hashCode() {
-        return Objects.hash(getName());
+        return ordinal;
     }
 
-
     /**
      * All the items possible
      *
-     * @return A list of all unique items
+     * @return A list of the canonical items, in the order of their ordinals
      */
     public static List<Item> all() {
-        return List.of(new Item.Potion(), new Item.Revive(), new Item.RareCandy(), new Item.FullRestore());
+        return Canonical.ALL;
+    }
+
+    /**
+     * The canonical item of a type.
+     *
+     * @param ordinal The ordinal of the item type.
+     * @return The canonical item.
+     * @throws IndexOutOfBoundsException If no item type has that ordinal.
+     */
+    public static Item of(int ordinal) throws IndexOutOfBoundsException {
+        return Canonical.ALL.get(ordinal);
+    }
+
+    /**
+     * Holds the canonical items, apart from <code>Item</code> so that loading it never has to load its subclasses.
+     */
+    private static final class Canonical {
+        /**
+         * The canonical items, in the order of their ordinals.
+         */
+        private static final List<Item> ALL = List.of(
+            Potion.INSTANCE, Revive.INSTANCE, RareCandy.INSTANCE, FullRestore.INSTANCE);
     }
 }
\ No newline at end of file
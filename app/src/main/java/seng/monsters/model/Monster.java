@@ -8,23 +8,31 @@ package seng.monsters.model;
 
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * An entity that can fight in a battle with a variety of stats
  */
-public abstract class Monster implements Purchasable {
+public abstract class Monster implements Purchasable, Cloneable {
     /**
      * A Quacker duck (Jack of all trades).
      */
     public static final class Quacker extends Monster {
+        /**
+         * The stats of every Quacker.
+         */
+        private static final SpeciesStats STATS = SpeciesTable.bundled().get("Quacker");
+
         /**
          * Create a new monster.
          *
          * @param level The current level.
          */
         public Quacker(int level) {
-            super("Quacker", 80, level);
+            super(STATS, STATS.name(), level);
         }
 
         /**
@@ -34,43 +42,7 @@ public abstract class Monster implements Purchasable {
          * @param level The current level.
          */
         public Quacker(String name, int level) {
-            super(name, 80, level);
-        }
-
-        @Override
-        public String description() {
-            return "A Quacker Duck. Jack of all trades.";
-        }
-
-        @Override
-        public int baseDamage() {
-            return 45;
-        }
-
-        @Override
-        public int speed() {
-            return 40;
-        }
-
-        @Override
-        public int healRate() {
-            return 40;
-        }
-
-        @Override
-        public Environment idealEnvironment() {
-            return Environment.HILL;
-        }
-
-        @Override
-        public boolean shouldLevelUp() {
-            return Math.random() <= 0.6;
-        }
-
-        @Override
-        public boolean shouldLeave() {
-            final double line = isFainted() ? 0.25 : 0.01;
-            return Math.random() <= line;
+            super(STATS, name, level);
         }
     }
 
@@ -78,13 +50,18 @@ public abstract class Monster implements Purchasable {
      * A Raver crab (Damage sponge, doesn't fight back well).
      */
     public static final class Raver extends Monster {
+        /**
+         * The stats of every Raver.
+         */
+        private static final SpeciesStats STATS = SpeciesTable.bundled().get("Raver");
+
         /**
          * Create a new monster.
          *
-         * @param level The current level as an int.
+         * @param level The current level.
          */
         public Raver(int level) {
-            super("Raver", 200, level);
+            super(STATS, STATS.name(), level);
         }
 
         /**
@@ -94,43 +71,7 @@ public abstract class Monster implements Purchasable {
          * @param level The current level.
          */
         public Raver(String name, int level) {
-            super(name, 200, level);
-        }
-
-        @Override
-        public String description() {
-            return "A Raver crab. Weak, but tanky.";
-        }
-
-        @Override
-        public int baseDamage() {
-            return 20;
-        }
-
-        @Override
-        public int speed() {
-            return 20;
-        }
-
-        @Override
-        public int healRate() {
-            return 75;
-        }
-
-        @Override
-        public Environment idealEnvironment() {
-            return Environment.DESERT;
-        }
-
-        @Override
-        public boolean shouldLevelUp() {
-            return Math.random() <= 0.4;
-        }
-
-        @Override
-        public boolean shouldLeave() {
-            final double line = isFainted() ? 0.2 : 0.05;
-            return Math.random() <= line;
+            super(STATS, name, level);
         }
     }
 
@@ -138,13 +79,18 @@ public abstract class Monster implements Purchasable {
      * A Tree, that's it (Long lasting, always in full health before battle)
      */
     public static final class Tree extends Monster {
+        /**
+         * The stats of every Tree.
+         */
+        private static final SpeciesStats STATS = SpeciesTable.bundled().get("Tree");
+
         /**
          * Create a new monster.
          *
          * @param level The current level.
          */
         public Tree(int level) {
-            super("Tree", 60, level);
+            super(STATS, STATS.name(), level);
         }
 
         /**
@@ -154,47 +100,7 @@ public abstract class Monster implements Purchasable {
          * @param level The current level.
          */
         public Tree(String name, int level) {
-            super(name, 60, level);
-        }
-
-        @Override
-        public String description() {
-            return "A tree... that's it. Healthy.";
-        }
-
-        @Override
-        public int baseDamage() {
-            return 40;
-        }
-
-        @Override
-        public int speed() {
-            return 40;
-        }
-
-        @Override
-        public int healRate() {
-            return 200;
-        }
-
-        @Override
-        public Environment idealEnvironment() {
-            return Environment.FOREST;
-        }
-
-        @Override
-        public boolean shouldLevelUp() {
-            return !isFainted() || Math.random() <= 0.8;
-        }
-
-        @Override
-        public int sellPrice() {
-            return buyPrice();
-        }
-
-        @Override
-        public boolean shouldLeave() {
-            return Math.random() <= (isFainted() ? 0.05 : 0.01);
+            super(STATS, name, level);
         }
     }
 
@@ -202,13 +108,18 @@ public abstract class Monster implements Purchasable {
      * An eel that can steals health (Heals in battle, but mega slow)
      */
     public static final class Eel extends Monster {
+        /**
+         * The stats of every Eel.
+         */
+        private static final SpeciesStats STATS = SpeciesTable.bundled().get("Eel");
+
         /**
          * Create a new monster.
          *
          * @param level The current level.
          */
         public Eel(int level) {
-            super("Eel", 60, level);
+            super(STATS, STATS.name(), level);
         }
 
         /**
@@ -218,50 +129,7 @@ public abstract class Monster implements Purchasable {
          * @param level The current level.
          */
         public Eel(String name, int level) {
-            super(name, 60, level);
-        }
-
-        @Override
-        public String description() {
-            return "A parasitic eel. Slow but steals health during battle.";
-        }
-
-        @Override
-        public int baseDamage() {
-            return 40;
-        }
-
-        @Override
-        public int speed() {
-            return 10;
-        }
-
-        @Override
-        public int healRate() {
-            return 50;
-        }
-
-        @Override
-        public int damage(Environment env) {
-            // Calls healSelf method for life steal
-            final int res = super.damage(env);
-            healSelf(res / 5);
-            return res;
-        }
-
-        @Override
-        public Environment idealEnvironment() {
-            return Environment.URBAN;
-        }
-
-        @Override
-        public boolean shouldLevelUp() {
-            return Math.random() <= 0.4;
-        }
-
-        @Override
-        public boolean shouldLeave() {
-            return Math.random() <= (isFainted() ? 0.25 : 0.01);
+            super(STATS, name, level);
         }
     }
 
@@ -269,13 +137,18 @@ public abstract class Monster implements Purchasable {
      * A speedy boy (Fast, hits pretty good, but might die afterward)
      */
     public static final class Doger extends Monster {
+        /**
+         * The stats of every Doger.
+         */
+        private static final SpeciesStats STATS = SpeciesTable.bundled().get("Doger");
+
         /**
          * Create a new monster.
          *
          * @param level The current level.
          */
         public Doger(int level) {
-            super("Doger", 40, level);
+            super(STATS, STATS.name(), level);
         }
 
         /**
@@ -285,42 +158,7 @@ public abstract class Monster implements Purchasable {
          * @param level The current level.
          */
         public Doger(String name, int level) {
-            super(name, 40, level);
-        }
-
-        @Override
-        public String description() {
-            return "A very speedy boy. Glass cannon.";
-        }
-
-        @Override
-        public int baseDamage() {
-            return 80;
-        }
-
-        @Override
-        public int speed() {
-            return 100;
-        }
-
-        @Override
-        public int healRate() {
-            return 10;
-        }
-
-        @Override
-        public Environment idealEnvironment() {
-            return Environment.URBAN;
-        }
-
-        @Override
-        public boolean shouldLevelUp() {
-            return Math.random() <= 0.5;
-        }
-
-        @Override
-        public boolean shouldLeave() {
-            return Math.random() <= (isFainted() ? 0.25 : 0.01);
+            super(STATS, name, level);
         }
     }
 
@@ -328,13 +166,18 @@ public abstract class Monster implements Purchasable {
      * Definitely a shark (Hit hard, if it doesn't die first)
      */
     public static final class Shark extends Monster {
+        /**
+         * The stats of every Shark.
+         */
+        private static final SpeciesStats STATS = SpeciesTable.bundled().get("Shark");
+
         /**
          * Create a new monster.
          *
          * @param level The current level.
          */
         public Shark(int level) {
-            super("Shark", 50, level);
+            super(STATS, STATS.name(), level);
         }
 
         /**
@@ -344,49 +187,80 @@ public abstract class Monster implements Purchasable {
          * @param level The current level.
          */
         public Shark(String name, int level) {
-            super(name, 50, level);
+            super(STATS, name, level);
         }
+    }
 
-        @Override
-        public String description() {
-            return "Definitely a shark. Jacked, but that's it.";
+    /**
+     * A monster of any species defined only by its stats, such as one loaded from an external species table.
+     */
+    public static final class Generic extends Monster {
+        /**
+         * Create a new monster.
+         *
+         * @param stats The stats of its species.
+         * @param level The current level.
+         */
+        public Generic(SpeciesStats stats, int level) {
+            super(stats, stats.name(), level);
         }
 
-        @Override
-        public int baseDamage() {
-            return 120;
+        /**
+         * Create a new monster with a name.
+         *
+         * @param stats The stats of its species.
+         * @param name  The name of the monster.
+         * @param level The current level.
+         */
+        public Generic(SpeciesStats stats, String name, int level) {
+            super(stats, name, level);
         }
+    }
 
-        @Override
-        public int speed() {
-            return 20;
-        }
+    /**
+     * The random offset of every id given out in this session, so ids from other sessions are unlikely to clash.
+     */
+    private static final long SESSION = ThreadLocalRandom.current().nextLong();
 
-        @Override
-        public int healRate() {
-            return 20;
-        }
+    /**
+     * The sequence numbering the monsters of this session, added to the offset so ids only repeat after 2^64 monsters.
+     */
+    private static final AtomicLong SEQUENCE = new AtomicLong();
 
-        @Override
-        public Environment idealEnvironment() {
-            return Environment.BEACH;
-        }
+    /**
+     * The least significant bits of every UUID derived from an id, telling them apart from any other UUID.
+     */
+    private static final long UUID_MARKER = 0x6D6F6E7374657273L;
 
-        @Override
-        public boolean shouldLevelUp() {
-            return Math.random() <= 0.5;
-        }
+    /**
+     * The odd multiplier scrambling an id into the most significant bits of its UUID.
+     */
+    private static final long UUID_SCRAMBLE = 0x9E3779B97F4A7C15L;
 
-        @Override
-        public boolean shouldLeave() {
-            return Math.random() <= (isFainted() ? 0.25 : 0.01);
-        }
-    }
+    /**
+     * The inverse of <code>UUID_SCRAMBLE</code> modulo 2^64, recovering an id from its UUID.
+     */
+    private static final long UUID_UNSCRAMBLE = 0xF1DE83E19937733DL;
 
     /**
      * Unique id of the monster.
      */
-    private final UUID id = UUID.randomUUID();
+    private long id = SESSION + SEQUENCE.incrementAndGet();
+
+    /**
+     * The UUID of the monster, only derived from the id once it is asked for.
+     */
+    private UUID uuid = null;
+
+    /**
+     * The stats shared by the monster's species, or null if the subclass gives its own.
+     */
+    private final SpeciesStats stats;
+
+    /**
+     * The special behaviours of the monster's species, see <code>SpeciesStats</code>.
+     */
+    private final int flags;
 
     /**
      * The name of the monster.
@@ -409,60 +283,165 @@ public abstract class Monster implements Purchasable {
     private int baseHp;
 
     /**
-     * Create a new monster.
+     * The cached max hp for the current level and base hp.
+     */
+    private int maxHp;
+
+    /**
+     * The cached damage scaled by the current level, only for monsters with species stats.
+     */
+    private int scaledDamage;
+
+    /**
+     * The cached damage scaled by the current level in the ideal environment, only for monsters with species stats.
+     */
+    private int idealDamage;
+
+    /**
+     * The cached buy price for the current level and base hp, only for monsters with species stats.
+     */
+    private int buyPrice;
+
+    /**
+     * Create a new monster whose subclass gives all of its own stats,
+     * overriding <code>description</code>, <code>baseDamage</code>, <code>speed</code>, <code>healRate</code>,
+     * <code>idealEnvironment</code>, <code>shouldLevelUp</code>, and <code>shouldLeave</code>.
      *
      * @param name   The name of the monster.
      * @param baseHp The base hp.
      * @param level  The current level.
      */
     public Monster(String name, int baseHp, int level) {
+        this(null, name, baseHp, level);
+    }
+
+    /**
+     * Create a new monster of a species.
+     *
+     * @param stats The stats shared by the species.
+     * @param name  The name of the monster.
+     * @param level The current level.
+     */
+    protected Monster(SpeciesStats stats, String name, int level) {
+        this(stats, name, stats.baseHp(), level);
+    }
+
+    /**
+     * Create a new monster.
+     *
+     * @param stats  The stats shared by the species, or null if the subclass gives its own.
+     * @param name   The name of the monster.
+     * @param baseHp The base hp.
+     * @param level  The current level.
+     */
+    private Monster(SpeciesStats stats, String name, int baseHp, int level) {
+        this.stats = stats;
+        this.flags = stats != null ? stats.flags() : 0;
         this.name = name;
         this.level = level;
         this.baseHp = baseHp;
+        refreshStats();
         this.currentHp = maxHp();
     }
 
+    /**
+     * Get the stats shared by the monster's species.
+     *
+     * @return The species stats.
+     * @throws IllegalStateException If the subclass gives its own stats but did not override the method asking.
+     */
+    private SpeciesStats stats() throws IllegalStateException {
+        if (stats == null)
+            // Error if a subclass without species stats left a stat out
+            throw new IllegalStateException(getClass().getName() + " must override all the species stats");
+        return stats;
+    }
+
+    /**
+     * Get the stats shared by the monster's species.
+     *
+     * @return The species stats, or empty if the subclass gives its own.
+     */
+    public Optional<SpeciesStats> getSpeciesStats() {
+        return Optional.ofNullable(stats);
+    }
+
     /**
      * The base damage output of this monster on level 1.
      *
      * @return The monster's base damage.
      */
-    public abstract int baseDamage();
+    public int baseDamage() {
+        return stats().baseDamage();
+    }
 
     /**
      * The speed used to determine the which monster attack first.
      *
      * @return The monster's speed.
      */
-    public abstract int speed();
+    public int speed() {
+        return stats().speed();
+    }
 
     /**
      * The amount of health point healed overnight for this monster.
      *
      * @return The monsters healrate.
      */
-    public abstract int healRate();
+    public int healRate() {
+        return stats().healRate();
+    }
 
     /**
      * The preferred environment which gives an attack bonus.
      *
      * @return The monster's preferred environment.
      */
-    public abstract Environment idealEnvironment();
+    public Environment idealEnvironment() {
+        return stats().idealEnvironment();
+    }
 
     /**
      * The randomized chance for the monster to level up overnight.
      *
+     * @param rng The random source for the chance.
      * @return A boolean for whether the monster should level up.
      */
-    public abstract boolean shouldLevelUp();
+    public boolean shouldLevelUp(RandomSource rng) {
+        if ((flags & SpeciesStats.LEVELS_UP_HEALTHY) != 0 && !isFainted())
+            return true;
+        return rng.nextDouble() <= stats().levelUpChance();
+    }
 
     /**
      * The randomized chance for the monster to leave overnight.
      *
+     * @param rng The random source for the chance.
      * @return A boolean for whether the monster should leave.
      */
-    public abstract boolean shouldLeave();
+    public boolean shouldLeave(RandomSource rng) {
+        final SpeciesStats stats = stats();
+        return rng.nextDouble() <= (isFainted() ? stats.faintedLeaveChance() : stats.leaveChance());
+    }
+
+    /**
+     * The randomized chance for the monster to level up overnight, using the random source of the calling thread.
+     *
+     * @return A boolean for whether the monster should level up.
+     */
+    public boolean shouldLevelUp() {
+        return shouldLevelUp(RandomSource.current());
+    }
+
+    /**
+     * The randomized chance for the monster to leave overnight, using the random source of the calling thread.
+     *
+     * @return A boolean for whether the monster should leave.
+     */
+    public boolean shouldLeave() {
+        return shouldLeave(RandomSource.current());
+    }
 
     /**
      * The type of monster.
@@ -470,7 +449,7 @@ public abstract class Monster implements Purchasable {
      * @return The type of monster as a string.
      */
     public String monsterType() {
-        return this.getClass().getSimpleName();
+        return stats != null ? stats.name() : this.getClass().getSimpleName();
     }
 
     /**
@@ -479,9 +458,48 @@ public abstract class Monster implements Purchasable {
      * @return A level scaled multiplier.
      */
     private double multiplier() {
+        if (level >= 1 && level < MULTIPLIERS.length)
+            return MULTIPLIERS[level];
         return Math.pow(1.1, this.level - 1);
     }
 
+    /**
+     * Recompute the cached stats, which needs to be called whenever the level or base hp changes.
+     */
+    private void refreshStats() {
+        final double multiplier = multiplier();
+        this.maxHp = (int) Math.min(Integer.MAX_VALUE - 1, this.baseHp * multiplier);
+        if (stats == null)
+            // A subclass giving its own stats may read its own fields, which are not set yet while constructing
+            return;
+        this.scaledDamage = computeDamage(multiplier);
+        this.idealDamage = computeDamage(multiplier * 1.5);
+        this.buyPrice = computeBuyPrice(multiplier);
+    }
+
+    /**
+     * Computes the damage for a multiplier.
+     *
+     * @param multiplier The level multiplier, including any environment boost.
+     * @return The damage as an int.
+     */
+    private int computeDamage(double multiplier) {
+        return (int) Math.min(Integer.MAX_VALUE - 1, baseDamage() * multiplier);
+    }
+
+    /**
+     * Computes the cost to buy this monster for a multiplier.
+     *
+     * @param multiplier The level multiplier.
+     * @return The price as an int.
+     */
+    private int computeBuyPrice(double multiplier) {
+        return (int) Math.min(
+            Integer.MAX_VALUE - 1,
+            (baseHp + baseDamage() + healRate() + speed()) * multiplier
+        );
+    }
+
     /**
      * Increase the level of the monster.
      */
@@ -489,6 +507,7 @@ public abstract class Monster implements Purchasable {
         // Calculate current hp percentage to maintain the sam percentage after level up.
         final int hpPercentage = this.currentHp * 100 / maxHp();
         level += 1;
+        refreshStats();
         this.currentHp = hpPercentage * maxHp() / 100;
     }
 
@@ -535,19 +554,47 @@ public abstract class Monster implements Purchasable {
         if (baseHp < 0)
             return;
         this.baseHp = baseHp;
+        refreshStats();
         if (this.currentHp > maxHp()) {
             this.currentHp = maxHp();
         }
     }
 
 
+    /**
+     * Get the base hp, which is the max hp at level 1.
+     *
+     * @return The base hp as an int.
+     */
+    int getBaseHp() {
+        return baseHp;
+    }
+
+    /**
+     * Restore the id and hp of the monster.
+     * <b>(Internal code, for snapshots)</b>
+     *
+     * @param id        The UUID of the monster, or null to keep the current one.
+     * @param baseHp    The base hp.
+     * @param currentHp The current hp, capped at the max hp.
+     */
+    void restore(UUID id, int baseHp, int currentHp) {
+        if (id != null) {
+            this.id = sequenceIdOf(id);
+            this.uuid = id;
+        }
+        this.baseHp = baseHp;
+        refreshStats();
+        this.currentHp = Math.max(0, Math.min(currentHp, maxHp()));
+    }
+
     /**
      * Computes and returns the maximum hp for this level.
      *
      * @return The max hp as an int.
      */
     public int maxHp() {
-        return (int) Math.min(Integer.MAX_VALUE - 1, this.baseHp * multiplier());
+        return maxHp;
     }
 
     /**
@@ -556,11 +603,7 @@ public abstract class Monster implements Purchasable {
      * @return The scaled damage as an int.
      */
     public int scaledDamage() {
-        final double res = Math.min(
-            Integer.MAX_VALUE - 1,
-            baseDamage() * multiplier()
-        );
-        return (int) res;
+        return stats != null ? scaledDamage : computeDamage(multiplier());
     }
 
     /**
@@ -570,12 +613,35 @@ public abstract class Monster implements Purchasable {
      * @return The damage taking account the environment boost as an int.
      */
     public int damage(Environment env) {
-        final double envMultiplier = env == idealEnvironment() ? 1.5 : 1;
-        final double res = Math.min(
-            Integer.MAX_VALUE - 1,
-            baseDamage() * multiplier() * envMultiplier
-        );
-        return (int) res;
+        final int res = attackDamage(env);
+        if ((flags & SpeciesStats.LIFESTEAL) != 0)
+            // Life steal heals after the attack
+            healSelf(attackHeal(env));
+        return res;
+    }
+
+    /**
+     * Computes and returns the damage depending on the environment, without triggering any effect on attack.
+     *
+     * @param env The environment enum of the battlefield.
+     * @return The damage taking account the environment boost as an int.
+     */
+    public int attackDamage(Environment env) {
+        final boolean isIdeal = env == idealEnvironment();
+        if (stats == null)
+            // The stats of a subclass can change at any time, so they are never cached
+            return computeDamage(isIdeal ? multiplier() * 1.5 : multiplier());
+        return isIdeal ? idealDamage : scaledDamage;
+    }
+
+    /**
+     * The amount of hp this monster heals itself whenever it attacks.
+     *
+     * @param env The environment enum of the battlefield.
+     * @return The amount healed on each attack as an int.
+     */
+    public int attackHeal(Environment env) {
+        return (flags & SpeciesStats.LIFESTEAL) != 0 ? attackDamage(env) / 5 : 0;
     }
 
     /**
@@ -597,11 +663,7 @@ public abstract class Monster implements Purchasable {
      */
     @Override
     public int buyPrice() {
-        final double basePrice = Math.min(
-            Integer.MAX_VALUE - 1,
-            (baseHp + baseDamage() + healRate() + speed()) * multiplier()
-        );
-        return (int) basePrice;
+        return stats != null ? buyPrice : computeBuyPrice(multiplier());
     }
 
     /**
@@ -611,7 +673,7 @@ public abstract class Monster implements Purchasable {
      */
     @Override
     public int sellPrice() {
-        return buyPrice() / 2;
+        return (flags & SpeciesStats.SELLS_AT_BUY_PRICE) != 0 ? buyPrice() : buyPrice() / 2;
     }
 
     /**
@@ -620,7 +682,9 @@ public abstract class Monster implements Purchasable {
      * @return The description of the monster.
      */
     @Override
-    public abstract String description();
+    public String description() {
+        return stats().description();
+    }
 
     /**
      * Get the current level.
@@ -650,11 +714,35 @@ public abstract class Monster implements Purchasable {
     }
 
     /**
-     * Get the id.
+     * Get the id as a UUID, derived from the numeric id the first time it is asked for.
      *
      * @return The id of the monster.
      */
     public UUID getId() {
+        if (uuid == null)
+            uuid = new UUID(id * UUID_SCRAMBLE, UUID_MARKER);
+        return uuid;
+    }
+
+    /**
+     * Get the numeric id a monster with a UUID has.
+     * A UUID derived from an id gives that id back, any other UUID is folded into a stable id so it restores the same every time.
+     *
+     * @param uuid The UUID of a monster.
+     * @return The numeric id of the monster.
+     */
+    static long sequenceIdOf(UUID uuid) {
+        if (uuid.getLeastSignificantBits() == UUID_MARKER)
+            return uuid.getMostSignificantBits() * UUID_UNSCRAMBLE;
+        return uuid.getMostSignificantBits() ^ uuid.getLeastSignificantBits();
+    }
+
+    /**
+     * Get the numeric id, unique among all monsters of this session.
+     *
+     * @return The numeric id of the monster.
+     */
+    public long getSequenceId() {
         return id;
     }
 
@@ -664,12 +752,37 @@ public abstract class Monster implements Purchasable {
      * @param other The other monster to compare with.
      * @return A boolean whether the monster is the same.
      */
+    @Override
     public boolean equals(Object other) {
         if (other instanceof Monster mon)
-            return this.getId().equals(mon.getId());
+            return id == mon.id;
         return false;
     }
 
+    /**
+     * The hashcode of the monster, from its id.
+     *
+     * @return The hash of the numeric id.
+     */
+    @Override
+    public int hashCode() {
+        return Long.hashCode(id);
+    }
+
+    /**
+     * Create an independent copy of this monster with the same id, name, level, and hp.
+     *
+     * @return A copy of the monster that can be damaged without affecting the original.
+     */
+    public Monster copy() {
+        try {
+            return (Monster) super.clone();
+        } catch (CloneNotSupportedException e) {
+            // Unreachable as Monster implements Cloneable
+            throw new IllegalStateException(e);
+        }
+    }
+
     /**
      * Gives a combination of name and id to create a unique identifier that still recognizable by name.
      *
@@ -682,6 +795,17 @@ public abstract class Monster implements Purchasable {
         );
     }
 
+    /**
+     * The level multipliers <code>1.1^(level - 1)</code> precomputed for the common levels, indexed by level.
+     */
+    private static final double[] MULTIPLIERS = new double[256];
+
+    static {
+        for (int level = 1; level < MULTIPLIERS.length; level++) {
+            MULTIPLIERS[level] = Math.pow(1.1, level - 1);
+        }
+    }
+
     /**
      * Get all types of monster with a specific level.
      *
@@ -689,13 +813,11 @@ public abstract class Monster implements Purchasable {
      * @return A list of unique monsters set to the level given.
      */
     public static List<Monster> all(int level) {
-        return List.of(
-            new Monster.Quacker(level),
-            new Monster.Raver(level),
-            new Monster.Tree(level),
-            new Monster.Eel(level),
-            new Monster.Doger(level),
-            new Monster.Shark(level)
-        );
+        final MonsterSpecies[] species = MonsterSpecies.values();
+        final Monster[] res = new Monster[species.length];
+        for (int i = 0; i < species.length; i++) {
+            res[i] = species[i].create(level);
+        }
+        return List.of(res);
     }
 }
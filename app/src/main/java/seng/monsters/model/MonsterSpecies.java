@@ -0,0 +1,250 @@
+package seng.monsters.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.IntFunction;
+
+/**
+ * The registry of every type of monster, each with a factory to create only the monster needed.
+ * The order of the species is their tag, and the order <code>Monster.all</code> lists them in.
+ */
+public enum MonsterSpecies {
+    /**
+     * The Quacker duck.
+     */
+    QUACKER(Monster.Quacker.class, Monster.Quacker::new, Monster.Quacker::new),
+
+    /**
+     * The Raver crab.
+     */
+    RAVER(Monster.Raver.class, Monster.Raver::new, Monster.Raver::new),
+
+    /**
+     * The Tree.
+     */
+    TREE(Monster.Tree.class, Monster.Tree::new, Monster.Tree::new),
+
+    /**
+     * The Eel.
+     */
+    EEL(Monster.Eel.class, Monster.Eel::new, Monster.Eel::new),
+
+    /**
+     * The Doger dog.
+     */
+    DOGER(Monster.Doger.class, Monster.Doger::new, Monster.Doger::new),
+
+    /**
+     * The Shark.
+     */
+    SHARK(Monster.Shark.class, Monster.Shark::new, Monster.Shark::new);
+
+    /**
+     * Every species, in the order of their tags.
+     */
+    private static final MonsterSpecies[] VALUES = values();
+
+    /**
+     * The sampler picking every species with the same chance.
+     */
+    private static final Sampler UNIFORM = weighted(1, 1, 1, 1, 1, 1);
+
+    /**
+     * The class of the monsters of this species.
+     */
+    private final Class<? extends Monster> type;
+
+    /**
+     * The factory of a monster with the default name.
+     */
+    private final IntFunction<Monster> factory;
+
+    /**
+     * The factory of a monster with a custom name.
+     */
+    private final BiFunction<String, Integer, Monster> namedFactory;
+
+    /**
+     * The stats shared by the monsters of this species.
+     */
+    private final SpeciesStats stats;
+
+    /**
+     * Register a species.
+     *
+     * @param type         The class of the monsters.
+     * @param factory      The factory of a monster with the default name.
+     * @param namedFactory The factory of a monster with a custom name.
+     */
+    MonsterSpecies(Class<? extends Monster> type, IntFunction<Monster> factory, BiFunction<String, Integer, Monster> namedFactory) {
+        this.type = type;
+        this.factory = factory;
+        this.namedFactory = namedFactory;
+        this.stats = SpeciesTable.bundled().get(type.getSimpleName());
+    }
+
+    /**
+     * Get the stats shared by the monsters of this species.
+     *
+     * @return The species stats.
+     */
+    public SpeciesStats stats() {
+        return stats;
+    }
+
+    /**
+     * Create a monster of this species.
+     *
+     * @param level The level of the monster.
+     * @return A new monster at full hp.
+     */
+    public Monster create(int level) {
+        return factory.apply(level);
+    }
+
+    /**
+     * Create a monster of this species with a name.
+     *
+     * @param name  The name of the monster, or null for the default name.
+     * @param level The level of the monster.
+     * @return A new monster at full hp.
+     */
+    public Monster create(String name, int level) {
+        return name == null ? factory.apply(level) : namedFactory.apply(name, level);
+    }
+
+    /**
+     * Get the species of a monster.
+     *
+     * @param mon The monster.
+     * @return The species of the monster.
+     * @throws IllegalArgumentException If the monster is not of any registered species.
+     */
+    public static MonsterSpecies of(Monster mon) throws IllegalArgumentException {
+        for (final MonsterSpecies species : VALUES) {
+            if (species.type == mon.getClass())
+                return species;
+        }
+        throw new IllegalArgumentException("Unknown monster type " + mon.getClass().getSimpleName());
+    }
+
+    /**
+     * Get a species by its tag.
+     *
+     * @param tag The tag of the species.
+     * @return The species.
+     * @throws IndexOutOfBoundsException If no species has that tag.
+     */
+    public static MonsterSpecies of(int tag) throws IndexOutOfBoundsException {
+        return VALUES[tag];
+    }
+
+    /**
+     * Get the sampler picking every species with the same chance.
+     *
+     * @return The uniform sampler.
+     */
+    public static Sampler uniform() {
+        return UNIFORM;
+    }
+
+    /**
+     * Creates a sampler picking each species in proportion to its weight.
+     *
+     * @param weights The weight of each species, in the order of their tags.
+     * @return The weighted sampler.
+     * @throws IllegalArgumentException If there is not one weight per species, a weight is negative, or all are zero.
+     */
+    public static Sampler weighted(int... weights) throws IllegalArgumentException {
+        return new Sampler(weights);
+    }
+
+    /**
+     * A distribution of the levels of generated monsters.
+     */
+    @FunctionalInterface
+    public interface LevelDistribution {
+        /**
+         * Draw the level of the next monster.
+         *
+         * @param rng The random source to draw from.
+         * @return The level.
+         */
+        int nextLevel(RandomSource rng);
+    }
+
+    /**
+     * Picks random species by weight, creating only the monsters picked.
+     */
+    public static final class Sampler {
+        /**
+         * The running total of the weights, in the order of the species tags.
+         */
+        private final int[] cumulative;
+
+        /**
+         * Creates a weighted sampler.
+         *
+         * @param weights The weight of each species, in the order of their tags.
+         * @throws IllegalArgumentException If there is not one weight per species, a weight is negative, or all are zero.
+         */
+        private Sampler(int[] weights) throws IllegalArgumentException {
+            if (weights.length != VALUES.length)
+                // Error if the weights do not line up with the species
+                throw new IllegalArgumentException("Expected " + VALUES.length + " weights, got " + weights.length);
+
+            cumulative = new int[weights.length];
+            int total = 0;
+            for (int i = 0; i < weights.length; i++) {
+                if (weights[i] < 0)
+                    // Error if a species would have a negative chance
+                    throw new IllegalArgumentException("Weights cannot be negative");
+                total = Math.addExact(total, weights[i]);
+                cumulative[i] = total;
+            }
+            if (total == 0)
+                // Error if no species could ever be picked
+                throw new IllegalArgumentException("At least one weight must be positive");
+        }
+
+        /**
+         * Pick a random species.
+         * With equal weights, this draws a single <code>nextInt</code> of the amount of species.
+         *
+         * @param rng The random source to draw from.
+         * @return The species picked.
+         */
+        public MonsterSpecies sample(RandomSource rng) {
+            final int target = rng.nextInt(cumulative[cumulative.length - 1]);
+            int low = 0;
+            int high = cumulative.length - 1;
+            // The first species whose running total is above the target
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (cumulative[mid] > target)
+                    high = mid;
+                else
+                    low = mid + 1;
+            }
+            return VALUES[low];
+        }
+
+        /**
+         * Generate random monsters, drawing the level then the species of each one in turn.
+         *
+         * @param count  The amount of monsters.
+         * @param levels The distribution of their levels.
+         * @param rng    The random source to draw from.
+         * @return The new monsters, in the order they were generated.
+         */
+        public List<Monster> generate(int count, LevelDistribution levels, RandomSource rng) {
+            final ArrayList<Monster> res = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                final int level = levels.nextLevel(rng);
+                res.add(sample(rng).create(level));
+            }
+            return res;
+        }
+    }
+}
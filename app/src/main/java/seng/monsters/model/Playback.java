@@ -0,0 +1,79 @@
+package seng.monsters.model;
+
+/**
+ * <p>
+ * The speed a battle is played back at, as the amount of iterations done on each tick of the UI.
+ * </p>
+ */
+public enum Playback {
+    /**
+     * One iteration per tick.
+     */
+    NORMAL("1x", 1),
+
+    /**
+     * Two iterations per tick.
+     */
+    DOUBLE("2x", 2),
+
+    /**
+     * Eight iterations per tick.
+     */
+    FAST("8x", 8),
+
+    /**
+     * The whole battle at once, still showing every event.
+     */
+    INSTANT("Instant", Integer.MAX_VALUE);
+
+    /**
+     * The name shown to the user.
+     */
+    private final String label;
+
+    /**
+     * The amount of iterations done on each tick.
+     */
+    private final int iterationsPerTick;
+
+    /**
+     * Creates a playback speed.
+     *
+     * @param label             The name shown to the user.
+     * @param iterationsPerTick The amount of iterations done on each tick.
+     */
+    Playback(String label, int iterationsPerTick) {
+        this.label = label;
+        this.iterationsPerTick = iterationsPerTick;
+    }
+
+    /**
+     * Get the amount of iterations done on each tick.
+     *
+     * @return The amount of iterations.
+     */
+    public int iterationsPerTick() {
+        return iterationsPerTick;
+    }
+
+    /**
+     * Play a tick of the battle at this speed.
+     *
+     * @param battle The battle.
+     */
+    public void tick(BattleManager battle) {
+        if (this == INSTANT) {
+            // Jump straight from event to event instead of moving the attacks
+            battle.resolve();
+            return;
+        }
+        for (int i = 0; i < iterationsPerTick && !battle.isSettled(); i++) {
+            battle.nextIteration();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
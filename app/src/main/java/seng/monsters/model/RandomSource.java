@@ -0,0 +1,142 @@
+package seng.monsters.model;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <p>
+ * A source of randomness used throughout the game logic.
+ * A source is not thread-safe, each thread or session should use its own source, which can be made using <code>split()</code>.
+ * </p>
+ */
+public interface RandomSource {
+    /**
+     * A random source backed by a <code>SplittableRandom</code> stream.
+     */
+    final class Splittable implements RandomSource {
+        /**
+         * The underlying random stream.
+         */
+        private final SplittableRandom random;
+
+        /**
+         * Creates a random source from a stream.
+         *
+         * @param random The underlying random stream.
+         */
+        private Splittable(SplittableRandom random) {
+            this.random = random;
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            return random.nextInt(bound);
+        }
+
+        @Override
+        public double nextDouble() {
+            return random.nextDouble();
+        }
+
+        @Override
+        public long nextLong() {
+            return random.nextLong();
+        }
+
+        @Override
+        public RandomSource split() {
+            return new Splittable(random.split());
+        }
+    }
+
+    /**
+     * A random source backed by the <code>ThreadLocalRandom</code> of the calling thread.
+     */
+    final class Current implements RandomSource {
+        /**
+         * The single instance, as the state lives in the calling thread.
+         */
+        private static final Current INSTANCE = new Current();
+
+        private Current() {
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            return ThreadLocalRandom.current().nextInt(bound);
+        }
+
+        @Override
+        public double nextDouble() {
+            return ThreadLocalRandom.current().nextDouble();
+        }
+
+        @Override
+        public long nextLong() {
+            return ThreadLocalRandom.current().nextLong();
+        }
+
+        @Override
+        public RandomSource split() {
+            return seeded(nextLong());
+        }
+    }
+
+    /**
+     * Get a random integer.
+     *
+     * @param bound The upper bound (exclusive), must be positive.
+     * @return A random integer between zero (inclusive) and the bound (exclusive).
+     */
+    int nextInt(int bound);
+
+    /**
+     * Get a random double.
+     *
+     * @return A random double between zero (inclusive) and one (exclusive).
+     */
+    double nextDouble();
+
+    /**
+     * Get a random long.
+     *
+     * @return A random long.
+     */
+    long nextLong();
+
+    /**
+     * Create a new independent source from this one, e.g. for another thread.
+     * Splitting a seeded source always gives the same new source.
+     *
+     * @return A new random source.
+     */
+    RandomSource split();
+
+    /**
+     * Create a new random source with an unpredictable seed.
+     *
+     * @return A new random source.
+     */
+    static RandomSource create() {
+        return new Splittable(new SplittableRandom());
+    }
+
+    /**
+     * Create a new random source that always gives the same sequence for the same seed.
+     *
+     * @param seed The seed for the source.
+     * @return A new random source.
+     */
+    static RandomSource seeded(long seed) {
+        return new Splittable(new SplittableRandom(seed));
+    }
+
+    /**
+     * Get the random source of the calling thread, for calls made outside a game session.
+     *
+     * @return The random source of the calling thread.
+     */
+    static RandomSource current() {
+        return Current.INSTANCE;
+    }
+}
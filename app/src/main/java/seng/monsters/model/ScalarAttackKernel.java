@@ -0,0 +1,102 @@
+package seng.monsters.model;
+
+/**
+ * The attack step as a plain loop over the lanes, available on every runtime.
+ */
+final class ScalarAttackKernel implements AttackKernel {
+    /**
+     * The shared kernel, as it holds no state.
+     */
+    static final ScalarAttackKernel INSTANCE = new ScalarAttackKernel();
+
+    /**
+     * Flips the counter into a second, independent draw for the low half of a wide roll.
+     */
+    private static final int WIDE_SALT = 0x5BD1E995;
+
+    /**
+     * Creates the scalar kernel.
+     */
+    private ScalarAttackKernel() {
+    }
+
+    @Override
+    public int attack(BattleBatch.Lanes lanes, int count) {
+        return attack(lanes, 0, count, 0);
+    }
+
+    /**
+     * Make one attack on a range of lanes, also used by other kernels for the lanes they cannot take.
+     *
+     * @param lanes   The lanes of the unsettled battles.
+     * @param from    The first lane, inclusive.
+     * @param to      The last lane, exclusive.
+     * @param fainted The amount of fainted lanes already listed in this step.
+     * @return The amount of fainted lanes listed in this step, including the ones in the range.
+     */
+    static int attack(BattleBatch.Lanes lanes, int from, int to, int fainted) {
+        for (int i = from; i < to; i++) {
+            final int counter = lanes.counter[i] + GOLDEN;
+            lanes.counter[i] = counter;
+            final boolean isPlayer = lanes.playerTurn[i] != 0;
+
+            int atkHp = isPlayer ? lanes.playerHp[i] : lanes.enemyHp[i];
+            int defHp = isPlayer ? lanes.enemyHp[i] : lanes.playerHp[i];
+            final int atkHeal = isPlayer ? lanes.playerHeal[i] : lanes.enemyHeal[i];
+            final int atkMax = isPlayer ? lanes.playerMax[i] : lanes.enemyMax[i];
+            final int atkLow = isPlayer ? lanes.playerLow[i] : lanes.enemyLow[i];
+            final int atkSpan = isPlayer ? lanes.playerSpan[i] : lanes.enemySpan[i];
+
+            atkHp = Math.min(atkHp + atkHeal, atkMax);
+            final int roll = atkSpan <= MAX_SPAN ? roll(mix(counter), atkSpan) : wideRoll(counter, atkSpan);
+            defHp = Math.max(defHp - (roll + atkLow), 0);
+
+            lanes.playerHp[i] = isPlayer ? atkHp : defHp;
+            lanes.enemyHp[i] = isPlayer ? defHp : atkHp;
+            if (defHp == 0)
+                lanes.fainted[fainted++] = i;
+            else
+                lanes.playerTurn[i] ^= 1;
+        }
+        return fainted;
+    }
+
+    /**
+     * Scramble a counter into uniformly distributed bits, the finaliser of MurmurHash3.
+     *
+     * @param counter The counter of the lane.
+     * @return The random bits.
+     */
+    static int mix(int counter) {
+        int z = counter;
+        z = (z ^ (z >>> 16)) * 0x85EBCA6B;
+        z = (z ^ (z >>> 13)) * 0xC2B2AE35;
+        return z ^ (z >>> 16);
+    }
+
+    /**
+     * Map random bits onto <code>[0, span)</code> by the high half of their product, split in 16 bit halves to stay in ints.
+     *
+     * @param bits The random bits.
+     * @param span The size of the range, at most <code>MAX_SPAN</code>.
+     * @return The roll.
+     */
+    static int roll(int bits, int span) {
+        final int high = (bits >>> 16) * span;
+        final int low = ((bits & 0xFFFF) * span) >>> 16;
+        return (high + low) >>> 16;
+    }
+
+    /**
+     * Map 64 random bits onto <code>[0, span)</code>, for the ranges too wide for <code>roll</code> to stay close to uniform.
+     *
+     * @param counter The counter of the lane.
+     * @param span    The size of the range.
+     * @return The roll.
+     */
+    static int wideRoll(int counter, int span) {
+        final long bits = ((long) mix(counter) << 32) | (mix(counter ^ WIDE_SALT) & 0xFFFFFFFFL);
+        // The high half of the unsigned product
+        return (int) (Math.multiplyHigh(bits, span) + ((bits >> 63) & span));
+    }
+}
@@ -26,14 +26,19 @@ public final class Shop {
     }
 
     /**
-     * The item stock in a form of counters.
+     * The item stock in a form of counters, indexed by the item's ordinal.
      */
-    private final Map<Item, Integer> itemStock = new HashMap<>();
+    private final int[] itemStock = new int[Item.COUNT];
 
     /**
-     * The monsters available to purchase.
+     * The monsters available to purchase, kept in the order they were stocked.
      */
-    private final Map<UUID, Monster> monsterStock = new HashMap<>();
+    private final Map<Long, Monster> monsterStock = new LinkedHashMap<>();
+
+    /**
+     * The monsters in stock as an immutable list, only rebuilt when the stock changes.
+     */
+    private List<Monster> monsterSnapshot = List.of();
 
     /**
      * The game manager.
@@ -64,25 +69,23 @@ public final class Shop {
 
         // Item is being purchased
         if (purchasable instanceof Item item) {
-            final int stock = itemStock
-                .getOrDefault(item, 0);
-
-            if (stock <= 0)
+            if (itemStock[item.ordinal()] <= 0)
                 // Error if the shop has no stock of that item
                 throw new NotInStockException();
 
-            itemStock.put(item, stock - 1);
+            itemStock[item.ordinal()]--;
 
         // Monster is being purchased
         } else if (purchasable instanceof Monster monster) {
             if (manager.getPlayer().getParty().size() >= 4)
                 // Error if party is full
                 throw new Trainer.PartyFullException("Cannot add more than 4 monster");
-            if (!monsterStock.containsKey(monster.getId()))
+            if (!monsterStock.containsKey(monster.getSequenceId()))
                 // Error if monster is no longer in shop stock
                 throw new NotInStockException();
 
-            monsterStock.remove(monster.getId());
+            monsterStock.remove(monster.getSequenceId());
+            snapshotMonsterStock();
         } else {
             throw new NotInStockException();
         }
@@ -105,14 +108,32 @@ public final class Shop {
      * @return A monster.
      */
     public Monster randomMonster() {
-        // Generating level based on difficulty and current day.
-        final Random rng = new Random();
-        final int range = rng.nextInt(6 * manager.getDifficulty() + 1) - 3 * manager.getDifficulty();
-        final int level = Math.max(1, manager.getCurrentDay() + range);
+        final RandomSource rng = manager.getRandomSource();
+        final int level = randomLevel(rng);
+
+        // Picking a species at random and creating only that monster.
+        return MonsterSpecies.uniform().sample(rng).create(level);
+    }
 
-        // Generating list of monsters at that level and picking one at random.
-        final List<Monster> allMonsters = Monster.all(level);
-        return allMonsters.get(rng.nextInt(allMonsters.size()));
+    /**
+     * Create random monsters given the context, the same as calling <code>randomMonster</code> for each one.
+     *
+     * @param count The amount of monsters.
+     * @return The monsters.
+     */
+    public List<Monster> randomMonsters(int count) {
+        return MonsterSpecies.uniform().generate(count, this::randomLevel, manager.getRandomSource());
+    }
+
+    /**
+     * Draw the level of a random monster, based on difficulty and current day.
+     *
+     * @param rng The random source to draw from.
+     * @return The level.
+     */
+    private int randomLevel(RandomSource rng) {
+        final int range = rng.nextInt(6 * manager.getDifficulty() + 1) - 3 * manager.getDifficulty();
+        return Math.max(1, manager.getCurrentDay() + range);
     }
 
     /**
@@ -121,22 +142,29 @@ public final class Shop {
      * @return A map mapping all the item to a count.
      */
     public Map<Item, Integer> randomItemStock() {
-        final Random rng = new Random();
-
-        // A list of all the different items
-        final List<Item> allItems = List.of(
-            new Item.Potion(), new Item.Revive(), new Item.RareCandy(), new Item.FullRestore());
+        final int[] counts = new int[Item.COUNT];
+        fillRandomItemStock(counts);
 
         // A new hashmapping of the items to a randomly generated stock amount
-        final Map<Item, Integer> map = new HashMap<>(allItems.size());
-        allItems
-            .forEach(item -> {
-                final int count = rng.nextInt(manager.getCurrentDay() * manager.getDifficulty()) + 1;
-                map.put(item, count);
-            });
+        final Map<Item, Integer> map = new HashMap<>(Item.COUNT);
+        for (final Item item : Item.all()) {
+            map.put(item, counts[item.ordinal()]);
+        }
         return map;
     }
 
+    /**
+     * Fill in a new random count for every item.
+     *
+     * @param counts The counts to fill in, indexed by the item's ordinal.
+     */
+    private void fillRandomItemStock(int[] counts) {
+        final RandomSource rng = manager.getRandomSource();
+        for (int ordinal = 0; ordinal < Item.COUNT; ordinal++) {
+            counts[ordinal] = rng.nextInt(manager.getCurrentDay() * manager.getDifficulty()) + 1;
+        }
+    }
+
     /**
      * Refresh all item and monster sold.
      */
@@ -144,23 +172,65 @@ public final class Shop {
         monsterStock.clear();
 
         // Generate new shop monsters
-        for (int i = 0; i < 3 * manager.getDifficulty(); i++) {
-            final Monster mon = randomMonster();
-            monsterStock.put(mon.getId(), mon);
+        for (final Monster mon : randomMonsters(3 * manager.getDifficulty())) {
+            monsterStock.put(mon.getSequenceId(), mon);
         }
+        snapshotMonsterStock();
 
         // Generate new shop item stock
-        itemStock.clear();
-        itemStock.putAll(randomItemStock());
+        fillRandomItemStock(itemStock);
     }
 
     /**
      * Get the monster in stock.
+     * The same immutable list is given out until the stock changes, so it is cheap to call repeatedly.
      *
-     * @return The list all monster in stock.
+     * @return The list all monster in stock, in the order they were stocked.
      */
     public List<Monster> getMonsterStock() {
-        return monsterStock.values().stream().toList();
+        return monsterSnapshot;
+    }
+
+    /**
+     * Get a monster in stock by its position.
+     *
+     * @param index The position of the monster in <code>getMonsterStock()</code>.
+     * @return The monster.
+     * @throws NotInStockException If no monster is in stock at that position.
+     */
+    public Monster getMonsterInStock(int index) throws NotInStockException {
+        if (index < 0 || index >= monsterSnapshot.size())
+            throw new NotInStockException();
+        return monsterSnapshot.get(index);
+    }
+
+    /**
+     * Find a monster in stock by its id.
+     *
+     * @param id The numeric id of the monster.
+     * @return The monster if it is still in stock.
+     */
+    public Optional<Monster> findMonsterInStock(long id) {
+        return Optional.ofNullable(monsterStock.get(id));
+    }
+
+    /**
+     * Find a monster in stock by its UUID, decoding it back to the numeric id.
+     *
+     * @param id The UUID of the monster.
+     * @return The monster if it is still in stock.
+     */
+    public Optional<Monster> findMonsterInStock(UUID id) {
+        return findMonsterInStock(Monster.sequenceIdOf(id))
+            // A folded legacy UUID could match another id, so only the monster with that exact UUID is found
+            .filter(mon -> mon.getId().equals(id));
+    }
+
+    /**
+     * Rebuild the list of monster in stock after the stock changed.
+     */
+    private void snapshotMonsterStock() {
+        monsterSnapshot = List.copyOf(monsterStock.values());
     }
 
     /**
@@ -169,7 +239,12 @@ public final class Shop {
      * @return The list all item in stock.
      */
     public List<Map.Entry<Item, Integer>> getItemsStock() {
-        return itemStock.entrySet().stream().filter(entry -> entry.getValue() > 0).toList();
+        final ArrayList<Map.Entry<Item, Integer>> res = new ArrayList<>(Item.COUNT);
+        for (int ordinal = 0; ordinal < Item.COUNT; ordinal++) {
+            if (itemStock[ordinal] > 0)
+                res.add(Map.entry(Item.of(ordinal), itemStock[ordinal]));
+        }
+        return res;
     }
 
     /**
@@ -180,17 +255,32 @@ public final class Shop {
      * @param stock the number of items in stock.
      */
     public void setItemStock(Item item, int stock) {
-        itemStock.put(item, stock);
+        itemStock[item.ordinal()] = stock;
     }
 
     /**
      * Gets the stock for a specific item.
-     * For testing only.
      *
      * @param item the item to be set.
      * @return The count for the item
      */
     public int getItemStock(Item item) {
-        return itemStock.get(item);
+        return itemStock[item.ordinal()];
+    }
+
+    /**
+     * Replace all item and monster stock.
+     * <b>(Internal code, for snapshots)</b>
+     *
+     * @param items    The count of each item, indexed by the item's ordinal.
+     * @param monsters The monsters in stock.
+     */
+    void restore(int[] items, List<Monster> monsters) {
+        System.arraycopy(items, 0, itemStock, 0, Item.COUNT);
+        monsterStock.clear();
+        for (final Monster mon : monsters) {
+            monsterStock.put(mon.getSequenceId(), mon);
+        }
+        snapshotMonsterStock();
     }
 }
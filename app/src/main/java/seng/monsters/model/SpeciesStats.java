@@ -0,0 +1,55 @@
+package seng.monsters.model;
+
+/**
+ * The stats shared by every monster of a species, loaded once from a species table.
+ *
+ * @param name               The name of the species, also the default name of its monsters.
+ * @param description        A brief summary of the species.
+ * @param baseHp             The max hp at level 1.
+ * @param baseDamage         The damage at level 1.
+ * @param speed              The speed used to determine which monster attacks first.
+ * @param healRate           The amount of hp healed overnight.
+ * @param idealEnvironment   The environment giving an attack bonus.
+ * @param levelUpChance      The chance to level up overnight.
+ * @param leaveChance        The chance to leave overnight.
+ * @param faintedLeaveChance The chance to leave overnight while fainted.
+ * @param flags              The special behaviours of the species, any of the flag constants combined.
+ */
+public record SpeciesStats(
+    String name,
+    String description,
+    int baseHp,
+    int baseDamage,
+    int speed,
+    int healRate,
+    Environment idealEnvironment,
+    double levelUpChance,
+    double leaveChance,
+    double faintedLeaveChance,
+    int flags
+) {
+    /**
+     * The monsters heal a fifth of the damage they deal on every attack.
+     */
+    public static final int LIFESTEAL = 1;
+
+    /**
+     * The monsters sell back for their full buy price.
+     */
+    public static final int SELLS_AT_BUY_PRICE = 1 << 1;
+
+    /**
+     * The monsters always level up overnight unless fainted.
+     */
+    public static final int LEVELS_UP_HEALTHY = 1 << 2;
+
+    /**
+     * Check if the species has a special behaviour.
+     *
+     * @param flag The flag of the behaviour.
+     * @return A boolean whether the species has it.
+     */
+    public boolean has(int flag) {
+        return (flags & flag) != 0;
+    }
+}
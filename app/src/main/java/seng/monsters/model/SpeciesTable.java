@@ -0,0 +1,264 @@
+package seng.monsters.model;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <p>
+ * An immutable table of species, parsed from UTF-8 text with one species per line and the columns separated by <code>|</code>:
+ * name, base hp, base damage, speed, heal rate, ideal environment, level up chance, leave chance,
+ * fainted leave chance, flags, and description.
+ * Flags are <code>-</code> for none, or any of <code>lifesteal</code>, <code>sells-at-buy-price</code>,
+ * and <code>levels-up-healthy</code> separated by commas.
+ * Blank lines and lines starting with <code>#</code> are ignored.
+ * </p>
+ */
+public final class SpeciesTable {
+    /**
+     * The holder of the species bundled with the game, loaded on first use.
+     */
+    private static final class Bundled {
+        /**
+         * The species from <code>/txt/species.txt</code>.
+         */
+        private static final SpeciesTable INSTANCE = fromResource("/txt/species.txt");
+    }
+
+    /**
+     * The amount of columns on each line.
+     */
+    private static final int COLUMNS = 11;
+
+    /**
+     * The species in the order of the table.
+     */
+    private final List<SpeciesStats> species;
+
+    /**
+     * The species by their name.
+     */
+    private final Map<String, SpeciesStats> byName;
+
+    /**
+     * Creates a table of species.
+     *
+     * @param species The species in the order of the table.
+     * @throws IllegalArgumentException If two species have the same name.
+     */
+    private SpeciesTable(List<SpeciesStats> species) throws IllegalArgumentException {
+        this.species = List.copyOf(species);
+        this.byName = new HashMap<>(species.size() * 2);
+        for (final SpeciesStats stats : species) {
+            if (byName.put(stats.name(), stats) != null)
+                // Error if a name would hide another species
+                throw new IllegalArgumentException("Duplicate species " + stats.name());
+        }
+    }
+
+    /**
+     * Get the species bundled with the game, shared by every game session.
+     *
+     * @return The bundled species.
+     */
+    public static SpeciesTable bundled() {
+        return Bundled.INSTANCE;
+    }
+
+    /**
+     * Load the species from an external file.
+     *
+     * @param path The path of a UTF-8 species table.
+     * @return The species from the file.
+     * @throws IOException              If the file cannot be read.
+     * @throws IllegalArgumentException If a line is not a valid species.
+     */
+    public static SpeciesTable fromFile(Path path) throws IOException, IllegalArgumentException {
+        try (final Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return parse(reader);
+        }
+    }
+
+    /**
+     * Load the species from a resource in the classpath.
+     *
+     * @param resource The name of the resource.
+     * @return The species from the resource.
+     */
+    private static SpeciesTable fromResource(String resource) {
+        try (final InputStream file = Objects.requireNonNull(SpeciesTable.class.getResourceAsStream(resource))) {
+            return parse(new InputStreamReader(file, StandardCharsets.UTF_8));
+        } catch (IOException err) {
+            throw new UncheckedIOException(err);
+        }
+    }
+
+    /**
+     * Parse a species table.
+     *
+     * @param source The text of the table.
+     * @return The species of the table.
+     * @throws IOException              If the text cannot be read.
+     * @throws IllegalArgumentException If a line is not a valid species.
+     */
+    public static SpeciesTable parse(Reader source) throws IOException, IllegalArgumentException {
+        final BufferedReader reader = new BufferedReader(source);
+        final ArrayList<SpeciesStats> res = new ArrayList<>();
+        int lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            final String trimmed = line.strip();
+            if (trimmed.isEmpty() || trimmed.startsWith("#"))
+                continue;
+            try {
+                res.add(parseLine(trimmed));
+            } catch (IllegalArgumentException err) {
+                // Error with the line number, so the table can be fixed
+                throw new IllegalArgumentException("Line " + lineNumber + ": " + err.getMessage(), err);
+            }
+        }
+        return new SpeciesTable(res);
+    }
+
+    /**
+     * Parse a single species.
+     *
+     * @param line The line of the species.
+     * @return The stats of the species.
+     * @throws IllegalArgumentException If the line is not a valid species.
+     */
+    private static SpeciesStats parseLine(String line) throws IllegalArgumentException {
+        // The description is the last column, so it is free to have any character in it
+        final String[] columns = line.split("\\|", COLUMNS);
+        if (columns.length != COLUMNS)
+            // Error if any column is missing
+            throw new IllegalArgumentException("Expected " + COLUMNS + " columns, got " + columns.length);
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = columns[i].strip();
+        }
+        if (columns[0].isEmpty())
+            // Error if the species cannot be told apart
+            throw new IllegalArgumentException("Species must have a name");
+
+        return new SpeciesStats(
+            columns[0],
+            columns[10],
+            nonNegative(columns[1], "base hp"),
+            nonNegative(columns[2], "base damage"),
+            nonNegative(columns[3], "speed"),
+            nonNegative(columns[4], "heal rate"),
+            Environment.valueOf(columns[5]),
+            chance(columns[6], "level up chance"),
+            chance(columns[7], "leave chance"),
+            chance(columns[8], "fainted leave chance"),
+            flags(columns[9])
+        );
+    }
+
+    /**
+     * Parse a stat that cannot be negative.
+     *
+     * @param column The text of the stat.
+     * @param stat   The name of the stat for errors.
+     * @return The stat.
+     * @throws IllegalArgumentException If the stat is not a non-negative integer.
+     */
+    private static int nonNegative(String column, String stat) throws IllegalArgumentException {
+        final int value = Integer.parseInt(column);
+        if (value < 0)
+            throw new IllegalArgumentException("The " + stat + " cannot be negative");
+        return value;
+    }
+
+    /**
+     * Parse a chance between 0 and 1.
+     *
+     * @param column The text of the chance.
+     * @param stat   The name of the chance for errors.
+     * @return The chance.
+     * @throws IllegalArgumentException If the chance is not a number between 0 and 1.
+     */
+    private static double chance(String column, String stat) throws IllegalArgumentException {
+        final double value = Double.parseDouble(column);
+        if (!(value >= 0 && value <= 1))
+            throw new IllegalArgumentException("The " + stat + " must be between 0 and 1");
+        return value;
+    }
+
+    /**
+     * Parse the flags of a species.
+     *
+     * @param column The flags separated by commas, or <code>-</code> for none.
+     * @return The flags combined.
+     * @throws IllegalArgumentException If a flag is unknown.
+     */
+    private static int flags(String column) throws IllegalArgumentException {
+        if (column.equals("-"))
+            return 0;
+        int res = 0;
+        for (final String flag : column.split(",")) {
+            res |= switch (flag.strip()) {
+                case "lifesteal" -> SpeciesStats.LIFESTEAL;
+                case "sells-at-buy-price" -> SpeciesStats.SELLS_AT_BUY_PRICE;
+                case "levels-up-healthy" -> SpeciesStats.LEVELS_UP_HEALTHY;
+                default -> throw new IllegalArgumentException("Unknown flag " + flag.strip());
+            };
+        }
+        return res;
+    }
+
+    /**
+     * Get the amount of species.
+     *
+     * @return The amount of species in the table.
+     */
+    public int size() {
+        return species.size();
+    }
+
+    /**
+     * Get a species by its position in the table.
+     *
+     * @param index The position of the species.
+     * @return The stats of the species.
+     * @throws IndexOutOfBoundsException If no species is at that position.
+     */
+    public SpeciesStats get(int index) throws IndexOutOfBoundsException {
+        return species.get(index);
+    }
+
+    /**
+     * Get a species by its name.
+     *
+     * @param name The name of the species.
+     * @return The stats of the species.
+     * @throws IllegalArgumentException If the table has no species of that name.
+     */
+    public SpeciesStats get(String name) throws IllegalArgumentException {
+        final SpeciesStats stats = byName.get(name);
+        if (stats == null)
+            throw new IllegalArgumentException("Unknown species " + name);
+        return stats;
+    }
+
+    /**
+     * Get every species.
+     *
+     * @return The species in the order of the table.
+     */
+    public List<SpeciesStats> all() {
+        return species;
+    }
+}
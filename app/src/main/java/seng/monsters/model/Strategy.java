@@ -0,0 +1,231 @@
+package seng.monsters.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * The decisions made by a player throughout a game, used by the <code>GameRunner</code> to play without any UI.
+ * A strategy should only read the game manager, every action is returned and applied by the runner.
+ * </p>
+ */
+public interface Strategy {
+    /**
+     * An item being used on a monster in the party.
+     *
+     * @param item    The item being used.
+     * @param monster The monster the item is applied to.
+     */
+    record ItemUse(Item item, Monster monster) {
+    }
+
+    /**
+     * A strategy that makes every decision at random, using the random source of the game.
+     */
+    final class Aimless implements Strategy {
+        @Override
+        public Monster chooseStarter(GameManager manager, List<Monster> starters) {
+            return starters.get(manager.getRandomSource().nextInt(starters.size()));
+        }
+
+        @Override
+        public List<Purchasable> buy(GameManager manager) {
+            final RandomSource rng = manager.getRandomSource();
+            final ArrayList<Purchasable> res = new ArrayList<>();
+            // Buy one random monster and one random item if anything is in stock
+            final List<Monster> monsters = manager.getShop().getMonsterStock();
+            if (!monsters.isEmpty())
+                res.add(monsters.get(rng.nextInt(monsters.size())));
+            final List<Item> items = manager.getShop().getItemsStock().stream().map(Map.Entry::getKey).toList();
+            if (!items.isEmpty())
+                res.add(items.get(rng.nextInt(items.size())));
+            return res;
+        }
+
+        @Override
+        public List<ItemUse> useItems(GameManager manager) {
+            final RandomSource rng = manager.getRandomSource();
+            final List<Item> items = manager.getInventory().getItems();
+            final List<Monster> party = manager.getPlayer().getParty();
+            if (items.isEmpty() || party.isEmpty())
+                return List.of();
+            return List.of(new ItemUse(items.get(rng.nextInt(items.size())), party.get(rng.nextInt(party.size()))));
+        }
+
+        @Override
+        public int chooseBattle(GameManager manager) {
+            return manager.getRandomSource().nextInt(manager.getAvailableBattles().size());
+        }
+    }
+
+    /**
+     * <p>
+     * A strategy that keeps its party healthy, buys the highest level monster it can afford,
+     * and battles the trainer with the most reward among those weaker than its party.
+     * </p>
+     */
+    final class Greedy implements Strategy {
+        @Override
+        public Monster chooseStarter(GameManager manager, List<Monster> starters) {
+            return starters
+                .stream()
+                .max(Comparator.comparingInt(mon -> mon.maxHp() * mon.scaledDamage()))
+                .orElseThrow();
+        }
+
+        @Override
+        public List<Purchasable> buy(GameManager manager) {
+            final ArrayList<Purchasable> res = new ArrayList<>();
+            int gold = manager.getGold();
+
+            // Revives come first, as a fainted monster is of no use
+            final Item.Revive revive = Item.Revive.INSTANCE;
+            final long fainted = manager.getPlayer().getParty().stream().filter(Monster::isFainted).count();
+            final long needed = Math.min(fainted - manager.getInventory().getItemNumber(revive), stock(manager, revive));
+            for (long i = 0; i < needed && gold >= revive.buyPrice(); i++) {
+                res.add(revive);
+                gold -= revive.buyPrice();
+            }
+
+            if (manager.getPlayer().getParty().size() < 4) {
+                final int budget = gold;
+                manager.getShop()
+                    .getMonsterStock()
+                    .stream()
+                    .filter(mon -> mon.buyPrice() <= budget)
+                    .max(Comparator.comparingInt(Monster::getLevel))
+                    .ifPresent(res::add);
+            }
+            return res;
+        }
+
+        @Override
+        public List<ItemUse> useItems(GameManager manager) {
+            final ArrayList<ItemUse> res = new ArrayList<>();
+            int revives = manager.getInventory().getItemNumber(Item.Revive.INSTANCE);
+            int potions = manager.getInventory().getItemNumber(Item.Potion.INSTANCE);
+            for (final Monster mon : manager.getPlayer().getParty()) {
+                if (mon.isFainted() && revives > 0) {
+                    res.add(new ItemUse(Item.Revive.INSTANCE, mon));
+                    revives--;
+                } else if (!mon.isFainted() && mon.getCurrentHp() < mon.maxHp() / 2 && potions > 0) {
+                    res.add(new ItemUse(Item.Potion.INSTANCE, mon));
+                    potions--;
+                }
+            }
+            return res;
+        }
+
+        @Override
+        public List<Monster> arrangeParty(GameManager manager) {
+            // Healthiest monster goes first
+            return manager.getPlayer()
+                .getParty()
+                .stream()
+                .sorted(Comparator.comparingInt(Monster::getCurrentHp).reversed())
+                .toList();
+        }
+
+        @Override
+        public int chooseBattle(GameManager manager) {
+            final List<Trainer> battles = manager.getAvailableBattles();
+            final int strength = strength(manager.getPlayer());
+            int best = 0;
+            for (int i = 1; i < battles.size(); i++) {
+                final int current = strength(battles.get(i));
+                final int previous = strength(battles.get(best));
+                // Prefer the strongest trainer that is still weaker than the party, otherwise the weakest one
+                final boolean isBetter = current <= strength
+                    ? previous > strength || current > previous
+                    : previous > strength && current < previous;
+                if (isBetter)
+                    best = i;
+            }
+            return best;
+        }
+
+        /**
+         * The stock of an item in the shop.
+         *
+         * @param manager The game manager.
+         * @param item    The item.
+         * @return The amount of the item that can be bought.
+         */
+        private static int stock(GameManager manager, Item item) {
+            return manager.getShop().getItemStock(item);
+        }
+
+        /**
+         * A rough strength of a trainer's standing monsters.
+         *
+         * @param trainer The trainer.
+         * @return The sum of the levels of the non-fainted monsters.
+         */
+        private static int strength(Trainer trainer) {
+            return trainer.getParty()
+                .stream()
+                .filter(mon -> !mon.isFainted())
+                .mapToInt(Monster::getLevel)
+                .sum();
+        }
+    }
+
+    /**
+     * Choose the starting monster at the start of the game.
+     *
+     * @param manager  The game manager.
+     * @param starters The monsters to choose from.
+     * @return One of the starters.
+     */
+    Monster chooseStarter(GameManager manager, List<Monster> starters);
+
+    /**
+     * Choose what to sell at the start of each day.
+     *
+     * @param manager The game manager.
+     * @return The items and monsters owned by the player to be sold, in order.
+     */
+    default List<Purchasable> sell(GameManager manager) {
+        return List.of();
+    }
+
+    /**
+     * Choose what to buy at the start of each day, after selling.
+     *
+     * @param manager The game manager.
+     * @return The items and monsters in the shop to be bought, in order.
+     */
+    default List<Purchasable> buy(GameManager manager) {
+        return List.of();
+    }
+
+    /**
+     * Choose what items to use before each battle, after buying.
+     *
+     * @param manager The game manager.
+     * @return The items to be used, in order.
+     */
+    default List<ItemUse> useItems(GameManager manager) {
+        return List.of();
+    }
+
+    /**
+     * Choose the order of the party before each battle, after using items.
+     *
+     * @param manager The game manager.
+     * @return The party monsters in the order they battle.
+     */
+    default List<Monster> arrangeParty(GameManager manager) {
+        return manager.getPlayer().getParty();
+    }
+
+    /**
+     * Choose the battle of the day, as the player must battle before sleeping if able to.
+     *
+     * @param manager The game manager.
+     * @return The index of the enemy trainer in <code>getAvailableBattles()</code>.
+     */
+    int chooseBattle(GameManager manager);
+}
@@ -158,6 +158,19 @@ public final class Trainer {
         this.name = name;
     }
 
+    /**
+     * Create an independent copy of this trainer with a copy of each monster in the party.
+     *
+     * @return A copy of the trainer whose party can be battled without affecting the original.
+     */
+    public Trainer copy() {
+        final Trainer res = new Trainer(name);
+        for (final Monster mon : party) {
+            res.party.add(mon.copy());
+        }
+        return res;
+    }
+
     /**
      * Check if the trainer has any monster active.
      *
@@ -0,0 +1,197 @@
+package seng.monsters.model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>
+ * An immutable pool of trainer names, one per non-blank line of UTF-8 text.
+ * The text is kept as bytes and only the sampled names are decoded.
+ * The line index is built on the first access, so loading a large file only maps it into memory.
+ * </p>
+ */
+public final class TrainerNames {
+    /**
+     * The holder of the names bundled with the game, loaded on first use.
+     */
+    private static final class Bundled {
+        /**
+         * The names from <code>/txt/roles.txt</code>.
+         */
+        private static final TrainerNames INSTANCE = fromResource("/txt/roles.txt");
+    }
+
+    /**
+     * The raw text, only ever read with absolute gets.
+     */
+    private final ByteBuffer text;
+
+    /**
+     * The start of each non-blank line, built on first access.
+     */
+    private volatile int[] starts = null;
+
+    /**
+     * Creates a pool of names from some raw text.
+     *
+     * @param text The UTF-8 text with a name on each line.
+     */
+    private TrainerNames(ByteBuffer text) {
+        this.text = text.asReadOnlyBuffer();
+    }
+
+    /**
+     * Get the names bundled with the game, shared by every game session.
+     *
+     * @return The bundled names.
+     */
+    public static TrainerNames bundled() {
+        return Bundled.INSTANCE;
+    }
+
+    /**
+     * Load the names from an external file by mapping it into memory.
+     *
+     * @param path The path of a UTF-8 text file with a name on each line.
+     * @return The names from the file.
+     * @throws IOException              If the file cannot be read.
+     * @throws IllegalArgumentException If the file is larger than 2GB.
+     */
+    public static TrainerNames fromFile(Path path) throws IOException, IllegalArgumentException {
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE)
+                // Error if the file cannot be indexed with an int
+                throw new IllegalArgumentException("Name file must be smaller than 2GB");
+            // The mapping stays valid after the channel is closed
+            return new TrainerNames(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Load the names from a resource in the classpath.
+     *
+     * @param resource The name of the resource.
+     * @return The names from the resource.
+     */
+    private static TrainerNames fromResource(String resource) {
+        try (final InputStream file = Objects.requireNonNull(TrainerNames.class.getResourceAsStream(resource))) {
+            return new TrainerNames(ByteBuffer.wrap(file.readAllBytes()));
+        } catch (IOException err) {
+            throw new UncheckedIOException(err);
+        }
+    }
+
+    /**
+     * Get the amount of names.
+     *
+     * @return The amount of non-blank lines.
+     */
+    public int size() {
+        return index().length;
+    }
+
+    /**
+     * Get a name by its index.
+     *
+     * @param index The index of the name.
+     * @return The name without the line ending.
+     * @throws IndexOutOfBoundsException If the index does not point to a name.
+     */
+    public String get(int index) throws IndexOutOfBoundsException {
+        final int start = index()[index];
+        int end = start;
+        while (end < text.limit() && text.get(end) != '\n')
+            end++;
+        if (end > start && text.get(end - 1) == '\r')
+            end--;
+        final byte[] bytes = new byte[end - start];
+        text.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * <p>
+     * Pick a number of different names at random, using a partial Fisher-Yates shuffle.
+     * Only the swapped positions are recorded, so each call takes time and memory proportional to the count.
+     * </p>
+     *
+     * @param count The amount of names.
+     * @param rng   The random source.
+     * @return The picked names in the order they were picked.
+     * @throws IllegalArgumentException If there are fewer names than the count.
+     */
+    public List<String> sample(int count, RandomSource rng) throws IllegalArgumentException {
+        final int size = size();
+        if (count > size)
+            // Error if there are not enough different names
+            throw new IllegalArgumentException("Cannot pick " + count + " names out of " + size);
+
+        final HashMap<Integer, Integer> swapped = new HashMap<>(count * 2);
+        final ArrayList<String> res = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final int j = i + rng.nextInt(size - i);
+            final int picked = swapped.getOrDefault(j, j);
+            swapped.put(j, swapped.getOrDefault(i, i));
+            res.add(get(picked));
+        }
+        return res;
+    }
+
+    /**
+     * Get the start of each name, building the index on first access.
+     *
+     * @return The start of each non-blank line.
+     */
+    private int[] index() {
+        int[] res = starts;
+        if (res == null) {
+            synchronized (this) {
+                res = starts;
+                if (res == null) {
+                    res = buildIndex();
+                    starts = res;
+                }
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Scan the text for the start of each non-blank line.
+     *
+     * @return The start of each non-blank line.
+     */
+    private int[] buildIndex() {
+        int[] res = new int[64];
+        int count = 0;
+        int start = 0;
+        boolean isBlank = true;
+        for (int i = 0; i <= text.limit(); i++) {
+            final byte current = i < text.limit() ? text.get(i) : (byte) '\n';
+            if (current == '\n') {
+                if (!isBlank) {
+                    if (count == res.length)
+                        res = Arrays.copyOf(res, res.length * 2);
+                    res[count++] = start;
+                }
+                start = i + 1;
+                isBlank = true;
+            } else if (current < 0 || current > ' ') {
+                // Any byte of a multibyte character is negative and not whitespace
+                isBlank = false;
+            }
+        }
+        return Arrays.copyOf(res, count);
+    }
+}
@@ -8,18 +8,22 @@ package seng.monsters.ui.cli;
 
 import seng.monsters.model.*;
 
-import java.util.HashSet;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 
 /**
  * TODO: This is still a testing CLI, it works but need checks and testing to use it in the final application
  */
 public final class BattleCLI extends TestableCLI implements BattleManager.UI {
     private final BattleManager battler;
-    private final Set<String> loggedFeeds = new HashSet<>();
+    private final BattleEventLog.Cursor unloggedEvents;
     private final GameManager gameManager;
 
+    /**
+     * True if the battle is being skipped, so only the result is shown
+     */
+    private boolean isSkipping = false;
+
     /**
      * Create a CLi for battling between two trainer
      *
@@ -27,7 +31,20 @@ public final class BattleCLI extends TestableCLI implements BattleManager.UI {
      * @param index       The index of the enemy
      */
     public BattleCLI(GameManager gameManager, int index) {
+        this(gameManager, index, Terminal.system());
+    }
+
+    /**
+     * Create a CLi for battling between two trainer, reading from a terminal
+     *
+     * @param gameManager The game manager for the logic
+     * @param index       The index of the enemy
+     * @param terminal    The terminal to read from
+     */
+    public BattleCLI(GameManager gameManager, int index, Terminal terminal) {
+        super(terminal);
         this.battler = gameManager.prepareBattle(this, index);
+        this.unloggedEvents = battler.getEvents().cursor();
         this.gameManager = gameManager;
     }
 
@@ -35,20 +52,34 @@ public final class BattleCLI extends TestableCLI implements BattleManager.UI {
      * Execute the battle until it is settled
      */
     public void run() {
-        System.out.println("===========================");
-        System.out.println(partyFeed());
-        System.out.println("===========================");
+        run(Playback.NORMAL);
+    }
+
+    /**
+     * Execute the battle until it is settled at a playback speed
+     *
+     * @param playback The playback speed
+     */
+    public void run(Playback playback) {
+        output().println("===========================");
+        output().println(partyFeed());
+        output().println("===========================");
 
         while (!battler.isSettled()) {
-            battler.nextIteration();
-            try {
-                Thread.sleep(40);
-            } catch (InterruptedException e) {
+            playback.tick(battler);
+            if (battler.isSettled() || !terminal().pause(40))
                 break;
-            }
         }
     }
 
+    /**
+     * Resolve the battle immediately, only showing the result
+     */
+    public void skip() {
+        isSkipping = true;
+        battler.resolve();
+    }
+
     private String hpFeed() {
         final Monster playerMon = battler.getBattlingPlayerMonster();
         final Monster enemyMon = battler.getBattlingEnemyMonster();
@@ -88,51 +119,56 @@ public final class BattleCLI extends TestableCLI implements BattleManager.UI {
     public void onEachAttackProgress(int percentage) {
     }
 
+    /**
+     * Read all the feeds that have not been logged yet
+     *
+     * @return The unlogged feeds from oldest to newest
+     */
+    private List<String> unloggedFeeds() {
+        final List<String> feeds = new ArrayList<>();
+        for (BattleEvent event = unloggedEvents.next(); event != null; event = unloggedEvents.next()) {
+            if (event.isFeed())
+                feeds.add(event.describe());
+        }
+        return feeds;
+    }
+
     @Override
     public void onEachLandedAttack(boolean isPlayerTurn, int dmg) {
-        battler
-            .getFeeds()
-            .stream()
-            .filter(each -> !loggedFeeds.contains(each))
-            .forEachOrdered(feed -> {
-                System.out.println(feed + " [" + hpFeed() + "]");
-                loggedFeeds.add(feed);
-            });
+        if (isSkipping)
+            return;
+        unloggedFeeds().forEach(feed -> output().println(feed + " [" + hpFeed() + "]"));
     }
 
     @Override
     public void onEachNextMonster(boolean isPlayerTurn) {
-        System.out.println("===========================");
-        System.out.println(partyFeed());
-        System.out.println("===========================");
+        if (isSkipping)
+            return;
+        output().println("===========================");
+        output().println(partyFeed());
+        output().println("===========================");
     }
 
     @Override
     public void onEnd() {
-        final List<String> feeds = battler
-            .getFeeds()
-            .stream()
-            .filter(each -> !loggedFeeds.contains(each))
-            .toList();
-        feeds.subList(0, feeds.size() - 1)
-            .forEach(feed -> {
-                System.out.println(feed + " [" + hpFeed() + "]");
-                loggedFeeds.add(feed);
-            });
-        System.out.println("===========================");
-        System.out.println(feeds.get(feeds.size() - 1));
-        System.out.println(partyFeed());
+        final List<String> feeds = unloggedFeeds();
+        if (!isSkipping)
+            feeds.subList(0, feeds.size() - 1)
+                .forEach(feed -> output().println(feed + " [" + hpFeed() + "]"));
+        output().println("===========================");
+        output().println(feeds.get(feeds.size() - 1));
+        output().println(partyFeed());
         if (!gameManager.getPlayer().isWhitedOut()) {
             displayBattleRewards();
             battleRewards();
         }
-        System.out.println("===========================");
+        output().println("===========================");
     }
 
     private void displayBattleRewards() {
-        System.out.printf("The enemy payed out %d gold!%n",
+        output().printf("The enemy payed out %d gold!%n",
             battler.goldReward());
-        System.out.printf("You gained %d score!%n",
+        output().printf("You gained %d score!%n",
             battler.scoreReward());
     }
 
@@ -0,0 +1,145 @@
+package seng.monsters.ui.cli;
+
+import seng.monsters.model.GameManager;
+
+/**
+ * A CLI running a whole game as a state machine, one screen at a time.
+ * <p>
+ * Every screen returns to this loop when it is done instead of opening the next one itself,
+ * so a session can go on for as long as the player likes without growing the stack,
+ * and the game can be driven one screen at a time with <code>step</code>.
+ */
+public final class GameCLI extends TestableCLI {
+    /**
+     * The screens the game can be on
+     */
+    public enum State {
+        /**
+         * The main menu, where the player chooses where to go next
+         */
+        MAIN_MENU,
+
+        /**
+         * The party, where monsters can be viewed and moved
+         */
+        PARTY,
+
+        /**
+         * The available battles, where one can be fought
+         */
+        BATTLE,
+
+        /**
+         * The inventory, where items can be used
+         */
+        INVENTORY,
+
+        /**
+         * The shops, where items and monsters can be bought and sold
+         */
+        SHOP,
+
+        /**
+         * The end screen, showing the outcome of the game
+         */
+        END,
+
+        /**
+         * The game is over and nothing is left to display
+         */
+        EXIT
+    }
+
+    /**
+     * The game manager / controller
+     */
+    private final GameManager gameManager;
+
+    /**
+     * The screen the game is currently on
+     */
+    private State state = State.MAIN_MENU;
+
+    /**
+     * Creates a CLI running a game from the main menu
+     *
+     * @param gameManager The game manager / controller
+     */
+    public GameCLI(GameManager gameManager) {
+        this(gameManager, Terminal.system());
+    }
+
+    /**
+     * Creates a CLI running a game from the main menu, reading from a terminal
+     *
+     * @param gameManager The game manager / controller
+     * @param terminal    The terminal to read from
+     */
+    public GameCLI(GameManager gameManager, Terminal terminal) {
+        super(terminal);
+        this.gameManager = gameManager;
+    }
+
+    /**
+     * Get the screen the game is currently on
+     *
+     * @return The current state
+     */
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Run the current screen until the player leaves it
+     *
+     * @return The state the game moved to
+     */
+    public State step() {
+        state = switch (state) {
+            case MAIN_MENU -> new MainMenuCLI(gameManager, terminal()).mainMenuInterface();
+            case PARTY -> {
+                PartyCLI.make(gameManager, terminal());
+                yield State.MAIN_MENU;
+            }
+            case BATTLE -> {
+                ViewBattlesCLI.make(gameManager, terminal());
+                yield State.MAIN_MENU;
+            }
+            case INVENTORY -> {
+                InventoryCLI.make(gameManager, terminal());
+                yield State.MAIN_MENU;
+            }
+            case SHOP -> {
+                IntermediateShopCLI.make(gameManager, terminal());
+                yield State.MAIN_MENU;
+            }
+            case END -> {
+                new MainMenuCLI(gameManager, terminal()).displayEndScreen();
+                yield State.EXIT;
+            }
+            case EXIT -> State.EXIT;
+        };
+        return state;
+    }
+
+    /**
+     * Run every screen in turn until the game is over, then write out any output held back
+     */
+    public void run() {
+        while (state != State.EXIT) {
+            step();
+        }
+        output().flush();
+    }
+
+    /**
+     * Makes a GameCLI and runs the game until it is over
+     *
+     * @param gameManager The game manager / controller
+     * @param terminal    The terminal to read from
+     */
+    public static void make(GameManager gameManager, Terminal terminal) {
+        final GameCLI gameCLI = new GameCLI(gameManager, terminal);
+        gameCLI.run();
+    }
+}
@@ -15,6 +15,16 @@ public class IntermediateShopCLI extends TestableCLI {
      * @param gameManager The game manager / controller
      */
     public IntermediateShopCLI(GameManager gameManager) {
+        this(gameManager, Terminal.system());
+    }
+
+    /**
+     * Creates an CLI to get to a specific Shop, reading from a terminal
+     * @param gameManager The game manager / controller
+     * @param terminal    The terminal to read from
+     */
+    public IntermediateShopCLI(GameManager gameManager, Terminal terminal) {
+        super(terminal);
         this.gameManager = gameManager;
     }
 
@@ -29,7 +39,7 @@ public class IntermediateShopCLI extends TestableCLI {
                 return;
             } catch (InputMismatchException e) {
                 input().next();
-                System.out.println("Invalid input!");
+                output().println("Invalid input!");
             }
         }
     }
@@ -41,24 +51,25 @@ public class IntermediateShopCLI extends TestableCLI {
      * @throws IllegalArgumentException If an invalid input is entered.
      */
     private void selectShop(int scannerInput) throws IllegalArgumentException {
-        try {
-            switch (scannerInput) {
-                case 1:
-                    ItemShopCLI.make(gameManager);
-                    selectShopInterface();
-                    break;
-                case 2:
-                    MonsterShopCLI.make(gameManager);
-                    selectShopInterface();
-                    break;
-                case 0:
-                    break;
-                default:
-                    throw new IllegalArgumentException();
+        int option = scannerInput;
+        while (option != 0) {
+            try {
+                switch (option) {
+                    case 1:
+                        ItemShopCLI.make(gameManager, terminal());
+                        displayIntermediateShopTypes();
+                        break;
+                    case 2:
+                        MonsterShopCLI.make(gameManager, terminal());
+                        displayIntermediateShopTypes();
+                        break;
+                    default:
+                        throw new IllegalArgumentException();
+                }
+            } catch (IllegalArgumentException e) {
+                output().println("Invalid input!");
             }
-        } catch (IllegalArgumentException e) {
-            System.out.println("Invalid input!");
-            selectShop(input().nextInt());
+            option = input().nextInt();
         }
     }
 
@@ -66,20 +77,21 @@ public class IntermediateShopCLI extends TestableCLI {
      * Prints the shop options to output.
      */
     private void displayIntermediateShopTypes() {
-        System.out.println("\n===========================\n");
-        System.out.printf("Gold: %d\n", gameManager.getGold());
-        System.out.println("Select a shop to enter:");
-        System.out.println("1 - Item Shop");
-        System.out.println("2 - Monster Shop");
-        System.out.println("\n0 - Return to Main Menu");
+        output().println("\n===========================\n");
+        output().printf("Gold: %d\n", gameManager.getGold());
+        output().println("Select a shop to enter:");
+        output().println("1 - Item Shop");
+        output().println("2 - Monster Shop");
+        output().println("\n0 - Return to Main Menu");
     }
 
     /**
      * Makes this CLI and run its interface
      * @param gameManager The game manager / controller
+     * @param terminal    The terminal to read from
      */
-    public static void make(GameManager gameManager) {
-        IntermediateShopCLI shopCLI = new IntermediateShopCLI(gameManager);
+    public static void make(GameManager gameManager, Terminal terminal) {
+        IntermediateShopCLI shopCLI = new IntermediateShopCLI(gameManager, terminal);
         shopCLI.selectShopInterface();
     }
 }
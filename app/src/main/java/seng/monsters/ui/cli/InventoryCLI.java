@@ -22,6 +22,16 @@ public final class InventoryCLI extends TestableCLI {
      * @param gameManager The game manager / controller
      */
     public InventoryCLI(GameManager gameManager) {
+        this(gameManager, Terminal.system());
+    }
+
+    /**
+     * Creates a CLI to display items in the inventory and allow player to use them, reading from a terminal
+     * @param gameManager The game manager / controller
+     * @param terminal    The terminal to read from
+     */
+    public InventoryCLI(GameManager gameManager, Terminal terminal) {
+        super(terminal);
         this.gameManager = gameManager;
         inventory = gameManager.getInventory();
         party = gameManager.getPlayer().getParty();
@@ -40,7 +50,7 @@ public final class InventoryCLI extends TestableCLI {
                 return;
             } catch (InputMismatchException e) {
                 input().next();
-                System.out.println("Invalid input!");
+                output().println("Invalid input!");
             }
         }
     }
@@ -60,7 +70,7 @@ public final class InventoryCLI extends TestableCLI {
                 return;
             } catch (InputMismatchException e) {
                 input().next();
-                System.out.println("Invalid input!");
+                output().println("Invalid input!");
             }
         }
     }
@@ -72,17 +82,20 @@ public final class InventoryCLI extends TestableCLI {
      * @throws IllegalArgumentException if an invalid parameter is passed.
      */
     private void selectItem(int scannerInput) throws IllegalArgumentException {
-        try {
-            if ((scannerInput > 0) && (scannerInput < 4)) {
-                final Item item = Item.all().get(scannerInput - 1);
-                useItemInterface(item, false);
-                inventoryInterface();
-            } else if (scannerInput != 0) {
-                throw new IllegalArgumentException();
+        int option = scannerInput;
+        while (option != 0) {
+            try {
+                if ((option > 0) && (option < 4)) {
+                    final Item item = Item.all().get(option - 1);
+                    useItemInterface(item, false);
+                    displayInventoryOptions();
+                } else {
+                    throw new IllegalArgumentException();
+                }
+            } catch (IllegalArgumentException e) {
+                output().println("Invalid input!");
             }
-        } catch (IllegalArgumentException e) {
-            System.out.println("Invalid input!");
-            selectItem(input().nextInt());
+            option = input().nextInt();
         }
     }
 
@@ -94,22 +107,23 @@ public final class InventoryCLI extends TestableCLI {
      * @throws IllegalArgumentException if an invalid parameter is passed.
      */
     private void useItemOnMonster(Item item, int scannerInput) throws IllegalArgumentException {
-        try {
-            if ((scannerInput > 0) && (scannerInput < party.size() + 1)) {
-                gameManager.useItemFromInventory(item, scannerInput - 1);
-                useItemInterface(item, true);
-            } else if (scannerInput != 0) {
-                throw new IllegalArgumentException();
+        int position = scannerInput;
+        while (position != 0) {
+            try {
+                if ((position > 0) && (position < party.size() + 1)) {
+                    gameManager.useItemFromInventory(item, position - 1);
+                    displayUseItemOptions(item, true);
+                } else {
+                    throw new IllegalArgumentException();
+                }
+            } catch (IllegalArgumentException e) {
+                output().println("Invalid input!");
+            } catch (Item.NoEffectException e) {
+                output().println("That item has no effect on this monster!");
+            } catch (Inventory.ItemNotExistException e) {
+                output().println("You don't have any of that item!");
             }
-        } catch (IllegalArgumentException e) {
-            System.out.println("Invalid input!");
-            useItemOnMonster(item, input().nextInt());
-        } catch (Item.NoEffectException e) {
-            System.out.println("That item has no effect on this monster!");
-            useItemOnMonster(item, input().nextInt());
-        } catch (Inventory.ItemNotExistException e) {
-            System.out.println("You don't have any of that item!");
-            useItemOnMonster(item, input().nextInt());
+            position = input().nextInt();
         }
     }
 
@@ -117,17 +131,17 @@ public final class InventoryCLI extends TestableCLI {
      * Prints the player's inventory to output.
      */
     private void displayInventoryOptions() {
-        System.out.println("\n===========================\n");
-        System.out.println("Here is your inventory. Select an item to use, or return to the main menu:");
+        output().println("\n===========================\n");
+        output().println("Here is your inventory. Select an item to use, or return to the main menu:");
         final List<Item> items = Item.all();
         for (int i = 0; i < items.size(); i++) {
             final Item item = items.get(i);
-            System.out.printf("%d - %s (Stock: %d)%n",
+            output().printf("%d - %s (Stock: %d)%n",
                     i + 1, item.getName(), inventory.getItemNumber(item));
-            System.out.printf("    %s%n%n",
+            output().printf("    %s%n%n",
                     item.description());
         }
-        System.out.println("\n0 - Return to Main Menu");
+        output().println("\n0 - Return to Main Menu");
     }
 
     /**
@@ -137,27 +151,28 @@ public final class InventoryCLI extends TestableCLI {
      * @param itemUsed A boolean for if this method is being used after an item has been used.
      */
     private void displayUseItemOptions(Item item, boolean itemUsed) {
-        System.out.println("\n===========================\n");
+        output().println("\n===========================\n");
         if (itemUsed) {
-            System.out.printf("%s successfully used!\n", item.getName());
+            output().printf("%s successfully used!\n", item.getName());
         }
-        System.out.printf("You have %d %s(s). Select a monster to use one on, or return to the inventory menu:%n"
+        output().printf("You have %d %s(s). Select a monster to use one on, or return to the inventory menu:%n"
             , inventory.getItemNumber(item), item.getName());
         for (int i = 0; i < party.size(); i++) {
             final Monster mon = party.get(i);
-            System.out.printf("%d - %s (Level %d, %dHp/%dHp)%n",
+            output().printf("%d - %s (Level %d, %dHp/%dHp)%n",
                     i + 1, mon.getName(), mon.getLevel(), mon.getCurrentHp(), mon.maxHp());
         }
-        System.out.println("\n0 - Return to Inventory menu");
+        output().println("\n0 - Return to Inventory menu");
     }
 
     /**
      * Makes a InventoryCLI and run its interface
      * @param gameManager The game manager / controller
+     * @param terminal    The terminal to read from
      */
-    public static void make(GameManager gameManager) {
+    public static void make(GameManager gameManager, Terminal terminal) {
         try {
-            final InventoryCLI inventoryCLI = new InventoryCLI(gameManager);
+            final InventoryCLI inventoryCLI = new InventoryCLI(gameManager, terminal);
             inventoryCLI.inventoryInterface();
         } catch (Exception e) {
             e.printStackTrace();
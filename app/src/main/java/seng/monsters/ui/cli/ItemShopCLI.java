@@ -17,7 +17,16 @@ public final class ItemShopCLI extends ShopCLI {
      * @param gameManager The game manager / controller
      */
     public ItemShopCLI(GameManager gameManager) {
-        super(gameManager);
+        this(gameManager, Terminal.system());
+    }
+
+    /**
+     * Creates a CLI to allow buying and selling items from the shop, reading from a terminal
+     * @param gameManager The game manager / controller
+     * @param terminal    The terminal to read from
+     */
+    public ItemShopCLI(GameManager gameManager, Terminal terminal) {
+        super(gameManager, terminal);
         inventory = gameManager.getInventory();
     }
 
@@ -27,24 +36,25 @@ public final class ItemShopCLI extends ShopCLI {
      * @param scannerInput The player's input as an int.
      */
     public void buyPurchasable(int scannerInput) throws IllegalArgumentException {
-        try {
-            final List<Item> items = Item.all();
-            if ((scannerInput > 0) && (scannerInput < items.size() + 1)) {
-                final Item item = items.get(scannerInput - 1);
-                gameManager.buy(item);
-                buyPurchasableInterface(item);
-            } else if (scannerInput != 0) {
-                throw new IllegalArgumentException();
+        final List<Item> items = Item.all();
+        int option = scannerInput;
+        while (option != 0) {
+            try {
+                if ((option > 0) && (option < items.size() + 1)) {
+                    final Item item = items.get(option - 1);
+                    gameManager.buy(item);
+                    displayBuyPurchasableOptions(item);
+                } else {
+                    throw new IllegalArgumentException();
+                }
+            } catch (IllegalArgumentException e) {
+                output().println("Invalid input!");
+            } catch (Shop.NotInStockException e) {
+                output().println("There are no more of that item left!");
+            } catch (Shop.InsufficientFundsException e) {
+                output().println("You're too poor! Come back when you're a little, mmmm... RICHER!");
             }
-        } catch (IllegalArgumentException e) {
-            System.out.println("Invalid input!");
-            buyPurchasable(input().nextInt());
-        } catch (Shop.NotInStockException e) {
-            System.out.println("There are no more of that item left!");
-            buyPurchasable(input().nextInt());
-        } catch (Shop.InsufficientFundsException e) {
-            System.out.println("You're too poor! Come back when you're a little, mmmm... RICHER!");
-            buyPurchasable(input().nextInt());
+            option = input().nextInt();
         }
     }
 
@@ -54,20 +64,22 @@ public final class ItemShopCLI extends ShopCLI {
      * @param scannerInput The player's input as an int.
      */
     public void sellPurchasable(int scannerInput) throws IllegalArgumentException {
-        try {
-            if ((scannerInput > 0) && (scannerInput < 5)) {
-                final Item item = Item.all().get(scannerInput - 1);
-                gameManager.sell(item);
-                sellPurchasableInterface(item);
-            } else if (scannerInput != 0) {
-                throw new IllegalArgumentException();
+        int option = scannerInput;
+        while (option != 0) {
+            try {
+                if ((option > 0) && (option < 5)) {
+                    final Item item = Item.all().get(option - 1);
+                    gameManager.sell(item);
+                    displaySellPurchasableOptions(item);
+                } else {
+                    throw new IllegalArgumentException();
+                }
+            } catch (IllegalArgumentException e) {
+                output().println("Invalid input!");
+            } catch (Inventory.ItemNotExistException e) {
+                output().println("You don't have any of that item!");
             }
-        } catch (IllegalArgumentException e) {
-            System.out.println("Invalid input!");
-            sellPurchasable(input().nextInt());
-        } catch (Inventory.ItemNotExistException e) {
-            System.out.println("You don't have any of that item!");
-            sellPurchasable(input().nextInt());
+            option = input().nextInt();
         }
     }
 
@@ -77,21 +89,21 @@ public final class ItemShopCLI extends ShopCLI {
      * @param boughtItem The last item bought, null otherwise.
      */
     public void displayBuyPurchasableOptions(Purchasable boughtItem) {
-        System.out.println("\n===========================\n");
+        output().println("\n===========================\n");
         if (boughtItem != null) {
-            System.out.printf("%s bought!\n", boughtItem.getName());
+            output().printf("%s bought!\n", boughtItem.getName());
         }
-        System.out.printf("Gold: %d\n", gameManager.getGold());
-        System.out.println("Select an item to buy:");
+        output().printf("Gold: %d\n", gameManager.getGold());
+        output().println("Select an item to buy:");
         final List<Map.Entry<Item, Integer>> items = shop.getItemsStock();
         for (int i = 0; i < items.size(); i++) {
             final Map.Entry<Item, Integer> item = items.get(i);
-            System.out.printf("%d - %s (Stock: %d, Price: %d)%n",
+            output().printf("%d - %s (Stock: %d, Price: %d)%n",
                 i + 1, item.getKey().getName(), item.getValue(), item.getKey().buyPrice());
 
-            System.out.printf("    %s%n%n", item.getKey().description());
+            output().printf("    %s%n%n", item.getKey().description());
         }
-        System.out.println("\n0 - Cancel");
+        output().println("\n0 - Cancel");
     }
 
     /**
@@ -100,27 +112,28 @@ public final class ItemShopCLI extends ShopCLI {
      * @param soldItem The last item sold, null otherwise.
      */
     public void displaySellPurchasableOptions(Purchasable soldItem) {
-        System.out.println("\n===========================\n");
+        output().println("\n===========================\n");
         if (soldItem != null) {
-            System.out.printf("%s sold!\n", soldItem.getName());
+            output().printf("%s sold!\n", soldItem.getName());
         }
-        System.out.printf("Gold: %d\n", gameManager.getGold());
-        System.out.println("Select an item to sell:");
+        output().printf("Gold: %d\n", gameManager.getGold());
+        output().println("Select an item to sell:");
         final List<Item> items = Item.all();
         for (int i = 0; i < items.size(); i++) {
             final Item item = items.get(i);
-            System.out.printf("%d - %s (Stock: %d, Sell Price: %d)%n",
+            output().printf("%d - %s (Stock: %d, Sell Price: %d)%n",
                 i + 1, item.getName(), inventory.getItemNumber(item), item.sellPrice());
         }
-        System.out.println("\n0 - Cancel");
+        output().println("\n0 - Cancel");
     }
 
     /**
      * Makes a ItemShopCli and run its interface
      * @param gameManager The game manager / controller
+     * @param terminal    The terminal to read from
      */
-    public static void make(GameManager gameManager) {
-        ItemShopCLI itemShopCLI = new ItemShopCLI(gameManager);
+    public static void make(GameManager gameManager, Terminal terminal) {
+        ItemShopCLI itemShopCLI = new ItemShopCLI(gameManager, terminal);
         itemShopCLI.shopTypeInterface("items");
     }
 }
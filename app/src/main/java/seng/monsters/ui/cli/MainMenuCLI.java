@@ -6,7 +6,6 @@ import seng.monsters.model.Monster;
 import java.util.InputMismatchException;
 import java.util.List;
 import java.util.Optional;
-import java.util.Scanner;
 
 /**
  * A CLI to the display the main menu and allow navigation to all other CLI's
@@ -23,73 +22,88 @@ public final class MainMenuCLI extends TestableCLI {
      * @param gameManager The game manager / controller
      */
     public MainMenuCLI(GameManager gameManager) {
+        this(gameManager, Terminal.system());
+    }
+
+    /**
+     * Creates a CLI that display the main menu and allow navigation to all other CLI's, reading from a terminal
+     *
+     * @param gameManager The game manager / controller
+     * @param terminal    The terminal to read from
+     */
+    public MainMenuCLI(GameManager gameManager, Terminal terminal) {
+        super(terminal);
         this.gameManager = gameManager;
     }
 
-    private void mainMenuInterface() throws IllegalArgumentException {
+    /**
+     * Display the main menu and take the player's choice of where to go next
+     *
+     * @return The state of the game the player chose
+     */
+    GameCLI.State mainMenuInterface() {
         displayMainMenu();
         while (true) {
             try {
-                selectMainMenuOption(input().nextInt());
-                return;
+                return selectMainMenuOption(input().nextInt());
             } catch (InputMismatchException e) {
                 input().next();
-                System.out.println("Invalid input!");
+                output().println("Invalid input!");
             }
         }
     }
 
-    private void selectMainMenuOption(int scannerInput) throws IllegalArgumentException {
-        try {
-            switch (scannerInput) {
+    /**
+     * Take the player's main menu option, asking again until it is valid
+     *
+     * @param scannerInput The player's input as an int
+     * @return The state of the game the option leads to
+     */
+    GameCLI.State selectMainMenuOption(int scannerInput) {
+        int option = scannerInput;
+        while (true) {
+            switch (option) {
                 case 1 -> {
-                    PartyCLI.make(gameManager);
-                    mainMenuInterface();
+                    return GameCLI.State.PARTY;
                 }
                 case 2 -> {
-                    if (gameManager.hasNotBattleOnce()) {
-                        ViewBattlesCLI.make(gameManager);
-                    } else {
-                        System.out.println("\nYou've already battled today!");
-                    }
-                    mainMenuInterface();
+                    if (gameManager.hasNotBattleOnce())
+                        return GameCLI.State.BATTLE;
+                    output().println("\nYou've already battled today!");
+                    return GameCLI.State.MAIN_MENU;
                 }
                 case 3 -> {
-                    InventoryCLI.make(gameManager);
-                    mainMenuInterface();
+                    return GameCLI.State.INVENTORY;
                 }
                 case 4 -> {
-                    IntermediateShopCLI.make(gameManager);
-                    mainMenuInterface();
+                    return GameCLI.State.SHOP;
                 }
                 case 5 -> {
                     final boolean hasEnded = gameManager.nextDay();
-                    if (hasEnded) {
-                        displayEndScreen();
-                    } else {
-                        displayNightEvents();
-                        mainMenuInterface();
-                    }
+                    if (hasEnded)
+                        return GameCLI.State.END;
+                    displayNightEvents();
+                    return GameCLI.State.MAIN_MENU;
+                }
+                default -> {
+                    output().println("Invalid input!");
+                    option = input().nextInt();
                 }
-                default -> throw new IllegalArgumentException();
             }
-        } catch (IllegalArgumentException e) {
-            System.out.println("Invalid input!");
-            selectMainMenuOption(input().nextInt());
         }
     }
 
     private void displayMainMenu() {
-        System.out.println("\n===========================\n");
-        System.out.printf("Gold: %d%n",
+        output().println("\n===========================\n");
+        output().printf("Gold: %d%n",
             gameManager.getGold());
-        System.out.printf("Current day: %d/%d%n",
+        output().printf("Current day: %d/%d%n",
             gameManager.getCurrentDay(), gameManager.getMaxDays());
-        System.out.printf("Current environment: %s%n%n",
+        output().printf("Current environment: %s%n%n",
             gameManager.getEnvironment());
-        System.out.println("Select an option:");
+        output().println("Select an option:");
         for (int i = 0; i < menuOptions.size(); i++) {
-            System.out.printf("%d - %s%n", i + 1, menuOptions.get(i));
+            output().printf("%d - %s%n", i + 1, menuOptions.get(i));
         }
     }
 
@@ -97,102 +111,103 @@ public final class MainMenuCLI extends TestableCLI {
         final Optional<Monster> leftParty = gameManager.partyMonstersLeave();
         final List<Monster> levelledUp = gameManager.partyMonstersLevelUp();
         final Optional<Monster> monsterJoining = gameManager.monsterJoinsParty();
-        System.out.printf("%nThe environment has been changed to a(n) %s environment!%n",
+        output().printf("%nThe environment has been changed to a(n) %s environment!%n",
             gameManager.getEnvironment());
-        leftParty.ifPresent(monster -> System.out.printf("%s has expired...%n", monster.getName()));
-        monsterJoining.ifPresent(monster -> monsterJoinsPartyInterface(input(), monster));
+        leftParty.ifPresent(monster -> output().printf("%s has expired...%n", monster.getName()));
+        monsterJoining.ifPresent(monster -> monsterJoinsPartyInterface(terminal(), monster));
         for (final Monster mon : levelledUp) {
-            System.out.printf("%s has levelled up from %d to %d!%n", mon.getName(), mon.getLevel() - 1, mon.getLevel());
+            output().printf("%s has levelled up from %d to %d!%n", mon.getName(), mon.getLevel() - 1, mon.getLevel());
         }
-        System.out.println("Your monsters have healed!");
-        System.out.println("The shop has restocked and there are new battles available!");
+        output().println("Your monsters have healed!");
+        output().println("The shop has restocked and there are new battles available!");
     }
 
-    private void displayEndScreen() {
-        System.out.printf("%s...%n", gameManager.getPlayer().getName());
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
+    /**
+     * Display the outcome of the game and the final party
+     */
+    void displayEndScreen() {
+        output().printf("%s...%n", gameManager.getPlayer().getName());
+        if (!terminal().pause(2000))
             return;
-        }
         final int day = gameManager.getCurrentDay();
         if (day == gameManager.getMaxDays() + 1) {
             if (gameManager.getScore() == 0) {
-                System.out.println("YOU CHEESED THE GAME%n");
+                output().println("YOU CHEESED THE GAME%n");
             } else {
-                System.out.printf("YOU SUCCEEDED IN %d DAYS%n%n", day - 1);
+                output().printf("YOU SUCCEEDED IN %d DAYS%n%n", day - 1);
             }
         } else {
-            System.out.printf("YOU FAILED IN %d DAYS%n", day);
-            System.out.println("Try harder next time\n!");
+            output().printf("YOU FAILED IN %d DAYS%n", day);
+            output().println("Try harder next time\n!");
         }
-        System.out.printf("Max days: %d%n", gameManager.getMaxDays());
-        System.out.printf("Final Gold: %d%n", gameManager.getGold());
-        System.out.printf("Final score: %d%n", gameManager.getScore());
-        System.out.println("\nFinal party:");
+        output().printf("Max days: %d%n", gameManager.getMaxDays());
+        output().printf("Final Gold: %d%n", gameManager.getGold());
+        output().printf("Final score: %d%n", gameManager.getScore());
+        output().println("\nFinal party:");
         for (Monster mon : gameManager.getPlayer().getParty()) {
-            System.out.printf("%s - Level %d %s%n",
+            output().printf("%s - Level %d %s%n",
                 mon.getName(), mon.getLevel(), mon.monsterType());
         }
-        System.out.println("\nThanks for playing!");
+        output().println("\nThanks for playing!");
     }
 
     /**
      * Creates a CLI display for monster that have joined a party
      *
-     * @param input The Scanner to get the input from the user
-     * @param mon   The monster that have joined the party
+     * @param terminal The terminal to get the input from the user and display to
+     * @param mon      The monster that have joined the party
      * @return The monster itself
      */
-    public static Monster monsterJoinsPartyInterface(Scanner input, Monster mon) {
-        monsterJoinsPartyMessage(mon);
-        return monsterJoinsParty(input, mon);
+    public static Monster monsterJoinsPartyInterface(Terminal terminal, Monster mon) {
+        monsterJoinsPartyMessage(terminal.output(), mon);
+        return monsterJoinsParty(terminal, mon);
     }
 
     /**
      * The method to handle naming of a monster
      *
-     * @param input The new name input
-     * @param mon   The monster to be renamed
+     * @param terminal The terminal to get the new name input from
+     * @param mon      The monster to be renamed
      * @return The monster itself
      * @throws IllegalArgumentException if the input contains non-alphabetical characters or not within 3-15 characters
      */
-    public static Monster monsterJoinsParty(Scanner input, Monster mon) throws IllegalArgumentException {
-        try {
-            final String name = input.next();
-            if (((name.length() >= 3) && (name.length() <= 15) && (name.matches("[a-zA-Z]+")))) {
-                mon.setName(name);
-            } else if (!name.matches("")) {
-                throw new IllegalArgumentException();
+    public static Monster monsterJoinsParty(Terminal terminal, Monster mon) throws IllegalArgumentException {
+        while (true) {
+            try {
+                final String name = terminal.input().next();
+                if (((name.length() >= 3) && (name.length() <= 15) && (name.matches("[a-zA-Z]+")))) {
+                    mon.setName(name);
+                } else if (!name.matches("")) {
+                    throw new IllegalArgumentException();
+                }
+                return mon;
+            } catch (IllegalArgumentException ignored) {
+                terminal.output().println("Invalid name! (Must be between 3 and 15 letters inclusive, no symbols or numbers)");
             }
-        } catch (IllegalArgumentException ignored) {
-            System.out.println("Invalid name! (Must be between 3 and 15 letters inclusive, no symbols or numbers)");
-            return monsterJoinsParty(input, mon);
         }
-        return mon;
     }
 
     /**
      * Prints out a message for the monster joining the party
      *
-     * @param mon The monster that has joined
+     * @param output The output to display to
+     * @param mon    The monster that has joined
      */
-    public static void monsterJoinsPartyMessage(Monster mon) {
-        System.out.printf("Congratulations! %s has joined your party!", mon.getName());
-        System.out.println("""
+    public static void monsterJoinsPartyMessage(Output output, Monster mon) {
+        output.printf("Congratulations! %s has joined your party!", mon.getName());
+        output.println("""
 
             Would you like to give it a name?\s
             (Must be between 3 and 15 letters inclusive, no symbols or numbers. Leave blank for default name):""");
     }
 
     /**
-     * Makes a MainMenuCLI and run its interface
+     * Makes a MainMenuCLI and runs the game from it until it ends
      *
      * @param gameManager The game manager / controller
      */
     public static void make(GameManager gameManager) {
-        MainMenuCLI mainMenuCLI = new MainMenuCLI(gameManager);
-        mainMenuCLI.mainMenuInterface();
+        GameCLI.make(gameManager, Terminal.system());
     }
 
 }
@@ -15,7 +15,17 @@ public final class MonsterShopCLI extends ShopCLI {
      * @param gameManager The game manager / controller
      */
     public MonsterShopCLI(GameManager gameManager) {
-        super(gameManager);
+        this(gameManager, Terminal.system());
+    }
+
+    /**
+     * A CLi for displaying monster from the shop and allowing the player to buy monsters, reading from a terminal
+     *
+     * @param gameManager The game manager / controller
+     * @param terminal    The terminal to read from
+     */
+    public MonsterShopCLI(GameManager gameManager, Terminal terminal) {
+        super(gameManager, terminal);
     }
 
     /**
@@ -24,27 +34,29 @@ public final class MonsterShopCLI extends ShopCLI {
      * @param scannerInput The player's input as an int.
      */
     public void buyPurchasable(int scannerInput) throws IllegalArgumentException, Trainer.PartyFullException {
-        try {
-            if ((scannerInput > 0) && (scannerInput < shop.getMonsterStock().size() + 1)) {
-                final Monster mon = shop.getMonsterStock().get(scannerInput - 1);
-                if (party.size() == 4) {
-                    throw new Trainer.PartyFullException("Cannot add more than 4 monster");
+        int option = scannerInput;
+        while (option != 0) {
+            try {
+                final List<Monster> stock = shop.getMonsterStock();
+                if ((option > 0) && (option < stock.size() + 1)) {
+                    final Monster mon = stock.get(option - 1);
+                    if (party.size() == 4) {
+                        throw new Trainer.PartyFullException("Cannot add more than 4 monster");
+                    }
+                    gameManager.buy(mon);
+                    MainMenuCLI.monsterJoinsPartyInterface(terminal(), mon);
+                    displayBuyPurchasableOptions(mon);
+                } else {
+                    throw new IllegalArgumentException();
                 }
-                gameManager.buy(mon);
-                MainMenuCLI.monsterJoinsPartyInterface(input(), mon);
-                buyPurchasableInterface(mon);
-            } else if (scannerInput != 0) {
-                throw new IllegalArgumentException();
+            } catch (IllegalArgumentException e) {
+                output().println("Invalid input!");
+            } catch (Shop.InsufficientFundsException e) {
+                output().println("You're too poor! Come back when you're a little, mmmm... RICHER!");
+            } catch (Trainer.PartyFullException e) {
+                output().println("Your party is full!");
             }
-        } catch (IllegalArgumentException e) {
-            System.out.println("Invalid input!");
-            buyPurchasable(input().nextInt());
-        } catch (Shop.InsufficientFundsException e) {
-            System.out.println("You're too poor! Come back when you're a little, mmmm... RICHER!");
-            buyPurchasable(input().nextInt());
-        } catch (Trainer.PartyFullException e) {
-            System.out.println("Your party is full!");
-            buyPurchasable(input().nextInt());
+            option = input().nextInt();
         }
     }
 
@@ -54,17 +66,20 @@ public final class MonsterShopCLI extends ShopCLI {
      * @param scannerInput The player's input as an int.
      */
     public void sellPurchasable(int scannerInput) throws IllegalArgumentException {
-        try {
-            if ((scannerInput > 0) && (scannerInput < party.size() + 1)) {
-                final Monster mon = party.get(scannerInput - 1);
-                gameManager.sell(mon);
-                sellPurchasableInterface(mon);
-            } else if (scannerInput != 0) {
-                throw new IllegalArgumentException();
+        int option = scannerInput;
+        while (option != 0) {
+            try {
+                if ((option > 0) && (option < party.size() + 1)) {
+                    final Monster mon = party.get(option - 1);
+                    gameManager.sell(mon);
+                    displaySellPurchasableOptions(mon);
+                } else {
+                    throw new IllegalArgumentException();
+                }
+            } catch (IllegalArgumentException e) {
+                output().println("Invalid input!");
             }
-        } catch (IllegalArgumentException e) {
-            System.out.println("Invalid input!");
-            sellPurchasable(input().nextInt());
+            option = input().nextInt();
         }
     }
 
@@ -74,24 +89,24 @@ public final class MonsterShopCLI extends ShopCLI {
      * @param boughtMon The last monster bought, null otherwise.
      */
     public void displayBuyPurchasableOptions(Purchasable boughtMon) {
-        System.out.println("\n===========================\n");
+        output().println("\n===========================\n");
         if (boughtMon != null) {
-            System.out.printf("%s bought!\n", boughtMon.getName());
+            output().printf("%s bought!\n", boughtMon.getName());
         }
-        System.out.printf("Gold: %d\n", gameManager.getGold());
-        System.out.println("Select a monster to buy:");
+        output().printf("Gold: %d\n", gameManager.getGold());
+        output().println("Select a monster to buy:");
         final List<Monster> shopMonsters = shop.getMonsterStock();
         for (int i = 0; i < shopMonsters.size(); i++) {
             final Monster mon = shopMonsters.get(i);
-            System.out.printf("\n%d - %s (Level %d)\n", i + 1, mon.getName(), mon.getLevel());
-            System.out.printf("Price: %d Gold\n", mon.buyPrice());
-            System.out.printf("Max Hp: %d\n", mon.maxHp());
-            System.out.printf("Attack Damage: %d\n", mon.scaledDamage());
-            System.out.printf("Speed: %d\n", mon.speed());
-            System.out.printf("Overnight Heal Rate: %d\n", mon.healRate());
-            System.out.printf("Ideal Environment: %s\n", mon.idealEnvironment());
+            output().printf("\n%d - %s (Level %d)\n", i + 1, mon.getName(), mon.getLevel());
+            output().printf("Price: %d Gold\n", mon.buyPrice());
+            output().printf("Max Hp: %d\n", mon.maxHp());
+            output().printf("Attack Damage: %d\n", mon.scaledDamage());
+            output().printf("Speed: %d\n", mon.speed());
+            output().printf("Overnight Heal Rate: %d\n", mon.healRate());
+            output().printf("Ideal Environment: %s\n", mon.idealEnvironment());
         }
-        System.out.println("\n0 - Cancel");
+        output().println("\n0 - Cancel");
     }
 
     /**
@@ -100,25 +115,26 @@ public final class MonsterShopCLI extends ShopCLI {
      * @param soldMon The last monster sold, null otherwise.
      */
     public void displaySellPurchasableOptions(Purchasable soldMon) {
-        System.out.println("\n===========================\n");
+        output().println("\n===========================\n");
         if (soldMon != null) {
-            System.out.printf("%s sold!\n", soldMon.getName());
+            output().printf("%s sold!\n", soldMon.getName());
         }
-        System.out.printf("Gold: %d\n", gameManager.getGold());
-        System.out.println("Select a monster to sell:");
+        output().printf("Gold: %d\n", gameManager.getGold());
+        output().println("Select a monster to sell:");
         for (int i = 0; i < party.size(); i++) {
             final Monster mon = party.get(i);
-            System.out.printf("%d - %s (Sell Price: %d)\n", i + 1, mon.getName(), mon.sellPrice());
+            output().printf("%d - %s (Sell Price: %d)\n", i + 1, mon.getName(), mon.sellPrice());
         }
-        System.out.println("\n0 - Cancel");
+        output().println("\n0 - Cancel");
     }
 
     /**
      * Makes a MonsterShopCLI and run its interface
      * @param gameManager The game manager / controller
+     * @param terminal    The terminal to read from
      */
-    public static void make(GameManager gameManager) {
-        MonsterShopCLI monsterShopCLI = new MonsterShopCLI(gameManager);
+    public static void make(GameManager gameManager, Terminal terminal) {
+        MonsterShopCLI monsterShopCLI = new MonsterShopCLI(gameManager, terminal);
         monsterShopCLI.shopTypeInterface("monsters");
     }
 }
@@ -0,0 +1,194 @@
+package seng.monsters.ui.cli;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Formatter;
+
+/**
+ * Where a CLI writes its output to
+ */
+public interface Output {
+    /**
+     * Write some text
+     *
+     * @param text The text
+     */
+    void print(String text);
+
+    /**
+     * Write some text followed by a line separator
+     *
+     * @param text The text
+     */
+    void println(String text);
+
+    /**
+     * Write a formatted text, the same way as <code>String.format</code>
+     *
+     * @param format The format string
+     * @param args   The arguments referenced by the format
+     */
+    void printf(String format, Object... args);
+
+    /**
+     * Write out anything still held back
+     */
+    void flush();
+
+    /**
+     * Get the output writing straight to whichever <code>System.out</code> is current
+     *
+     * @return The system output
+     */
+    static Output system() {
+        return SystemOutput.INSTANCE;
+    }
+
+    /**
+     * Creates an output held back in memory and written to a writer in large chunks, or when flushed.
+     * It is not synchronized, so it must only be used by one session at a time.
+     *
+     * @param sink The writer the output ends up in
+     * @return The buffered output
+     */
+    static Output buffered(Writer sink) {
+        return new BufferedOutput(sink);
+    }
+
+    /**
+     * Get the output discarding everything, without even formatting it
+     *
+     * @return The null output
+     */
+    static Output none() {
+        return NullOutput.INSTANCE;
+    }
+
+    /**
+     * An output writing to the <code>System.out</code> as of each write, so it follows any swap of <code>System.out</code>
+     */
+    enum SystemOutput implements Output {
+        /**
+         * The only system output
+         */
+        INSTANCE;
+
+        @Override
+        public void print(String text) {
+            System.out.print(text);
+        }
+
+        @Override
+        public void println(String text) {
+            System.out.println(text);
+        }
+
+        @Override
+        public void printf(String format, Object... args) {
+            System.out.printf(format, args);
+        }
+
+        @Override
+        public void flush() {
+            System.out.flush();
+        }
+    }
+
+    /**
+     * An output discarding everything
+     */
+    enum NullOutput implements Output {
+        /**
+         * The only null output
+         */
+        INSTANCE;
+
+        @Override
+        public void print(String text) {
+        }
+
+        @Override
+        public void println(String text) {
+        }
+
+        @Override
+        public void printf(String format, Object... args) {
+        }
+
+        @Override
+        public void flush() {
+        }
+    }
+
+    /**
+     * An output held back in memory and written to a writer in large chunks
+     */
+    final class BufferedOutput implements Output {
+        /**
+         * The amount of characters held back before writing them out
+         */
+        private static final int CAPACITY = 1 << 14;
+
+        /**
+         * The writer the output ends up in
+         */
+        private final Writer sink;
+
+        /**
+         * The output held back
+         */
+        private final StringBuilder buffer = new StringBuilder(CAPACITY);
+
+        /**
+         * The formatter writing into the buffer, reused for every format
+         */
+        private final Formatter formatter = new Formatter(buffer);
+
+        /**
+         * Creates an output held back in memory
+         *
+         * @param sink The writer the output ends up in
+         */
+        private BufferedOutput(Writer sink) {
+            this.sink = sink;
+        }
+
+        @Override
+        public void print(String text) {
+            buffer.append(text);
+            flushIfFull();
+        }
+
+        @Override
+        public void println(String text) {
+            buffer.append(text).append(System.lineSeparator());
+            flushIfFull();
+        }
+
+        @Override
+        public void printf(String format, Object... args) {
+            formatter.format(format, args);
+            flushIfFull();
+        }
+
+        @Override
+        public void flush() {
+            try {
+                sink.append(buffer);
+                sink.flush();
+                buffer.setLength(0);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Write the output out once enough of it is held back
+         */
+        private void flushIfFull() {
+            if (buffer.length() >= CAPACITY)
+                flush();
+        }
+    }
+}
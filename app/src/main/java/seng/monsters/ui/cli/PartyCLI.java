@@ -18,7 +18,16 @@ public final class PartyCLI extends TestableCLI {
      * @param gameManager The game manager / controller
      */
     public PartyCLI(GameManager gameManager) {
-        super();
+        this(gameManager, Terminal.system());
+    }
+
+    /**
+     * Creates a CLI to display the monster party, reading from a terminal
+     * @param gameManager The game manager / controller
+     * @param terminal    The terminal to read from
+     */
+    public PartyCLI(GameManager gameManager, Terminal terminal) {
+        super(terminal);
         this.gameManager = gameManager;
         this.party = gameManager.getPlayer().getParty();
     }
@@ -37,7 +46,7 @@ public final class PartyCLI extends TestableCLI {
                 return;
             } catch (InputMismatchException e) {
                 input().next();
-                System.out.println("Invalid input!");
+                output().println("Invalid input!");
             }
         }
     }
@@ -55,7 +64,7 @@ public final class PartyCLI extends TestableCLI {
                 return selectMonsterToSwap(mon, input().nextInt());
             } catch (InputMismatchException e) {
                 input().next();
-                System.out.println("Invalid input!");
+                output().println("Invalid input!");
             }
         }
     }
@@ -68,20 +77,22 @@ public final class PartyCLI extends TestableCLI {
      * @throws IndexOutOfBoundsException if a valid parameter is passed, but there is no monster in that party position.
      */
     public void selectMonsterToMove(int scannerInput) throws IllegalArgumentException, IndexOutOfBoundsException {
-        try {
-            if ((scannerInput > 0) && (scannerInput < 5)) {
-                final Monster mon = party.get(scannerInput - 1);
-                final boolean monsterMoved = moveMonsterInterface(mon);
-                partyStatsInterface(monsterMoved);
-            } else if (scannerInput != 0) {
-                throw new IllegalArgumentException();
+        int position = scannerInput;
+        while (position != 0) {
+            try {
+                if ((position > 0) && (position < 5)) {
+                    final Monster mon = party.get(position - 1);
+                    final boolean monsterMoved = moveMonsterInterface(mon);
+                    displayPartyStats(monsterMoved);
+                } else {
+                    throw new IllegalArgumentException();
+                }
+            } catch (IllegalArgumentException | InputMismatchException e) {
+                output().println("Invalid input!");
+            } catch (IndexOutOfBoundsException e) {
+                output().println("No monster in that position!");
             }
-        } catch (IllegalArgumentException | InputMismatchException e) {
-            System.out.println("Invalid input!");
-            selectMonsterToMove(input().nextInt());
-        } catch (IndexOutOfBoundsException e) {
-            System.out.println("No monster in that position!");
-            selectMonsterToMove(input().nextInt());
+            position = input().nextInt();
         }
     }
 
@@ -96,19 +107,21 @@ public final class PartyCLI extends TestableCLI {
      */
     public boolean selectMonsterToSwap(Monster mon, int scannerInput)
         throws IllegalArgumentException, IndexOutOfBoundsException {
-        try {
-            if ((scannerInput > 0) && (scannerInput < 5)) {
-                gameManager.switchMonsterOnParty(mon, scannerInput - 1);
-                return true;
-            } else if (scannerInput != 0) {
-                throw new IllegalArgumentException();
+        int position = scannerInput;
+        while (position != 0) {
+            try {
+                if ((position > 0) && (position < 5)) {
+                    gameManager.switchMonsterOnParty(mon, position - 1);
+                    return true;
+                } else {
+                    throw new IllegalArgumentException();
+                }
+            } catch (IllegalArgumentException | InputMismatchException e) {
+                output().println("Invalid input!");
+            } catch (IndexOutOfBoundsException e) {
+                output().println("No monster in that position!");
             }
-        } catch (IllegalArgumentException | InputMismatchException e) {
-            System.out.println("Invalid input!");
-            return selectMonsterToSwap(mon, input().nextInt());
-        } catch (IndexOutOfBoundsException e) {
-            System.out.println("No monster in that position!");
-            return selectMonsterToSwap(mon, input().nextInt());
+            position = input().nextInt();
         }
         return false;
     }
@@ -119,23 +132,23 @@ public final class PartyCLI extends TestableCLI {
      * @param monsterMoved Flagged if a monster was moved in the previous method.
      */
     public void displayPartyStats(boolean monsterMoved) {
-        System.out.println("\n===========================\n");
+        output().println("\n===========================\n");
         if (monsterMoved) {
-            System.out.println("Monsters successfully swapped!");
+            output().println("Monsters successfully swapped!");
         }
-        System.out.println("Here is your party. Select a monster to move, or return to the main menu:");
+        output().println("Here is your party. Select a monster to move, or return to the main menu:");
         for (int i = 0; i < party.size(); i++) {
             final Monster mon = party.get(i);
-            System.out.printf("\n%d - %s (Level %d, %d/%d HP)\n",
+            output().printf("\n%d - %s (Level %d, %d/%d HP)\n",
                 i + 1, mon.getName(), mon.getLevel(), mon.getCurrentHp(), mon.maxHp());
-            System.out.printf("Monster Type: %s\n", mon.monsterType());
-            System.out.printf("Sell Price: %d Gold\n", mon.sellPrice());
-            System.out.printf("Attack Damage: %d\n", mon.scaledDamage());
-            System.out.printf("Speed: %d\n", mon.speed());
-            System.out.printf("Overnight Heal Rate: %d\n", mon.healRate());
-            System.out.printf("Ideal Environment: %s\n", mon.idealEnvironment());
+            output().printf("Monster Type: %s\n", mon.monsterType());
+            output().printf("Sell Price: %d Gold\n", mon.sellPrice());
+            output().printf("Attack Damage: %d\n", mon.scaledDamage());
+            output().printf("Speed: %d\n", mon.speed());
+            output().printf("Overnight Heal Rate: %d\n", mon.healRate());
+            output().printf("Ideal Environment: %s\n", mon.idealEnvironment());
         }
-        System.out.println("\n0 - Return to main menu");
+        output().println("\n0 - Return to main menu");
     }
 
     /**
@@ -144,22 +157,23 @@ public final class PartyCLI extends TestableCLI {
      * @param mon The monster to be swapped.
      */
     public void displayMoveMonsters(Monster mon) {
-        System.out.println("\n===========================\n");
-        System.out.printf("Which monster would you like to swap %s with?\n", mon.getName());
+        output().println("\n===========================\n");
+        output().printf("Which monster would you like to swap %s with?\n", mon.getName());
         for (int i = 0; i < party.size(); i++) {
             final Monster swapMon = party.get(i);
-            System.out.printf("%d - %s\n", i + 1, swapMon.getName());
+            output().printf("%d - %s\n", i + 1, swapMon.getName());
         }
-        System.out.println("\n0 - Cancel");
+        output().println("\n0 - Cancel");
     }
 
     /**
      * Makes a PartyCLI and run its interface
      * @param gameManager The game manager / controller
+     * @param terminal    The terminal to read from
      */
-    public static void make(GameManager gameManager) {
+    public static void make(GameManager gameManager, Terminal terminal) {
         try {
-            final PartyCLI partyCLI = new PartyCLI(gameManager);
+            final PartyCLI partyCLI = new PartyCLI(gameManager, terminal);
             partyCLI.partyStatsInterface(false);
         } catch (Exception e) {
             e.printStackTrace();
@@ -2,6 +2,7 @@ package seng.monsters.ui.cli;
 
 import seng.monsters.model.GameManager;
 import seng.monsters.model.Monster;
+import seng.monsters.model.RandomSource;
 
 import java.util.InputMismatchException;
 import java.util.List;
@@ -18,19 +19,46 @@ public final class SetupCLI extends TestableCLI {
     );
     private final List<String> difficulties = List.of("Normal", "Hard", "Utterly Impossible");
 
+    /**
+     * The random source for the game being set up
+     */
+    private final RandomSource rng;
+
+    /**
+     * Creates a CLI to set up a game from the <code>System.in</code>
+     */
+    public SetupCLI() {
+        this(Terminal.system(), RandomSource.create());
+    }
+
+    /**
+     * Creates a CLI to set up a game from a terminal, with a given random source.
+     * The same seeded random source and the same commands always give the same game.
+     *
+     * @param terminal The terminal to read from
+     * @param rng      The random source for the game
+     */
+    public SetupCLI(Terminal terminal, RandomSource rng) {
+        super(terminal);
+        this.rng = rng;
+    }
+
     /**
      * Runs each setup interface method and makes the main menu CLI
-     * out of the returned values.
+     * out of the returned values, until the game is over.
+     *
+     * @return The game manager of the finished game
      */
-    public void setup() {
+    public GameManager setup() {
         final String name = chooseNameInterface();
         final int maxDays = chooseMaxDaysInterface();
         final int difficulty = selectDifficultyInterface();
-        final GameManager gameManager = new GameManager(0, 1, maxDays, difficulty, name);
+        final GameManager gameManager = new GameManager(0, 1, maxDays, difficulty, name, rng);
         final Monster mon = selectStartingMonsterInterface();
-        System.out.printf("\n%s, Your adventure has begun!", name);
+        output().printf("\n%s, Your adventure has begun!", name);
         gameManager.getPlayer().add(mon);
-        MainMenuCLI.make(gameManager);
+        GameCLI.make(gameManager, terminal());
+        return gameManager;
     }
 
     /**
@@ -46,7 +74,7 @@ public final class SetupCLI extends TestableCLI {
                 return chooseName(input().next());
             } catch (InputMismatchException e) {
                 input().next();
-                System.out.println("Invalid name! (Must be between 3 and 15 letters inclusive, no symbols or numbers)");
+                output().println("Invalid name! (Must be between 3 and 15 letters inclusive, no symbols or numbers)");
             }
         }
     }
@@ -64,7 +92,7 @@ public final class SetupCLI extends TestableCLI {
                 return chooseMaxDays(input().nextInt());
             } catch (InputMismatchException e) {
                 input().next();
-                System.out.println("Invalid input! (Must be a number between 5 and 15 inclusive)");
+                output().println("Invalid input! (Must be a number between 5 and 15 inclusive)");
             }
         }
     }
@@ -81,7 +109,7 @@ public final class SetupCLI extends TestableCLI {
                 return selectDifficulty(input().nextInt());
             } catch (InputMismatchException e) {
                 input().next();
-                System.out.println("Invalid input!");
+                output().println("Invalid input!");
             }
         }
     }
@@ -98,7 +126,7 @@ public final class SetupCLI extends TestableCLI {
                 return selectStartingMonster(input().nextInt());
             } catch (InputMismatchException e) {
                 input().next();
-                System.out.println("Invalid input!");
+                output().println("Invalid input!");
             }
         }
     }
@@ -111,17 +139,20 @@ public final class SetupCLI extends TestableCLI {
      * @throws IllegalArgumentException if an invalid input is passed.
      */
     public String chooseName(String scannerInput) throws IllegalArgumentException {
-        try {
-            if ((scannerInput.length() >= 3) && (scannerInput.length() <= 15)
-                && (scannerInput.matches("[a-zA-Z]+"))) {
-                System.out.printf("\nName \"%s\" chosen.", scannerInput);
-                return scannerInput;
-            } else {
-                throw new IllegalArgumentException();
+        String name = scannerInput;
+        while (true) {
+            try {
+                if ((name.length() >= 3) && (name.length() <= 15)
+                    && (name.matches("[a-zA-Z]+"))) {
+                    output().printf("\nName \"%s\" chosen.", name);
+                    return name;
+                } else {
+                    throw new IllegalArgumentException();
+                }
+            } catch (IllegalArgumentException e) {
+                output().println("Invalid name! (Must be between 3 and 15 letters inclusive, no symbols or numbers)");
+                name = input().next();
             }
-        } catch (IllegalArgumentException e) {
-            System.out.println("Invalid name! (Must be between 3 and 15 letters inclusive, no symbols or numbers)");
-            return chooseName(input().next());
         }
     }
 
@@ -133,16 +164,19 @@ public final class SetupCLI extends TestableCLI {
      * @throws IllegalArgumentException if an invalid input is passed.
      */
     public int chooseMaxDays(int scannerInput) throws IllegalArgumentException {
-        try {
-            if ((scannerInput >= 5) && (scannerInput <= 15)) {
-                System.out.printf("\n%d days chosen.", scannerInput);
-                return scannerInput;
-            } else {
-                throw new IllegalArgumentException();
+        int maxDays = scannerInput;
+        while (true) {
+            try {
+                if ((maxDays >= 5) && (maxDays <= 15)) {
+                    output().printf("\n%d days chosen.", maxDays);
+                    return maxDays;
+                } else {
+                    throw new IllegalArgumentException();
+                }
+            } catch (IllegalArgumentException e) {
+                output().println("Invalid input! (Must be a number between 5 and 15 inclusive)");
+                maxDays = input().nextInt();
             }
-        } catch (IllegalArgumentException e) {
-            System.out.println("Invalid input! (Must be a number between 5 and 15 inclusive)");
-            return chooseMaxDays(input().nextInt());
         }
     }
 
@@ -154,16 +188,19 @@ public final class SetupCLI extends TestableCLI {
      * @throws IllegalArgumentException if an invalid input is passed.
      */
     public int selectDifficulty(int scannerInput) throws IllegalArgumentException {
-        try {
-            if ((scannerInput > 0) && (scannerInput < 4)) {
-                System.out.printf("\n%s chosen.", difficulties.get(scannerInput - 1));
-                return scannerInput;
-            } else {
-                throw new IllegalArgumentException();
+        int difficulty = scannerInput;
+        while (true) {
+            try {
+                if ((difficulty > 0) && (difficulty < 4)) {
+                    output().printf("\n%s chosen.", difficulties.get(difficulty - 1));
+                    return difficulty;
+                } else {
+                    throw new IllegalArgumentException();
+                }
+            } catch (IllegalArgumentException e) {
+                output().println("Invalid input!");
+                difficulty = input().nextInt();
             }
-        } catch (IllegalArgumentException e) {
-            System.out.println("Invalid input!");
-            return selectDifficulty(input().nextInt());
         }
     }
 
@@ -175,15 +212,18 @@ public final class SetupCLI extends TestableCLI {
      * @throws IllegalArgumentException if an invalid input is passed.
      */
     public Monster selectStartingMonster(int scannerInput) throws IllegalArgumentException {
-        try {
-            if ((scannerInput > 0) && (scannerInput < 4)) {
-                return MainMenuCLI.monsterJoinsPartyInterface(input(), starterMonsters.get(scannerInput - 1));
-            } else {
-                throw new IllegalArgumentException();
+        int choice = scannerInput;
+        while (true) {
+            try {
+                if ((choice > 0) && (choice < 4)) {
+                    return MainMenuCLI.monsterJoinsPartyInterface(terminal(), starterMonsters.get(choice - 1));
+                } else {
+                    throw new IllegalArgumentException();
+                }
+            } catch (IllegalArgumentException e) {
+                output().println("Invalid input!");
+                choice = input().nextInt();
             }
-        } catch (IllegalArgumentException e) {
-            System.out.println("Invalid input!");
-            return selectStartingMonster(input().nextInt());
         }
     }
 
@@ -191,27 +231,27 @@ public final class SetupCLI extends TestableCLI {
      * Prints out a message introducing the game and prompting the player to choose a name.
      */
     public void welcomeMessage() {
-        System.out.println("\n===========================\n");
-        System.out.println("Welcome to Monster Fighter!");
-        System.out.println("Choose a name (Must be between 3 and 15 letters inclusive, no symbols or numbers):");
+        output().println("\n===========================\n");
+        output().println("Welcome to Monster Fighter!");
+        output().println("Choose a name (Must be between 3 and 15 letters inclusive, no symbols or numbers):");
     }
 
     /**
      * Prints out a message prompting the player to choose a number of days to play.
      */
     public void dayNumberMessage() {
-        System.out.println("\n===========================\n");
-        System.out.println("Choose a number of days to play (Must be between 5 and 15 inclusive):");
+        output().println("\n===========================\n");
+        output().println("Choose a number of days to play (Must be between 5 and 15 inclusive):");
     }
 
     /**
      * Prints out the difficulty choices.
      */
     public void displayDifficulties() {
-        System.out.println("\n===========================\n");
-        System.out.println("Select a difficulty (1-3):");
+        output().println("\n===========================\n");
+        output().println("Select a difficulty (1-3):");
         for (int i = 0; i < difficulties.size(); i++) {
-            System.out.printf("%d - %s\n", i + 1, difficulties.get(i));
+            output().printf("%d - %s\n", i + 1, difficulties.get(i));
         }
     }
 
@@ -219,16 +259,16 @@ public final class SetupCLI extends TestableCLI {
      * Prints out the starting monster choices.
      */
     public void displayStartingMonsters() {
-        System.out.println("\n===========================\n");
-        System.out.println("Select a starting monster (1-3):");
+        output().println("\n===========================\n");
+        output().println("Select a starting monster (1-3):");
         for (int i = 0; i < starterMonsters.size(); i++) {
             final Monster mon = starterMonsters.get(i);
-            System.out.printf("\n%d - %s (Level %d)\n", i + 1, mon.getName(), mon.getLevel());
-            System.out.printf("Max Hp: %d HP\n", mon.maxHp());
-            System.out.printf("Overnight Heal Rate: %d\n", mon.healRate());
-            System.out.printf("Attack Damage: %d\n", mon.scaledDamage());
-            System.out.printf("Speed: %d\n", mon.speed());
-            System.out.printf("Ideal Environment: %s\n", mon.idealEnvironment());
+            output().printf("\n%d - %s (Level %d)\n", i + 1, mon.getName(), mon.getLevel());
+            output().printf("Max Hp: %d HP\n", mon.maxHp());
+            output().printf("Overnight Heal Rate: %d\n", mon.healRate());
+            output().printf("Attack Damage: %d\n", mon.scaledDamage());
+            output().printf("Speed: %d\n", mon.speed());
+            output().printf("Ideal Environment: %s\n", mon.idealEnvironment());
         }
     }
 
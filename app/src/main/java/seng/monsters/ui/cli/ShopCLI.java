@@ -32,6 +32,16 @@ public abstract class ShopCLI extends TestableCLI {
      * @param gameManager The game manager / controller
      */
     public ShopCLI(GameManager gameManager) {
+        this(gameManager, Terminal.system());
+    }
+
+    /**
+     * Creates a base CLI for handling all shop operation, reading from a terminal
+     * @param gameManager The game manager / controller
+     * @param terminal    The terminal to read from
+     */
+    public ShopCLI(GameManager gameManager, Terminal terminal) {
+        super(terminal);
         this.gameManager = gameManager;
         this.shop = gameManager.getShop();
         this.party = gameManager.getPlayer().getParty();
@@ -51,7 +61,7 @@ public abstract class ShopCLI extends TestableCLI {
                 return;
             } catch (InputMismatchException e) {
                 input().next();
-                System.out.println("Invalid input!");
+                output().println("Invalid input!");
             }
         }
     }
@@ -69,7 +79,7 @@ public abstract class ShopCLI extends TestableCLI {
                 return;
             } catch (InputMismatchException e) {
                 input().next();
-                System.out.println("Invalid input!");
+                output().println("Invalid input!");
             }
         }
     }
@@ -87,7 +97,7 @@ public abstract class ShopCLI extends TestableCLI {
                 return;
             } catch (InputMismatchException e) {
                 input().next();
-                System.out.println("Invalid input!");
+                output().println("Invalid input!");
             }
         }
     }
@@ -101,35 +111,34 @@ public abstract class ShopCLI extends TestableCLI {
      * @throws IllegalArgumentException if an invalid input is passed.
      */
     public void selectShopType(int scannerInput, String shopType) throws IllegalArgumentException {
-        try {
-            switch (scannerInput) {
-                case 1:
-                    buyPurchasableInterface(null);
-                    displayShopOptions(shopType);
-                    selectShopType(input().nextInt(), shopType);
-                    break;
-                case 2:
-                    if (shopType.equals("items")) {
-                        sellPurchasableInterface(null);
+        int option = scannerInput;
+        while (option != 0) {
+            try {
+                switch (option) {
+                    case 1:
+                        buyPurchasableInterface(null);
                         displayShopOptions(shopType);
-                    } else {
-                        if (!party.isEmpty()) {
+                        break;
+                    case 2:
+                        if (shopType.equals("items")) {
                             sellPurchasableInterface(null);
                             displayShopOptions(shopType);
                         } else {
-                            System.out.println("You have no monsters to sell!");
+                            if (!party.isEmpty()) {
+                                sellPurchasableInterface(null);
+                                displayShopOptions(shopType);
+                            } else {
+                                output().println("You have no monsters to sell!");
+                            }
                         }
-                    }
-                    selectShopType(input().nextInt(), shopType);
-                    break;
-                case 0:
-                    break;
-                default:
-                    throw new IllegalArgumentException();
+                        break;
+                    default:
+                        throw new IllegalArgumentException();
+                }
+            } catch (IllegalArgumentException e) {
+                output().println("Invalid input!");
             }
-        } catch (IllegalArgumentException e) {
-            System.out.println("Invalid input!");
-            selectShopType(input().nextInt(), shopType);
+            option = input().nextInt();
         }
     }
 
@@ -139,12 +148,12 @@ public abstract class ShopCLI extends TestableCLI {
      * @param shopType The string "items" or "monsters" depending on the type of shop.
      */
     public void displayShopOptions(String shopType) {
-        System.out.println("\n===========================\n");
-        System.out.printf("Gold: %d\n", gameManager.getGold());
-        System.out.printf("Would you like to buy or sell %s?%n", shopType);
-        System.out.printf("1 - Buy %s%n", shopType);
-        System.out.printf("2 - Sell %s%n", shopType);
-        System.out.println("\n0 - Return to shop menu");
+        output().println("\n===========================\n");
+        output().printf("Gold: %d\n", gameManager.getGold());
+        output().printf("Would you like to buy or sell %s?%n", shopType);
+        output().printf("1 - Buy %s%n", shopType);
+        output().printf("2 - Sell %s%n", shopType);
+        output().println("\n0 - Return to shop menu");
     }
 
     /**
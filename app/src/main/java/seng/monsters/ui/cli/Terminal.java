@@ -0,0 +1,124 @@
+package seng.monsters.ui.cli;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.Scanner;
+
+/**
+ * Where a CLI reads its input from and writes its output to, and whether it is being used by a person at a keyboard
+ */
+public final class Terminal {
+    /**
+     * The <code>System.in</code> the system terminal reads from
+     */
+    private static InputStream systemSource = null;
+
+    /**
+     * The terminal shared by every CLI reading from the same <code>System.in</code>
+     */
+    private static Terminal systemTerminal = null;
+
+    /**
+     * The input of the terminal
+     */
+    private final Scanner input;
+
+    /**
+     * The output of the terminal
+     */
+    private final Output output;
+
+    /**
+     * True if a person is reading the output, so pauses are kept
+     */
+    private final boolean isInteractive;
+
+    /**
+     * Creates a terminal over a scanner
+     *
+     * @param input         The input of the terminal
+     * @param output        The output of the terminal
+     * @param isInteractive True if a person is reading the output
+     */
+    private Terminal(Scanner input, Output output, boolean isInteractive) {
+        input.useDelimiter("\\n|\\r\\n|\\r");
+        this.input = input;
+        this.output = output;
+        this.isInteractive = isInteractive;
+    }
+
+    /**
+     * Get the terminal for the current <code>System.in</code>, shared with the other CLIs.
+     * <p>
+     * A scanner reads ahead of what it returns, so CLIs opened from one another
+     * must share it for piped input to reach each of them in order.
+     *
+     * @return The system terminal
+     */
+    public static synchronized Terminal system() {
+        if (systemTerminal == null || systemSource != System.in) {
+            systemSource = System.in;
+            systemTerminal = new Terminal(new Scanner(System.in), Output.system(), true);
+        }
+        return systemTerminal;
+    }
+
+    /**
+     * Creates a terminal reading commands from a script, with no pauses for anyone to read the output.
+     * Terminals sharing nothing can be used by sessions on different threads at once.
+     *
+     * @param source The commands, one per line
+     * @param output The output of the terminal
+     * @return The scripted terminal
+     */
+    public static Terminal scripted(Reader source, Output output) {
+        return new Terminal(new Scanner(source), output, false);
+    }
+
+    /**
+     * Get the input of the terminal, first writing out any output held back if a person is reading it
+     *
+     * @return The input as Scanner
+     */
+    public Scanner input() {
+        if (isInteractive)
+            output.flush();
+        return input;
+    }
+
+    /**
+     * Get the output of the terminal
+     *
+     * @return The output
+     */
+    public Output output() {
+        return output;
+    }
+
+    /**
+     * Check if a person is reading the output
+     *
+     * @return True if pauses are kept
+     */
+    public boolean isInteractive() {
+        return isInteractive;
+    }
+
+    /**
+     * Give the person reading some time, doing nothing if the terminal is not interactive
+     *
+     * @param millis The time to pause for in milliseconds
+     * @return False if the pause was interrupted
+     */
+    public boolean pause(long millis) {
+        if (!isInteractive)
+            return true;
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
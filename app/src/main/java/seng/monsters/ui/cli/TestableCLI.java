@@ -10,13 +10,30 @@ package seng.monsters.ui.cli;
 import java.util.Scanner;
 
 /**
- * Base for a Testable CLI that takes input from the <code>System.in</code>
+ * Base for a Testable CLI that takes input from and writes output to a <code>Terminal</code>,
+ * by default the <code>System.in</code> and <code>System.out</code>
  */
 public abstract class TestableCLI {
     /**
-     * The current input
+     * The current terminal
      */
-    private Scanner inputScanner = TestableCLI.customInputScanner();
+    private Terminal terminal;
+
+    /**
+     * Creates a CLI reading from the <code>System.in</code>
+     */
+    protected TestableCLI() {
+        this(Terminal.system());
+    }
+
+    /**
+     * Creates a CLI reading from a terminal
+     *
+     * @param terminal The terminal to read from
+     */
+    protected TestableCLI(Terminal terminal) {
+        this.terminal = terminal;
+    }
 
     /**
      * Get the input as of now
@@ -24,19 +41,40 @@ public abstract class TestableCLI {
      * @return The input as Scanner
      */
     public final Scanner input() {
-        return inputScanner;
+        return terminal.input();
+    }
+
+    /**
+     * Get the output as of now
+     *
+     * @return The output
+     */
+    public final Output output() {
+        return terminal.output();
+    }
+
+    /**
+     * Get the terminal this CLI reads from, to be handed to the CLIs it opens
+     *
+     * @return The terminal
+     */
+    public final Terminal terminal() {
+        return terminal;
     }
 
     /**
      * Refresh the input scanner to have the updated <code>System.in</code>
      */
     protected final void refreshSystemIn() {
-        inputScanner = TestableCLI.customInputScanner();
+        terminal = Terminal.system();
     }
 
-    private static Scanner customInputScanner() {
-        final Scanner inputScanner = new Scanner(System.in);
-        inputScanner.useDelimiter("\\n|\\r\\n|\\r");
-        return inputScanner;
+    /**
+     * Switch to another terminal, for the CLI and the CLIs it opens from now on
+     *
+     * @param terminal The terminal to read from and write to
+     */
+    final void useTerminal(Terminal terminal) {
+        this.terminal = terminal;
     }
 }
@@ -0,0 +1,119 @@
+package seng.monsters.ui.cli;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.List;
+
+/**
+ * A recorded list of commands given to a CLI one line at a time, timing how long the CLI takes with each.
+ * <p>
+ * A line is only handed out once the CLI asks for more input, so the time between two lines
+ * is the time the CLI spent on the first of them.
+ */
+public final class Transcript extends Reader {
+    /**
+     * The commands, one per line
+     */
+    private final List<String> commands;
+
+    /**
+     * The time each command was handed out at, in nanoseconds
+     */
+    private final long[] servedAt;
+
+    /**
+     * The index of the next command to hand out
+     */
+    private int next = 0;
+
+    /**
+     * The rest of the line being handed out, or null if it has all been read
+     */
+    private String pending = null;
+
+    /**
+     * How far into the pending line has been read
+     */
+    private int pendingOffset = 0;
+
+    /**
+     * Creates a transcript of commands
+     *
+     * @param commands The commands, one per line
+     */
+    public Transcript(List<String> commands) {
+        this.commands = List.copyOf(commands);
+        this.servedAt = new long[commands.size()];
+    }
+
+    /**
+     * Read every line of a recorded transcript
+     *
+     * @param source The recorded transcript
+     * @return The commands, one per line
+     * @throws IOException If the transcript cannot be read
+     */
+    public static List<String> read(Reader source) throws IOException {
+        try (final BufferedReader reader = new BufferedReader(source)) {
+            return reader.lines().toList();
+        }
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int length) {
+        if (length == 0)
+            return 0;
+        if (pending == null) {
+            if (next == commands.size())
+                return -1;
+            servedAt[next] = System.nanoTime();
+            pending = commands.get(next++) + "\n";
+            pendingOffset = 0;
+        }
+        // Never hand out more than one line at a time, so the next line waits for the CLI to ask for it
+        final int count = Math.min(length, pending.length() - pendingOffset);
+        pending.getChars(pendingOffset, pendingOffset + count, buffer, offset);
+        pendingOffset += count;
+        if (pendingOffset == pending.length())
+            pending = null;
+        return count;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    /**
+     * Get the amount of commands handed out so far
+     *
+     * @return The amount of commands read by the CLI
+     */
+    public int served() {
+        return next;
+    }
+
+    /**
+     * Get the commands of the transcript
+     *
+     * @return The commands, one per line
+     */
+    public List<String> getCommands() {
+        return commands;
+    }
+
+    /**
+     * Get the time the CLI spent on each command handed out
+     *
+     * @param endedAt The time the CLI finished, in nanoseconds
+     * @return The latency of each command handed out in nanoseconds
+     */
+    public long[] latencies(long endedAt) {
+        final long[] latencies = new long[next];
+        for (int i = 0; i < next; i++) {
+            final long until = i + 1 < next ? servedAt[i + 1] : endedAt;
+            latencies[i] = until - servedAt[i];
+        }
+        return latencies;
+    }
+}
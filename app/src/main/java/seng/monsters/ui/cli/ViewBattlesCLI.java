@@ -2,6 +2,7 @@ package seng.monsters.ui.cli;
 
 import seng.monsters.model.GameManager;
 import seng.monsters.model.Monster;
+import seng.monsters.model.Playback;
 import seng.monsters.model.Trainer;
 
 import java.util.InputMismatchException;
@@ -20,6 +21,16 @@ public final class ViewBattlesCLI extends TestableCLI {
      * @param gameManager The game manager / controller
      */
     public ViewBattlesCLI(GameManager gameManager) {
+        this(gameManager, Terminal.system());
+    }
+
+    /**
+     * Creates a CLI to display all the available battles, reading from a terminal
+     * @param gameManager The game manager / controller
+     * @param terminal    The terminal to read from
+     */
+    public ViewBattlesCLI(GameManager gameManager, Terminal terminal) {
+        super(terminal);
         this.gameManager = gameManager;
         availableBattles = gameManager.getAvailableBattles();
     }
@@ -32,47 +43,81 @@ public final class ViewBattlesCLI extends TestableCLI {
                 return;
             } catch (InputMismatchException e) {
                 input().next();
-                System.out.println("Invalid input!");
+                output().println("Invalid input!");
             }
         }
     }
 
     private void selectBattle(int scannerInput) {
-        try {
-            if ((scannerInput > 0) && (scannerInput < availableBattles.size() + 1)) {
-                final BattleCLI battle = new BattleCLI(gameManager, scannerInput - 1);
-                battle.run();
-            } else if (scannerInput != 0) {
-                throw new IllegalArgumentException();
+        int option = scannerInput;
+        while (option != 0) {
+            try {
+                if ((option > 0) && (option < availableBattles.size() + 1)) {
+                    final BattleCLI battle = new BattleCLI(gameManager, option - 1, terminal());
+                    playBattle(battle);
+                    return;
+                } else {
+                    throw new IllegalArgumentException();
+                }
+            } catch (IllegalArgumentException e) {
+                output().println("Invalid input!");
             }
-        } catch (IllegalArgumentException e) {
-            System.out.println("Invalid input!");
-            selectBattle(input().nextInt());
+            option = input().nextInt();
+        }
+    }
+
+    private void playBattle(BattleCLI battle) {
+        final Playback[] playbacks = Playback.values();
+        displayPlaybackOptions(playbacks);
+        while (true) {
+            try {
+                final int scannerInput = input().nextInt();
+                if ((scannerInput > 0) && (scannerInput < playbacks.length + 1)) {
+                    battle.run(playbacks[scannerInput - 1]);
+                    return;
+                } else if (scannerInput == playbacks.length + 1) {
+                    battle.skip();
+                    return;
+                }
+                output().println("Invalid input!");
+            } catch (InputMismatchException e) {
+                input().next();
+                output().println("Invalid input!");
+            }
+        }
+    }
+
+    private void displayPlaybackOptions(Playback[] playbacks) {
+        output().println("Choose the playback speed:");
+        for (int i = 0; i < playbacks.length; i++) {
+            output().printf("%d - %s%n", i + 1, playbacks[i]);
         }
+        output().printf("%d - Skip to result%n", playbacks.length + 1);
     }
 
     private void displayBattleOptions() {
-        System.out.println("\n===========================\n");
-        System.out.println("The following trainers would like to battle!");
+        output().println("\n===========================\n");
+        output().println("The following trainers would like to battle!");
         for (int i = 0; i < availableBattles.size(); i++) {
             final List<Monster> battleParty = availableBattles.get(i).getParty();
-            System.out.printf("%d - Trainer %d:%n",
+            output().printf("%d - Trainer %d:%n",
                 i + 1, i + 1);
             for (Monster mon : battleParty) {
-                System.out.printf("%s (Level %d)%n",
+                output().printf("%s (Level %d)%n",
                     mon.getName(), mon.getLevel());
             }
-            System.out.print("\n");
+            output().print("\n");
         }
-        System.out.println("0 - Return to Main Menu");
+        output().println("0 - Return to Main Menu");
     }
 
     /**
      * Makes a ViewBattlesCLI and run its interface
      * @param gameManager The game manager / controller
+     * @param terminal    The terminal to read from
      */
-    public static void make(GameManager gameManager) {
-        ViewBattlesCLI viewBattlesCLI = new ViewBattlesCLI(gameManager);
+    public static void make(GameManager gameManager, Terminal terminal) {
+        ViewBattlesCLI viewBattlesCLI = new ViewBattlesCLI(gameManager, terminal);
         viewBattlesCLI.viewBattlesInterface();
     }
 }
@@ -38,7 +38,7 @@ public class AvailableBattlesScreen extends Screen {
             .imageIconFromResource(
                 String.format("/images/%s.jpeg", gameManager.getEnvironment().toString().toLowerCase())
             )
-            .ifPresent(icon -> frame.setContentPane(new JLabel(icon)));
+            .ifPresent(this::setBackgroundImage);
 
         // Combobox containing enemy choices
         JComboBox<String> enemiesComboBox = new JComboBox<>();
@@ -47,27 +47,27 @@ public class AvailableBattlesScreen extends Screen {
         );
         enemiesComboBox.setSelectedIndex(0);
         enemiesComboBox.setBounds(66, 140, 238, 27);
-        frame.getContentPane().add(enemiesComboBox);
+        panel.add(enemiesComboBox);
 
         JLabel battlesPrompt = new JLabel("Select a trainer to fight:");
         battlesPrompt.setHorizontalAlignment(SwingConstants.CENTER);
         battlesPrompt.setBounds(66, 112, 238, 16);
-        frame.getContentPane().add(battlesPrompt);
+        panel.add(battlesPrompt);
 
         // Panel displaying enemy's party
         PartyPanel enemyPanel = new PartyPanel(selectedTrainer.get());
         enemyPanel.setBounds(419, 80);
-        enemyPanel.applyToFrame(frame);
+        enemyPanel.applyToPanel(panel);
 
         // Button to start the battle
         JButton battleButton = new JButton("Fight");
         battleButton.setBounds(475, 390, 117, 29);
-        frame.getContentPane().add(battleButton);
+        panel.add(battleButton);
 
         // Button to return to the main menu
         JButton cancelButton = new JButton("Return");
         cancelButton.setBounds(187, 390, 117, 29);
-        frame.getContentPane().add(cancelButton);
+        panel.add(cancelButton);
 
         // Refresh the enemy party panel
         selectedTrainer.onChange(enemyPanel::refresh);
@@ -75,8 +75,6 @@ public class AvailableBattlesScreen extends Screen {
         enemiesComboBox.addActionListener(selectEnemyAction(enemiesComboBox));
         battleButton.addActionListener(battleAction(enemiesComboBox));
         cancelButton.addActionListener(backToMainMenuAction());
-
-        frame.setVisible(true);
     }
 
     /**
@@ -6,33 +6,41 @@
 //
 package seng.monsters.ui.gui;
 
+import seng.monsters.model.BattleFrame;
+import seng.monsters.model.BattleLoop;
 import seng.monsters.model.BattleManager;
 import seng.monsters.model.GameManager;
-import seng.monsters.model.Monster;
+import seng.monsters.model.Playback;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionListener;
-import java.net.URL;
-import java.util.Collection;
-import java.util.Objects;
 import java.util.List;
 
 /**
  * A screen to display the battle and all the fancy actions
  */
-public final class BattleScreen extends Screen implements BattleManager.UI {
+public final class BattleScreen extends Screen {
+    /**
+     * The time between two draws, about the refresh rate of a display
+     */
+    private static final int DRAW_INTERVAL_MS = 16;
 
     /**
-     * The battle manager to manage the logic in battling
+     * The loop running the battle on its own thread
      */
-    private final BattleManager battleManager;
+    private final BattleLoop battleLoop;
 
     /**
-     * The timer used to create a loop without breaking the GUI
+     * The timer drawing the latest frame of the battle on the event dispatch thread
      */
     private Timer timer;
 
+    /**
+     * The frame currently drawn
+     */
+    private BattleFrame drawnFrame;
+
     /**
      * The label for player's monster name and level
      */
@@ -83,6 +91,11 @@ public final class BattleScreen extends Screen implements BattleManager.UI {
      */
     private JButton startButton;
 
+    /**
+     * The skip to result button
+     */
+    private JButton skipButton;
+
     /**
      * The quit battle button
      */
@@ -112,16 +125,18 @@ public final class BattleScreen extends Screen implements BattleManager.UI {
      */
     public BattleScreen(GUI gui, GameManager gameManager, int index) {
         super(gui, gameManager);
-        battleManager = gameManager.prepareBattle(this, index);
+        battleLoop = new BattleLoop(ui -> gameManager.prepareBattle(ui, index));
     }
 
     @Override
     public void render() {
+        final BattleFrame frame = battleLoop.latest();
+
         Screen
             .imageIconFromResource(
                 String.format("/images/%s.jpeg", gameManager.getEnvironment().toString().toLowerCase())
             )
-            .ifPresent(icon -> frame.setContentPane(new JLabel(icon)));
+            .ifPresent(this::setBackgroundImage);
 
         playerFireImage = new JLabel();
         playerFireImage.setHorizontalAlignment(SwingConstants.CENTER);
@@ -129,7 +144,7 @@ public final class BattleScreen extends Screen implements BattleManager.UI {
             .ifPresent(playerFireImage::setIcon);
         playerFireImage.setBounds(62, 94, 200, 150);
         playerFireImage.setVisible(false);
-        frame.getContentPane().add(playerFireImage);
+        panel.add(playerFireImage);
 
         enemyFireImage = new JLabel();
         enemyFireImage.setHorizontalAlignment(SwingConstants.CENTER);
@@ -137,114 +152,123 @@ public final class BattleScreen extends Screen implements BattleManager.UI {
             .ifPresent(enemyFireImage::setIcon);
         enemyFireImage.setBounds(551, 94, 200, 150);
         enemyFireImage.setVisible(false);
-        frame.getContentPane().add(enemyFireImage);
+        panel.add(enemyFireImage);
 
         playerMonsterImage = new JLabel();
         playerMonsterImage.setHorizontalAlignment(SwingConstants.CENTER);
         Screen
             .imageIconFromResource(
-                "/images/" + battleManager.getBattlingPlayerMonster().monsterType().toLowerCase() + ".gif"
+                "/images/" + frame.player().type().toLowerCase() + ".gif"
             )
             .ifPresent(playerMonsterImage::setIcon);
         playerMonsterImage.setBounds(62, 94, 200, 150);
-        frame.getContentPane().add(playerMonsterImage);
+        panel.add(playerMonsterImage);
 
         enemyPlayerImage = new JLabel();
         enemyPlayerImage.setHorizontalAlignment(SwingConstants.CENTER);
         Screen
             .imageIconFromResource(
-                "/images/" + battleManager.getBattlingEnemyMonster().monsterType().toLowerCase() + ".gif"
+                "/images/" + frame.enemy().type().toLowerCase() + ".gif"
             )
             .ifPresent(enemyPlayerImage::setIcon);
         enemyPlayerImage.setBounds(551, 94, 200, 150);
-        frame.getContentPane().add(enemyPlayerImage);
+        panel.add(enemyPlayerImage);
 
         playerMonsterNameLabel = new JLabel(String.format(
-            "%s (lvl: %d)", battleManager.getBattlingPlayerMonster().getName(), battleManager.getBattlingPlayerMonster().getLevel()
+            "%s (lvl: %d)", frame.player().name(), frame.player().level()
         ));
-        playerMonsterNameLabel.setForeground(boostedColor(battleManager.getBattlingPlayerMonster()));
+        playerMonsterNameLabel.setForeground(boostedColor(frame.player()));
         playerMonsterNameLabel.setBackground(new Color(192, 192, 192));
         playerMonsterNameLabel.setHorizontalAlignment(SwingConstants.CENTER);
         playerMonsterNameLabel.setBounds(62, 256, 200, 33);
         playerMonsterNameLabel.setOpaque(true);
-        frame.getContentPane().add(playerMonsterNameLabel);
+        panel.add(playerMonsterNameLabel);
 
         playerMonsterHpLabel = new JLabel(String.format(
-            "HP: %d/%d", battleManager.getBattlingPlayerMonster().getCurrentHp(), battleManager.getBattlingPlayerMonster().maxHp()
+            "HP: %d/%d", frame.player().currentHp(), frame.player().maxHp()
         ));
         playerMonsterHpLabel.setBackground(new Color(192, 192, 192));
         playerMonsterHpLabel.setHorizontalAlignment(SwingConstants.CENTER);
         playerMonsterHpLabel.setBounds(62, 289, 200, 33);
         playerMonsterHpLabel.setOpaque(true);
-        frame.getContentPane().add(playerMonsterHpLabel);
+        panel.add(playerMonsterHpLabel);
 
         enemyMonsterNameLabel = new JLabel(String.format(
-            "%s (lvl: %d)", battleManager.getBattlingEnemyMonster().getName(), battleManager.getBattlingEnemyMonster().getLevel()
+            "%s (lvl: %d)", frame.enemy().name(), frame.enemy().level()
         ));
-        enemyMonsterNameLabel.setForeground(boostedColor(battleManager.getBattlingEnemyMonster()));
+        enemyMonsterNameLabel.setForeground(boostedColor(frame.enemy()));
         enemyMonsterNameLabel.setOpaque(true);
         enemyMonsterNameLabel.setHorizontalAlignment(SwingConstants.CENTER);
         enemyMonsterNameLabel.setBackground(Color.LIGHT_GRAY);
         enemyMonsterNameLabel.setBounds(551, 256, 200, 33);
-        frame.getContentPane().add(enemyMonsterNameLabel);
+        panel.add(enemyMonsterNameLabel);
 
         enemyMonsterHpLabel = new JLabel(String.format(
-            "HP: %d/%d", battleManager.getBattlingEnemyMonster().getCurrentHp(), battleManager.getBattlingEnemyMonster().maxHp()
+            "HP: %d/%d", frame.enemy().currentHp(), frame.enemy().maxHp()
         ));
         enemyMonsterHpLabel.setBackground(new Color(192, 192, 192));
         enemyMonsterHpLabel.setHorizontalAlignment(SwingConstants.CENTER);
         enemyMonsterHpLabel.setBounds(551, 289, 200, 33);
         enemyMonsterHpLabel.setOpaque(true);
-        frame.getContentPane().add(enemyMonsterHpLabel);
+        panel.add(enemyMonsterHpLabel);
 
         startButton = new JButton("Start");
         startButton.setBounds(678, 400, 117, 29);
-        frame.getContentPane().add(startButton);
+        panel.add(startButton);
+
+        JComboBox<Playback> playbackComboBox = new JComboBox<>(Playback.values());
+        playbackComboBox.setSelectedItem(battleLoop.getPlayback());
+        playbackComboBox.setBounds(678, 332, 117, 29);
+        panel.add(playbackComboBox);
+
+        skipButton = new JButton("Skip");
+        skipButton.setBounds(678, 366, 117, 29);
+        panel.add(skipButton);
 
         quitButton = new JButton("End");
         quitButton.setBounds(40, 400, 117, 29);
         quitButton.setEnabled(false);
         quitButton.setVisible(false);
-        frame.getContentPane().add(quitButton);
+        panel.add(quitButton);
 
         punchImg = new JLabel();
         punchImg.setEnabled(true);
         punchImg.setVisible(false);
         punchImg.setHorizontalAlignment(SwingConstants.CENTER);
         punchImg.setBounds(350, 237, 108, 86);
-        frame.getContentPane().add(punchImg);
+        panel.add(punchImg);
 
-        JPanel panel = new JPanel();
-        panel.setBackground(Color.BLACK);
-        panel.setBounds(193, 330, 457, 118);
-        frame.getContentPane().add(panel);
-        panel.setLayout(null);
+        JPanel feedPanel = new JPanel();
+        feedPanel.setBackground(Color.BLACK);
+        feedPanel.setBounds(193, 330, 457, 118);
+        panel.add(feedPanel);
+        feedPanel.setLayout(null);
 
         JLabel feed0 = new JLabel("");
         feed0.setForeground(Color.GREEN);
         feed0.setBounds(6, 5, 445, 16);
-        panel.add(feed0);
+        feedPanel.add(feed0);
 
         JLabel feed1 = new JLabel("");
         feed1.setForeground(Color.GREEN);
         feed1.setBounds(6, 33, 445, 16);
-        panel.add(feed1);
+        feedPanel.add(feed1);
 
         JLabel feed2 = new JLabel("");
         feed2.setForeground(Color.GREEN);
         feed2.setBounds(6, 61, 445, 16);
-        panel.add(feed2);
+        feedPanel.add(feed2);
 
         JLabel feed3 = new JLabel("");
         feed3.setForeground(Color.GREEN);
         feed3.setBounds(6, 89, 445, 16);
-        panel.add(feed3);
+        feedPanel.add(feed3);
 
         this.feedLabels = new JLabel[]{feed0, feed1, feed2, feed3};
 
         JPanel party1 = new JPanel();
         party1.setBounds(62, 26, 148, 33);
-        frame.getContentPane().add(party1);
+        panel.add(party1);
 
         JRadioButton party1Check0 = new JRadioButton();
         party1Check0.setEnabled(false);
@@ -266,7 +290,7 @@ public final class BattleScreen extends Screen implements BattleManager.UI {
 
         JPanel party2 = new JPanel();
         party2.setBounds(603, 26, 148, 33);
-        frame.getContentPane().add(party2);
+        panel.add(party2);
 
         JRadioButton party2Check3 = new JRadioButton();
         party2Check3.setEnabled(false);
@@ -286,59 +310,106 @@ public final class BattleScreen extends Screen implements BattleManager.UI {
 
         this.enemyPartyButtons = new JRadioButton[]{party2Check0, party2Check1, party2Check2, party2Check3};
 
-        repaintParties();
+        drawParties(frame);
 
         startButton.addActionListener(onStart());
+        skipButton.addActionListener(onSkip());
+        playbackComboBox.addActionListener(
+            ignored -> battleLoop.setPlayback((Playback) playbackComboBox.getSelectedItem())
+        );
         quitButton.addActionListener(onQuit());
+    }
 
-        frame.setVisible(true);
+    /**
+     * Draw the latest frame of the battle if it has not been drawn yet.
+     * <p>
+     * Frames published since the last draw are skipped, only the latest one is shown.
+     */
+    private void drawLatest() {
+        if (battleLoop.getFailure().isPresent()) {
+            onFailure();
+            return;
+        }
 
+        final BattleFrame frame = battleLoop.latest();
+        if (frame == drawnFrame)
+            return;
+
+        final BattleFrame previous = drawnFrame;
+        drawnFrame = frame;
+
+        // Update the sprites when either battling monster has been switched out
+        if (previous == null || !previous.player().type().equals(frame.player().type()))
+            Screen
+                .imageIconFromResource("/images/" + frame.player().type().toLowerCase() + ".gif")
+                .ifPresent(playerMonsterImage::setIcon);
+        if (previous == null || !previous.enemy().type().equals(frame.enemy().type()))
+            Screen
+                .imageIconFromResource("/images/" + frame.enemy().type().toLowerCase() + ".gif")
+                .ifPresent(enemyPlayerImage::setIcon);
+
+        drawLabels(frame);
+        drawParties(frame);
+        drawFeeds(frame);
+
+        // Position the punch in the direction of the defending monster
+        if (previous == null || previous.isPlayerTurn() != frame.isPlayerTurn())
+            Screen.imageIconFromResource("/images/" + (frame.isPlayerTurn() ? "punch-true" : "punch-false") + ".png")
+                .ifPresent(punchImg::setIcon);
+        punchImg.setVisible(frame.progress() != BattleFrame.NO_ATTACK);
+        if (frame.progress() != BattleFrame.NO_ATTACK)
+            punchImg.setBounds(62 + BattleManager.PSEUDO_MAX_POSITION * frame.progress() / 5, 134, 108, 86);
+        playerFireImage.setVisible(frame.isPlayerHit());
+        enemyFireImage.setVisible(frame.isEnemyHit());
+
+        if (frame.isSettled())
+            onEnd();
     }
 
     /**
-     * Repaint / update all the labels
+     * Draw / update all the labels
+     *
+     * @param frame The frame to be drawn
      */
-    private void repaint() {
+    private void drawLabels(BattleFrame frame) {
         playerMonsterNameLabel.setText(String.format(
-            "%s (lvl: %d)", battleManager.getBattlingPlayerMonster().getName(), battleManager.getBattlingPlayerMonster().getLevel()
+            "%s (lvl: %d)", frame.player().name(), frame.player().level()
         ));
-        playerMonsterNameLabel.setForeground(boostedColor(battleManager.getBattlingPlayerMonster()));
+        playerMonsterNameLabel.setForeground(boostedColor(frame.player()));
         playerMonsterHpLabel.setText(String.format(
-            "HP: %d/%d", battleManager.getBattlingPlayerMonster().getCurrentHp(), battleManager.getBattlingPlayerMonster().maxHp()
+            "HP: %d/%d", frame.player().currentHp(), frame.player().maxHp()
         ));
         enemyMonsterNameLabel.setText(String.format(
-            "%s (lvl: %d)", battleManager.getBattlingEnemyMonster().getName(), battleManager.getBattlingEnemyMonster().getLevel()
+            "%s (lvl: %d)", frame.enemy().name(), frame.enemy().level()
         ));
-        enemyMonsterNameLabel.setForeground(boostedColor(battleManager.getBattlingEnemyMonster()));
+        enemyMonsterNameLabel.setForeground(boostedColor(frame.enemy()));
         enemyMonsterHpLabel.setText(String.format(
-            "HP: %d/%d", battleManager.getBattlingEnemyMonster().getCurrentHp(), battleManager.getBattlingEnemyMonster().maxHp()
+            "HP: %d/%d", frame.enemy().currentHp(), frame.enemy().maxHp()
         ));
-
-        repaintFeeds();
     }
 
     /**
-     * Repaint / update the party radio buttons
+     * Draw / update the party radio buttons
+     *
+     * @param frame The frame to be drawn
      */
-    private void repaintParties() {
-        final List<Monster> playerParty = battleManager.getPlayer().getParty();
-        final List<Monster> enemyParty = battleManager.getEnemy().getParty();
+    private void drawParties(BattleFrame frame) {
+        final List<Boolean> playerParty = frame.playerParty();
+        final List<Boolean> enemyParty = frame.enemyParty();
         for (int i = 0; i < 4; i++) {
-            this.playerPartyButtons[i].setSelected(i < playerParty.size() && !playerParty.get(i).isFainted());
-            this.enemyPartyButtons[i].setSelected(i < enemyParty.size() && !enemyParty.get(i).isFainted());
+            this.playerPartyButtons[i].setSelected(i < playerParty.size() && playerParty.get(i));
+            this.enemyPartyButtons[i].setSelected(i < enemyParty.size() && enemyParty.get(i));
         }
     }
 
     /**
-     * Repaint / update the display feed
+     * Draw / update the display feed
+     *
+     * @param frame The frame to be drawn
      */
-    private void repaintFeeds() {
-        final Collection<String> feeds = battleManager.getFeeds();
-        final List<String> latestFeeds = feeds.stream().toList().subList(
-            Math.max(feeds.size() - 4, 0),
-            feeds.size()
-        );
-        for (int i = 0; i < latestFeeds.size(); i++) {
+    private void drawFeeds(BattleFrame frame) {
+        final List<String> latestFeeds = frame.feeds();
+        for (int i = 0; i < latestFeeds.size() && i < feedLabels.length; i++) {
             feedLabels[i].setText(latestFeeds.get(i));
         }
     }
@@ -360,78 +431,83 @@ public final class BattleScreen extends Screen implements BattleManager.UI {
      */
     private ActionListener onStart() {
         return ignored -> {
-            if (battleManager.isSettled())
+            if (battleLoop.latest().isSettled())
                 return;
 
-            // Setup timer to create loop
-            timer = new Timer(25, event -> battleManager.nextIteration());
-            timer.start();
-
-            // Update the sprites to be position properly in the direction of the defending monster
-            final boolean isMon1Turn = battleManager.getBattlingPlayerMonster().speed() >= battleManager.getBattlingEnemyMonster().speed();
-            Screen.imageIconFromResource("/images/" + (isMon1Turn ? "punch-true" : "punch-false") + ".png")
-                .ifPresent(punchImg::setIcon);
-            repaintParties();
+            battleLoop.start();
+            startDrawing();
             startButton.setEnabled(false);
         };
     }
 
-    @Override
-    public void onEachAttackProgress(int percentage) {
-        punchImg.setVisible(true);
-        punchImg.setBounds(62 + BattleManager.PSEUDO_MAX_POSITION * percentage / 5, 134, 108, 86);
-        if (percentage > 40 && percentage < 60) {
-            playerFireImage.setVisible(false);
-            enemyFireImage.setVisible(false);
-        }
-    }
-
-    @Override
-    public void onEachLandedAttack(boolean isPlayerTurn, int dmg) {
-        repaint();
-        punchImg.setVisible(false);
-        playerFireImage.setVisible(!isPlayerTurn);
-        enemyFireImage.setVisible(isPlayerTurn);
-        Screen.imageIconFromResource("/images/" + (!isPlayerTurn ? "punch-true" : "punch-false") + ".png")
-            .ifPresent(punchImg::setIcon);
+    /**
+     * Start drawing the frames published by the battle loop, if not drawing already
+     */
+    private void startDrawing() {
+        if (timer != null)
+            return;
+
+        // The battle runs on its own thread, the timer only draws what it has published
+        timer = new Timer(DRAW_INTERVAL_MS, event -> drawLatest());
+        timer.setCoalesce(true);
+        timer.start();
     }
 
-    @Override
-    public void onEachNextMonster(boolean isPlayerTurn) {
-        playerFireImage.setVisible(false);
-        enemyFireImage.setVisible(false);
-        Screen.imageIconFromResource("/images/" + (isPlayerTurn ? "punch-true" : "punch-false") + ".png")
-            .ifPresent(punchImg::setIcon);
-        Screen
-            .imageIconFromResource(
-                "/images/" + battleManager.getBattlingPlayerMonster().monsterType().toLowerCase() + ".gif"
-            )
-            .ifPresent(playerMonsterImage::setIcon);
-        Screen
-            .imageIconFromResource(
-                "/images/" + battleManager.getBattlingEnemyMonster().monsterType().toLowerCase() + ".gif"
-            )
-            .ifPresent(enemyPlayerImage::setIcon);
+    /**
+     * The action performed when the battle is being skipped, resolving the rest of it at once
+     *
+     * @return An action listener for the skip button
+     */
+    private ActionListener onSkip() {
+        return ignored -> {
+            if (battleLoop.latest().isSettled())
+                return;
 
-        repaintParties();
-        repaint();
+            battleLoop.skip();
+            startDrawing();
+            startButton.setEnabled(false);
+            skipButton.setEnabled(false);
+        };
     }
 
-    @Override
-    public void onEnd() {
-        punchImg.setVisible(false);
+    /**
+     * The action done on the event dispatch thread once the settled frame is drawn
+     */
+    private void onEnd() {
+        timer.stop();
+        skipButton.setEnabled(false);
         quitButton.setVisible(true);
         quitButton.setEnabled(true);
-        repaintFeeds();
-        repaintParties();
-        timer.stop();
+
+        // The battle thread is done with the battle, so it can be read here
+        final BattleManager battleManager = battleLoop.getBattle();
         if (battleManager.hasPlayerWon()) {
             gameManager.setGold(gameManager.getGold() + battleManager.goldReward());
             gameManager.setScore(gameManager.getScore() + battleManager.scoreReward() * gameManager.getDifficulty());
         }
     }
 
-    private Color boostedColor(Monster monster) {
+    /**
+     * The action done on the event dispatch thread if the battle thread failed before the battle was settled
+     */
+    private void onFailure() {
+        timer.stop();
+        startButton.setEnabled(false);
+        skipButton.setEnabled(false);
+        quitButton.setVisible(true);
+        quitButton.setEnabled(true);
+        feedLabels[feedLabels.length - 1].setText("The battle was interrupted, no rewards were given");
+    }
+
+    @Override
+    public void dispose() {
+        battleLoop.stop();
+        if (timer != null)
+            timer.stop();
+        super.dispose();
+    }
+
+    private Color boostedColor(BattleFrame.Fighter monster) {
         if (monster.idealEnvironment() == gameManager.getEnvironment())
             return new Color(160, 28, 193);
         return Color.BLACK;
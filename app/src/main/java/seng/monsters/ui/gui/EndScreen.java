@@ -43,12 +43,12 @@ public class EndScreen extends Screen {
         titleLabel.setHorizontalAlignment(SwingConstants.CENTER);
         titleLabel.setFont(new Font("Lucida Grande", Font.PLAIN, 24));
         titleLabel.setBounds(6, 25, 807, 39);
-        frame.getContentPane().add(titleLabel);
+        panel.add(titleLabel);
 
         // Panel for end game report
         JPanel gameReportPanel = new JPanel();
         gameReportPanel.setBounds(113, 115, 212, 234);
-        frame.getContentPane().add(gameReportPanel);
+        panel.add(gameReportPanel);
         gameReportPanel.setLayout(null);
 
         JLabel gameReportLabel = new JLabel("Here is your game report:");
@@ -99,33 +99,31 @@ public class EndScreen extends Screen {
         JLabel lblNewLabel = new JLabel("Thank you for playing!");
         lblNewLabel.setHorizontalAlignment(SwingConstants.CENTER);
         lblNewLabel.setBounds(244, 400, 333, 16);
-        frame.getContentPane().add(lblNewLabel);
+        panel.add(lblNewLabel);
 
         JLabel partyReportLabel = new JLabel("Final Party:");
         partyReportLabel.setFont(new Font("Lucida Grande", Font.BOLD, 13));
         partyReportLabel.setBounds(410, 70, 200, 16);
-        frame.getContentPane().add(partyReportLabel);
+        panel.add(partyReportLabel);
 
         // Panel displaying final party
         PartyPanel partyPanel = new PartyPanel(gameManager.getPlayer());
         partyPanel.setBounds(410, 86);
-        partyPanel.applyToFrame(frame);
+        partyPanel.applyToPanel(panel);
 
         // Button to exit the game.
         JButton exitButton = new JButton("Exit Game");
         exitButton.setHorizontalAlignment(SwingConstants.CENTER);
         exitButton.setBounds(16, 400, 180, 30);
-        frame.getContentPane().add(exitButton);
+        panel.add(exitButton);
         exitButton.addActionListener(exitGameAction());
 
         // Button to start game over.
         JButton startOverButton = new JButton("Restart Game");
         startOverButton.setHorizontalAlignment(SwingConstants.CENTER);
         startOverButton.setBounds(607, 400, 180, 30);
-        frame.getContentPane().add(startOverButton);
+        panel.add(startOverButton);
         startOverButton.addActionListener(restartGameAction());
-
-        frame.setVisible(true);
     }
 
     /**
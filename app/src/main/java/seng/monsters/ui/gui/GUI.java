@@ -2,6 +2,9 @@ package seng.monsters.ui.gui;
 
 import seng.monsters.model.GameManager;
 
+import javax.swing.*;
+import java.awt.*;
+
 /**
  * The GUI class manager to handle window navigation and closing
  */
@@ -11,24 +14,62 @@ public final class GUI {
      */
     private final GameManager gameManager;
 
+    /**
+     * The single window every screen is displayed in
+     */
+    private final JFrame frame;
+
+    /**
+     * The layout of the window, with one card for each screen in it
+     */
+    private final CardLayout cards;
+
     /**
      * Currently active screen
      */
     private Screen activeScreen;
 
+    /**
+     * The main menu screen, kept after its first use
+     */
+    private MainMenuScreen mainMenuScreen = null;
+
+    /**
+     * The party screen, kept after its first use
+     */
+    private PartyScreen partyScreen = null;
+
+    /**
+     * The inventory screen, kept after its first use
+     */
+    private InventoryScreen inventoryScreen = null;
+
     /**
      * Creates a full GUI application
      */
     public GUI() {
+        // Decode every image early, so no screen has to wait for one
+        ImageCache.prewarmInBackground("/images");
         gameManager = new GameManager();
+
+        cards = new CardLayout();
+        frame = new JFrame();
+        frame.getContentPane().setBackground(Screen.backgroundColor());
+        frame.getContentPane().setLayout(cards);
+        frame.setBounds(100, 100, Screen.WIDTH, Screen.HEIGHT);
+        frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        frame.setResizable(false);
+
         activeScreen = new TitleScreen(this, gameManager);
-        activeScreen.render();
+        show(activeScreen);
+        frame.setVisible(true);
     }
 
     /**
      * Navigate to a new Java Swing Screen.
      * <p>
-     * This will close the currently active screen and replace it with the new one.
+     * This will remove the currently active screen from the window and replace it with the new one.
+     * The main menu, party, and inventory screens are kept and refreshed instead.
      * <p>
      * If you are planning to display a pop out, just display the JFrame normally
      *
@@ -37,21 +78,73 @@ public final class GUI {
     public void navigateTo(Screen screen) {
         final Screen oldScreen = activeScreen;
         activeScreen = screen;
-        activeScreen.render();
-        oldScreen.dispose();
+        if (oldScreen != screen && !isKept(oldScreen))
+            oldScreen.dispose();
+        show(screen);
     }
 
     /**
-     * Close the active screen and end the entire application (no screen left)
+     * Close the window and end the entire application (no screen left)
      */
     public void quit() {
         activeScreen.dispose();
+        frame.dispose();
     }
 
     /**
      * Navigate back to main menu
      */
     public void navigateBackToMainMenu() {
-        navigateTo(new MainMenuScreen(this, gameManager));
+        if (mainMenuScreen == null)
+            mainMenuScreen = new MainMenuScreen(this, gameManager);
+        navigateTo(mainMenuScreen);
+    }
+
+    /**
+     * Navigate to the party screen
+     */
+    public void navigateToParty() {
+        if (partyScreen == null)
+            partyScreen = new PartyScreen(this, gameManager);
+        navigateTo(partyScreen);
+    }
+
+    /**
+     * Navigate to the inventory screen
+     */
+    public void navigateToInventory() {
+        if (inventoryScreen == null)
+            inventoryScreen = new InventoryScreen(this, gameManager);
+        navigateTo(inventoryScreen);
+    }
+
+    /**
+     * Display a screen in the window, rendering it if it is new or refreshing it otherwise
+     *
+     * @param screen The UI Screen to be displayed
+     */
+    private void show(Screen screen) {
+        // Each class has at most one screen in the window at a time
+        final String name = screen.getClass().getName();
+        final Container content = frame.getContentPane();
+        if (screen.getPanel().getParent() == content) {
+            screen.refresh();
+        } else {
+            screen.render();
+            content.add(screen.getPanel(), name);
+        }
+        cards.show(content, name);
+        content.revalidate();
+        content.repaint();
+    }
+
+    /**
+     * Check whether a screen is kept in the window after navigating away from it
+     *
+     * @param screen The UI Screen
+     * @return True if it is the main menu, party, or inventory screen
+     */
+    private boolean isKept(Screen screen) {
+        return screen == mainMenuScreen || screen == partyScreen || screen == inventoryScreen;
     }
 }
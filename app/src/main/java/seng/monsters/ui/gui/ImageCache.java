@@ -0,0 +1,138 @@
+package seng.monsters.ui.gui;
+
+import javax.imageio.ImageIO;
+import javax.swing.*;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.SoftReference;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.*;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * A process-wide cache of decoded image icons by their resource path.
+ * <p>
+ * Icons are held by soft references, so they are only decoded again after the JVM runs low on memory.
+ * Icons are shared, so callers must not modify them.
+ */
+public final class ImageCache {
+    /**
+     * The decoded icons by their resource path
+     */
+    private static final Map<String, SoftReference<ImageIcon>> icons = new ConcurrentHashMap<>();
+
+    private ImageCache() {
+    }
+
+    /**
+     * Get the icon for an image resource, decoding it only if it is not cached
+     *
+     * @param path The path to resource
+     * @return ImageIcon from the image if any
+     */
+    public static Optional<ImageIcon> icon(String path) {
+        final SoftReference<ImageIcon> ref = icons.get(path);
+        final ImageIcon cached = ref != null ? ref.get() : null;
+        if (cached != null)
+            return Optional.of(cached);
+
+        final Optional<ImageIcon> loaded = load(path);
+        loaded.ifPresent(icon -> icons.put(path, new SoftReference<>(icon)));
+        return loaded;
+    }
+
+    /**
+     * Decode every image under a resource directory on a background thread
+     *
+     * @param directory The resource directory, e.g. <code>/images</code>
+     */
+    public static void prewarmInBackground(String directory) {
+        final Thread thread = new Thread(() -> prewarm(directory), "image-cache-prewarm");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+    }
+
+    /**
+     * Decode every image under a resource directory, whether the resources are in a folder or in a jar
+     *
+     * @param directory The resource directory, e.g. <code>/images</code>
+     * @return The amount of images cached
+     */
+    public static int prewarm(String directory) {
+        final List<String> paths = listResources(directory);
+        for (final String path : paths) {
+            icon(path);
+        }
+        return paths.size();
+    }
+
+    /**
+     * Decode the image resource into an icon
+     *
+     * @param path The path to resource
+     * @return ImageIcon from the image if any
+     */
+    private static Optional<ImageIcon> load(String path) {
+        try {
+            final URL url = ImageCache.class.getResource(path);
+            if (url != null)
+                return Optional.of(new ImageIcon(url));
+            final InputStream stream = ImageCache.class.getResourceAsStream(path);
+            if (stream != null)
+                return Optional.of(new ImageIcon(ImageIO.read(stream)));
+            return Optional.empty();
+        } catch (IOException | NullPointerException ignored) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * List every file under a resource directory
+     *
+     * @param directory The resource directory
+     * @return The resource path of each file, or nothing if the directory cannot be listed
+     */
+    private static List<String> listResources(String directory) {
+        final URL url = ImageCache.class.getResource(directory);
+        if (url == null)
+            return List.of();
+        try {
+            final URI uri = url.toURI();
+            if (!"jar".equals(uri.getScheme()))
+                return listFiles(Path.of(uri), directory);
+
+            // Resources packaged in the jar are listed through a zip file system
+            try (final FileSystem jar = FileSystems.newFileSystem(uri, Map.of())) {
+                return listFiles(jar.getPath(directory), directory);
+            } catch (FileSystemAlreadyExistsException ignored) {
+                return listFiles(FileSystems.getFileSystem(uri).getPath(directory), directory);
+            }
+        } catch (URISyntaxException | IOException | FileSystemNotFoundException ignored) {
+            return List.of();
+        }
+    }
+
+    /**
+     * List every file under a directory as resource paths
+     *
+     * @param root      The directory
+     * @param directory The resource path of the directory
+     * @return The resource path of each file
+     * @throws IOException If the directory cannot be walked
+     */
+    private static List<String> listFiles(Path root, String directory) throws IOException {
+        try (final Stream<Path> files = Files.walk(root)) {
+            return files
+                .filter(Files::isRegularFile)
+                .map(file -> directory + "/" + root.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/"))
+                .toList();
+        }
+    }
+}
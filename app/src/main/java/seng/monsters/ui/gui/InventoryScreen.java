@@ -26,6 +26,36 @@ public class InventoryScreen extends Screen {
      */
     private final Inventory inventory;
 
+    /**
+     * The label for the count of each item
+     */
+    private final JLabel[] countLabels = new JLabel[items.size()];
+
+    /**
+     * The button to use each item
+     */
+    private final JButton[] useButtons = new JButton[items.size()];
+
+    /**
+     * The button to sell each item
+     */
+    private final JButton[] sellButtons = new JButton[items.size()];
+
+    /**
+     * The label for when an error occurs
+     */
+    private JLabel errorLabel;
+
+    /**
+     * The label for when an item is used or sold
+     */
+    private JLabel itemActionLabel;
+
+    /**
+     * The listener updating the row of an item whenever its count changes
+     */
+    private final Inventory.CountConsumer countListener = this::countChanged;
+
     /**
      * Create an active GUI screen for display player's inventory and allow user to use and sell their item(s)
      *
@@ -41,27 +71,27 @@ public class InventoryScreen extends Screen {
     @Override
     public void render() {
         // Label for when an error occurs
-        JLabel errorLabel = new JLabel("No monster in party");
+        errorLabel = new JLabel("No monster in party");
         errorLabel.setHorizontalAlignment(SwingConstants.CENTER);
         errorLabel.setForeground(new Color(255, 0, 0));
         errorLabel.setBounds(6, 338, 807, 16);
         errorLabel.setVisible(false);
-        frame.getContentPane().add(errorLabel);
+        panel.add(errorLabel);
 
         // Label for when an item is used or sold
-        JLabel itemActionLabel = new JLabel();
+        itemActionLabel = new JLabel();
         itemActionLabel.setHorizontalAlignment(SwingConstants.CENTER);
         itemActionLabel.setForeground(new Color(0, 0, 0));
         itemActionLabel.setBounds(6, 338, 807, 16);
         itemActionLabel.setVisible(false);
-        frame.getContentPane().add(itemActionLabel);
+        panel.add(itemActionLabel);
 
         // Button to return to the main menu
         JButton backToMainMenu = new JButton();
         backToMainMenu.setText("Main menu");
         backToMainMenu.setHorizontalAlignment(SwingConstants.CENTER);
         backToMainMenu.setBounds(331, 366, 156, 30);
-        frame.getContentPane().add(backToMainMenu);
+        panel.add(backToMainMenu);
 
         // Positioning values for item panels
         final int distanceFromTop = 100;
@@ -74,48 +104,84 @@ public class InventoryScreen extends Screen {
             final int distanceX = (i + 1) * distanceBetweenPanel + i * ItemPanel.WIDTH;
 
             // Item information panel
-            ItemPanel panel = new ItemPanel(item);
-            panel.setBounds(distanceX, distanceFromTop);
-            panel.applyToFrame(frame);
+            ItemPanel itemPanel = new ItemPanel(item);
+            itemPanel.setBounds(distanceX, distanceFromTop);
+            itemPanel.applyToPanel(panel);
 
             // Label for the number of that item in the player's inventory
             JLabel countLabel = new JLabel(String.format("%dx", itemCount));
             countLabel.setHorizontalAlignment(SwingConstants.CENTER);
             countLabel.setBounds(distanceX, distanceFromTop + ItemPanel.HEIGHT, 79, 30);
-            frame.getContentPane().add(countLabel);
+            panel.add(countLabel);
 
             // Label for the sellback price of the item
             JLabel sellLabel = new JLabel(String.format("(%d gold)", item.sellPrice()));
             sellLabel.setHorizontalAlignment(SwingConstants.CENTER);
             sellLabel.setBounds(distanceX + 79, distanceFromTop + ItemPanel.HEIGHT, 79, 30);
-            frame.getContentPane().add(sellLabel);
+            panel.add(sellLabel);
 
             // Button to use the item
             JButton useButton = new JButton("Use");
             useButton.setBounds(distanceX, distanceFromTop + 30 + ItemPanel.HEIGHT, 79, 30);
             useButton.setEnabled(itemCount > 0);
-            frame.getContentPane().add(useButton);
+            panel.add(useButton);
 
             // Button to sell the item
             JButton sellButton = new JButton("Sell");
             sellButton.setBounds(distanceX + 79, distanceFromTop + 30 + ItemPanel.HEIGHT, 79, 30);
             sellButton.setEnabled(itemCount > 0);
-            frame.getContentPane().add(sellButton);
+            panel.add(sellButton);
 
             useButton.addActionListener(
-                useItemAction(item, errorLabel, countLabel, itemActionLabel, useButton, sellButton)
+                useItemAction(item, errorLabel, itemActionLabel)
             );
 
             sellButton.addActionListener(
-                sellItemAction(item, errorLabel, countLabel, itemActionLabel, useButton, sellButton)
+                sellItemAction(item, errorLabel, itemActionLabel)
             );
+
+            countLabels[i] = countLabel;
+            useButtons[i] = useButton;
+            sellButtons[i] = sellButton;
         }
 
+        // Only the row of an item changed is updated from now on, wherever it was changed from
+        inventory.addListener(countListener);
+
         backToMainMenu.addActionListener(
             backToMainMenuAction()
         );
+    }
 
-        frame.setVisible(true);
+    /**
+     * Clear the messages, keeping all the components as the item counts are kept up to date by the listener
+     */
+    @Override
+    public void refresh() {
+        errorLabel.setVisible(false);
+        itemActionLabel.setVisible(false);
+    }
+
+    @Override
+    public void dispose() {
+        inventory.removeListener(countListener);
+        super.dispose();
+    }
+
+    /**
+     * Update the row of an item after its count changed
+     *
+     * @param ordinal The ordinal of the item, which is also its row
+     * @param count   The new count of the item
+     */
+    private void countChanged(int ordinal, int count) {
+        if (!SwingUtilities.isEventDispatchThread()) {
+            SwingUtilities.invokeLater(() -> countChanged(ordinal, inventory.getItemNumber(items.get(ordinal))));
+            return;
+        }
+        countLabels[ordinal].setText(String.format("%dx", count));
+        useButtons[ordinal].setEnabled(count > 0);
+        sellButtons[ordinal].setEnabled(count > 0);
     }
 
     /**
@@ -123,13 +189,10 @@ public class InventoryScreen extends Screen {
      *
      * @param item       The item to be used
      * @param errorLabel The error label to prompt error messages
-     * @param countLabel The count label for this item, to update the count once succeed
      * @param itemActionLabel The action label to be updated and displayed when an item is used or sold
-     * @param useButton  The use button to enable or disable it if item is not available anymore
-     * @param sellButton The button itself to enable or disable it if item is not available anymore
      * @return An action listener that can be passed into the button
      */
-    private ActionListener sellItemAction(Item item, JLabel errorLabel, JLabel countLabel, JLabel itemActionLabel, JButton useButton, JButton sellButton) {
+    private ActionListener sellItemAction(Item item, JLabel errorLabel, JLabel itemActionLabel) {
         return ignoredEvent -> {
             try {
                 // An item is successfully sold
@@ -146,11 +209,6 @@ public class InventoryScreen extends Screen {
                 itemActionLabel.setVisible(false);
                 errorLabel.setText("There is no such monster in your inventory");
                 errorLabel.setVisible(true);
-            } finally {
-                final int newCount = inventory.getItemNumber(item);
-                countLabel.setText(String.format("%dx", newCount));
-                sellButton.setEnabled(newCount > 0);
-                useButton.setEnabled(newCount > 0);
             }
         };
     }
@@ -160,13 +218,10 @@ public class InventoryScreen extends Screen {
      *
      * @param item       The item to be used
      * @param errorLabel The error label to prompt error messages
-     * @param countLabel The count label for this item, to update the count once succeed
      * @param itemActionLabel The action label to be updated and displayed when an item is used or sold
-     * @param useButton  The button itself to enable or disable it if item is not available anymore
-     * @param sellButton The sell button to enable or disable it if item is not available anymore
      * @return An action listener that can be passed into the button
      */
-    private ActionListener useItemAction(Item item, JLabel errorLabel, JLabel countLabel, JLabel itemActionLabel, JButton useButton, JButton sellButton) {
+    private ActionListener useItemAction(Item item, JLabel errorLabel, JLabel itemActionLabel) {
         return ignoredEvent -> {
             final int count = inventory.getItemNumber(item);
 
@@ -180,7 +235,7 @@ public class InventoryScreen extends Screen {
 
             SelectPartyPopUp popUp = new SelectPartyPopUp(gameManager);
             popUp.onChosen(
-                popUpChosenAction(item, errorLabel, countLabel, itemActionLabel, useButton, sellButton)
+                popUpChosenAction(item, errorLabel, itemActionLabel)
             );
         };
     }
@@ -190,13 +245,10 @@ public class InventoryScreen extends Screen {
      *
      * @param item       The item to be used on the monster
      * @param errorLabel The error label to display failure in using the item
-     * @param countLabel The count to update the count of item after usage
      * @param itemActionLabel The action label to be updated and displayed when an item is used or sold
-     * @param useButton  The use button to disable if item count hits 0
-     * @param sellButton The sell button to enable or disable it if item is not available anymore
      * @return A consumer function to be passed to the pop-up as callback
      */
-    private BiConsumer<ActionEvent, Monster> popUpChosenAction(Item item, JLabel errorLabel, JLabel countLabel, JLabel itemActionLabel, JButton useButton, JButton sellButton) {
+    private BiConsumer<ActionEvent, Monster> popUpChosenAction(Item item, JLabel errorLabel, JLabel itemActionLabel) {
         return (ignoredEvent, monster) -> {
             try {
                 // Item is successfully used
@@ -219,11 +271,6 @@ public class InventoryScreen extends Screen {
                 itemActionLabel.setVisible(false);
                 errorLabel.setText("The item has no effect, " + err.getMessage().toLowerCase() + "!");
                 errorLabel.setVisible(true);
-            } finally {
-                final int newCount = inventory.getItemNumber(item);
-                countLabel.setText(String.format("%dx", newCount));
-                sellButton.setEnabled(newCount > 0);
-                useButton.setEnabled(newCount > 0);
             }
         };
     }
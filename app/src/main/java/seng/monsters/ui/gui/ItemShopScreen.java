@@ -42,7 +42,7 @@ public class ItemShopScreen extends Screen {
         titleLabel.setHorizontalAlignment(SwingConstants.CENTER);
         titleLabel.setFont(new Font("Lucida Grande", Font.PLAIN, 26));
         titleLabel.setBounds((Screen.WIDTH - 600) / 2, 42, 600, 39);
-        frame.getContentPane().add(titleLabel);
+        panel.add(titleLabel);
 
         // Label for when an error occurs
         JLabel errorLabel = new JLabel();
@@ -50,7 +50,7 @@ public class ItemShopScreen extends Screen {
         errorLabel.setForeground(new Color(255, 0, 0));
         errorLabel.setBounds(6, 338, 807, 16);
         errorLabel.setVisible(false);
-        frame.getContentPane().add(errorLabel);
+        panel.add(errorLabel);
 
         // Label for when an item is bought
         JLabel itemBoughtLabel = new JLabel();
@@ -58,20 +58,20 @@ public class ItemShopScreen extends Screen {
         itemBoughtLabel.setForeground(new Color(0, 0, 0));
         itemBoughtLabel.setBounds(6, 338, 807, 16);
         itemBoughtLabel.setVisible(false);
-        frame.getContentPane().add(itemBoughtLabel);
+        panel.add(itemBoughtLabel);
 
         // Label displaying amount of gold
         JLabel goldLabel = new JLabel(String.format("You have %d gold.", gameManager.getGold()));
         goldLabel.setHorizontalAlignment(SwingConstants.LEADING);
         goldLabel.setBounds(206, 366, 200, 30);
-        frame.getContentPane().add(goldLabel);
+        panel.add(goldLabel);
 
         // Button to return to the main menu
         JButton backToMainMenu = new JButton();
         backToMainMenu.setText("Main menu");
         backToMainMenu.setHorizontalAlignment(SwingConstants.CENTER);
         backToMainMenu.setBounds(456, 366, 156, 30);
-        frame.getContentPane().add(backToMainMenu);
+        panel.add(backToMainMenu);
 
         // Positioning values for item panels
         final int distanceFromTop = 100;
@@ -84,21 +84,21 @@ public class ItemShopScreen extends Screen {
             final int distanceX = (i + 1) * distanceBetweenPanel + i * ItemPanel.WIDTH;
 
             // Item information panel
-            ItemPanel panel = new ItemPanel(item);
-            panel.setBounds(distanceX, distanceFromTop);
-            panel.applyToFrame(frame);
+            ItemPanel itemPanel = new ItemPanel(item);
+            itemPanel.setBounds(distanceX, distanceFromTop);
+            itemPanel.applyToPanel(panel);
 
             // Label for the shop's stock of that item and its buy price
             JLabel countLabel = new JLabel(String.format("%dx (%d gold)", itemCount, item.buyPrice()));
             countLabel.setHorizontalAlignment(SwingConstants.CENTER);
             countLabel.setBounds(distanceX, distanceFromTop + ItemPanel.HEIGHT, 158, 30);
-            frame.getContentPane().add(countLabel);
+            panel.add(countLabel);
 
             // Button to buy the item
             JButton buyButton = new JButton("Buy");
             buyButton.setBounds(distanceX, distanceFromTop + 30 + ItemPanel.HEIGHT, 158, 30);
             buyButton.setEnabled(itemCount > 0);
-            frame.getContentPane().add(buyButton);
+            panel.add(buyButton);
 
             buyButton.addActionListener(
                 buyItemAction(item, errorLabel, countLabel, itemBoughtLabel, buyButton, goldLabel)
@@ -108,8 +108,6 @@ public class ItemShopScreen extends Screen {
         backToMainMenu.addActionListener(
             backToMainMenuAction()
         );
-
-        frame.setVisible(true);
     }
 
 
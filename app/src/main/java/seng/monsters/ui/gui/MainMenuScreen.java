@@ -17,6 +17,51 @@ import java.util.List;
  * A screen to show all the current day properties, navigate to party, inventory, and shop, select a battle, and sleep
  */
 public class MainMenuScreen extends Screen {
+    /**
+     * The button to go to the party screen
+     */
+    private final JButton partyButton = new JButton("Party");
+
+    /**
+     * The button to sleep to the next day
+     */
+    private final JButton sleepButton = new JButton("Sleep");
+
+    /**
+     * The button to go to the available battles screen
+     */
+    private final JButton battlesButton = new JButton("Battles");
+
+    /**
+     * The label for when an error occurs
+     */
+    private final JLabel errorLabel = new JLabel();
+
+    /**
+     * The label for the current day
+     */
+    private final JLabel dayLabel = new JLabel();
+
+    /**
+     * The bar for the days passed
+     */
+    private final JPanel dayPanel = new JPanel();
+
+    /**
+     * The label for the gold reserve
+     */
+    private final JLabel goldLabel = new JLabel();
+
+    /**
+     * The label for the score
+     */
+    private final JLabel scoreLabel = new JLabel();
+
+    /**
+     * The label for the current environment
+     */
+    private final JLabel environmentLabel = new JLabel();
+
     /**
      * Create an active GUI screen for displaying the main menu
      *
@@ -29,67 +74,45 @@ public class MainMenuScreen extends Screen {
 
     @Override
     public void render() {
-        // Changes background to the current environment
-        Screen
-            .imageIconFromResource(
-                String.format("/images/%s.jpeg", gameManager.getEnvironment().toString().toLowerCase())
-            )
-            .ifPresent(icon -> frame.setContentPane(new JLabel(icon)));
-
         // Button to go to the party screen
-        JButton partyButton = new JButton("Party");
         partyButton.setFont(new Font("Lucida Grande", Font.PLAIN, 15));
         partyButton.setBounds(38, 45, 150, 40);
-        partyButton.setEnabled(!gameManager.getPlayer().getParty().isEmpty());
-        frame.getContentPane().add(partyButton);
+        panel.add(partyButton);
 
         // Button to go to the inventory screen
         JButton inventoryButton = new JButton("Inventory");
         inventoryButton.setFont(new Font("Lucida Grande", Font.PLAIN, 15));
         inventoryButton.setBounds(631, 45, 150, 40);
-        frame.getContentPane().add(inventoryButton);
+        panel.add(inventoryButton);
 
         // Button to go to the shop screen
         JButton shopButton = new JButton("Shop");
         shopButton.setFont(new Font("Lucida Grande", Font.PLAIN, 15));
         shopButton.setBounds(38, 320, 150, 40);
-        frame.getContentPane().add(shopButton);
+        panel.add(shopButton);
 
         // Button to go to the sleep screen
-        JButton sleepButton = new JButton("Sleep");
         sleepButton.setFont(new Font("Lucida Grande", Font.PLAIN, 15));
         sleepButton.setBounds(631, 320, 150, 40);
-        sleepButton.setEnabled(
-            gameManager.hasNoPossibilityForRevive()
-                || gameManager.hasNotEnoughMoneyForMonster()
-                || !gameManager.hasNotBattleOnce()
-        );
-        frame.getContentPane().add(sleepButton);
+        panel.add(sleepButton);
 
         // Label for when an error occurs
-        JLabel errorLabel = new JLabel();
         errorLabel.setBounds(200, 484, 419, 16);
-        errorLabel.setVisible(false);
         errorLabel.setForeground(Color.RED);
-        frame.getContentPane().add(errorLabel);
+        panel.add(errorLabel);
 
         // Panel displaying the game's info
         JPanel gameInfoPanel = new JPanel();
         gameInfoPanel.setBackground(Color.WHITE);
         gameInfoPanel.setBounds(200, 45, 419, 115);
-        frame.getContentPane().add(gameInfoPanel);
+        panel.add(gameInfoPanel);
         gameInfoPanel.setLayout(null);
 
-        JLabel dayLabel = new JLabel(
-            String.format("Day %d/%d", gameManager.getCurrentDay(), gameManager.getMaxDays())
-        );
         dayLabel.setHorizontalAlignment(SwingConstants.CENTER);
         dayLabel.setBounds(6, 6, 407, 16);
         gameInfoPanel.add(dayLabel);
 
-        JPanel dayPanel = new JPanel();
         dayPanel.setBackground(new Color(127, 255, 212));
-        dayPanel.setBounds(6, 6, 407 * gameManager.getCurrentDay() / gameManager.getMaxDays(), 18);
         gameInfoPanel.add(dayPanel);
 
         JPanel maxDayPanel = new JPanel();
@@ -97,37 +120,23 @@ public class MainMenuScreen extends Screen {
         maxDayPanel.setBounds(6, 6, 407, 18);
         gameInfoPanel.add(maxDayPanel);
 
-        JLabel goldLabel = new JLabel(
-            String.format("Gold reserve: %d", gameManager.getGold())
-        );
         goldLabel.setForeground(new Color(0, 0, 0));
         goldLabel.setBounds(6, 36, 407, 16);
         gameInfoPanel.add(goldLabel);
 
-        JLabel scoreLabel = new JLabel(
-            String.format("Score: %d", gameManager.getScore())
-        );
         scoreLabel.setForeground(Color.BLACK);
         scoreLabel.setBounds(6, 64, 407, 16);
         gameInfoPanel.add(scoreLabel);
 
-        JLabel environmentLabel = new JLabel(
-            String.format("Environment: %s", gameManager.getEnvironment().toString())
-        );
         environmentLabel.setForeground(Color.BLACK);
         environmentLabel.setBounds(6, 92, 407, 16);
         gameInfoPanel.add(environmentLabel);
 
         // Button to go to the available battles screen
-        JButton battlesButton = new JButton("Battles");
         battlesButton.setForeground(new Color(220, 20, 60));
         battlesButton.setFont(new Font("Lucida Grande", Font.PLAIN, 24));
         battlesButton.setBounds(309, 320, 200, 61);
-        battlesButton.setEnabled(
-            !gameManager.getAvailableBattles().isEmpty()
-                && !gameManager.getPlayer().isWhitedOut()
-        );
-        frame.getContentPane().add(battlesButton);
+        panel.add(battlesButton);
 
         partyButton.addActionListener(managePartyAction());
         inventoryButton.addActionListener(manageInventoryAction());
@@ -135,8 +144,46 @@ public class MainMenuScreen extends Screen {
         battlesButton.addActionListener(lookAvailableBattlesAction());
         shopButton.addActionListener(ignored -> new SelectShopPopUp(gui, gameManager));
 
-        frame.setResizable(false);
-        frame.setVisible(true);
+        refresh();
+    }
+
+    /**
+     * Update the day properties and which actions are available, keeping all the components
+     */
+    @Override
+    public void refresh() {
+        // Changes background to the current environment
+        Screen
+            .imageIconFromResource(
+                String.format("/images/%s.jpeg", gameManager.getEnvironment().toString().toLowerCase())
+            )
+            .ifPresent(this::setBackgroundImage);
+
+        partyButton.setEnabled(!gameManager.getPlayer().getParty().isEmpty());
+        sleepButton.setEnabled(
+            gameManager.hasNoPossibilityForRevive()
+                || gameManager.hasNotEnoughMoneyForMonster()
+                || !gameManager.hasNotBattleOnce()
+        );
+        battlesButton.setEnabled(
+            !gameManager.getAvailableBattles().isEmpty()
+                && !gameManager.getPlayer().isWhitedOut()
+        );
+        errorLabel.setVisible(false);
+
+        dayLabel.setText(
+            String.format("Day %d/%d", gameManager.getCurrentDay(), gameManager.getMaxDays())
+        );
+        dayPanel.setBounds(6, 6, 407 * gameManager.getCurrentDay() / gameManager.getMaxDays(), 18);
+        goldLabel.setText(
+            String.format("Gold reserve: %d", gameManager.getGold())
+        );
+        scoreLabel.setText(
+            String.format("Score: %d", gameManager.getScore())
+        );
+        environmentLabel.setText(
+            String.format("Environment: %s", gameManager.getEnvironment().toString())
+        );
     }
 
     private ActionListener lookAvailableBattlesAction() {
@@ -149,7 +196,7 @@ public class MainMenuScreen extends Screen {
      * @return An action listener for the party button
      */
     private ActionListener managePartyAction() {
-        return ignoredEvent -> gui.navigateTo(new PartyScreen(gui, gameManager));
+        return ignoredEvent -> gui.navigateToParty();
     }
 
     /**
@@ -158,7 +205,7 @@ public class MainMenuScreen extends Screen {
      * @return An action listener for the inventory button
      */
     private ActionListener manageInventoryAction() {
-        return ignoredEvent -> gui.navigateTo(new InventoryScreen(gui, gameManager));
+        return ignoredEvent -> gui.navigateToInventory();
     }
 
     /**
@@ -31,6 +31,11 @@ public class MonsterShopScreen extends Screen {
      */
     private final State<Monster> chosenMonster;
 
+    /**
+     * The monster stock shown in the combo box, to only rebuild it once the stock changes
+     */
+    private List<Monster> displayedStock;
+
 
     /**
      * Create an active GUI screen for displaying the monster shop and allow purchasing
@@ -49,21 +54,21 @@ public class MonsterShopScreen extends Screen {
             .imageIconFromResource(
                 String.format("/images/%s.jpeg", gameManager.getEnvironment().toString().toLowerCase())
             )
-            .ifPresent(icon -> frame.setContentPane(new JLabel(icon)));
+            .ifPresent(this::setBackgroundImage);
 
         // Button to return to the main menu
         JButton backToMainMenu = new JButton();
         backToMainMenu.setText("Main menu");
         backToMainMenu.setHorizontalAlignment(SwingConstants.CENTER);
         backToMainMenu.setBounds(330, 398, 156, 30);
-        frame.getContentPane().add(backToMainMenu);
+        panel.add(backToMainMenu);
 
         // Panel to contain the shop's combobox and the player's gold amount
         JPanel monsterShopPanel = new JPanel();
         monsterShopPanel.setBackground(Color.WHITE);
         monsterShopPanel.setBounds(476, 130, 238, 130);
         monsterShopPanel.setLayout(null);
-        frame.getContentPane().add(monsterShopPanel);
+        panel.add(monsterShopPanel);
 
         // Label displaying amount of gold
         JLabel goldLabel = new JLabel(String.format("You have %d gold.", gameManager.getGold()));
@@ -80,8 +85,9 @@ public class MonsterShopScreen extends Screen {
 
         // Combobox for buying monster choices
         JComboBox<String> monsterStockComboBox = new JComboBox<>();
+        displayedStock = gameManager.getShop().getMonsterStock();
         monsterStockComboBox.setModel(
-            new LabelComboboxModel<>(gameManager.getShop().getMonsterStock(), Monster::uniqueName)
+            new LabelComboboxModel<>(displayedStock, Monster::uniqueName)
         );
         monsterStockComboBox.setSelectedIndex(0);
         monsterStockComboBox.setBounds(0, 70, 236, 30);
@@ -89,14 +95,14 @@ public class MonsterShopScreen extends Screen {
 
         DetailedMonsterPanel monsterPanel = new DetailedMonsterPanel(chosenMonster.get(), true);
         monsterPanel.setBounds(66, 76);
-        monsterPanel.applyToFrame(frame);
+        monsterPanel.applyToPanel(panel);
 
         // Button to buy the monster
         JButton buyButton = new JButton();
         buyButton.setText("Purchase");
         buyButton.setBounds(66, 86 + DetailedMonsterPanel.HEIGHT, DetailedMonsterPanel.WIDTH, 20);
         buyButton.setEnabled(!gameManager.getShop().getMonsterStock().isEmpty());
-        frame.getContentPane().add(buyButton);
+        panel.add(buyButton);
 
         // Label for when an error occurs
         JLabel errorLabel = new JLabel();
@@ -119,8 +125,6 @@ public class MonsterShopScreen extends Screen {
         monsterStockComboBox.addActionListener(comboBoxSelectionAction(monsterStockComboBox));
         backToMainMenu.addActionListener(backToMainMenuAction());
         buyButton.addActionListener(buyAction(buyButton, errorLabel, monsterBoughtLabel, goldLabel, monsterStockComboBox));
-
-        frame.setVisible(true);
     }
 
 
@@ -132,10 +136,11 @@ public class MonsterShopScreen extends Screen {
      */
     private ActionListener comboBoxSelectionAction(JComboBox<String> comboBox) {
         return ignoredEvent -> {
+            final List<Monster> stock = gameManager.getShop().getMonsterStock();
             final int index = comboBox.getSelectedIndex();
-            if (index < 0 || index >= gameManager.getShop().getMonsterStock().size())
+            if (index < 0 || index >= stock.size())
                 return;
-            chosenMonster.set(gameManager.getShop().getMonsterStock().get(index));
+            chosenMonster.set(stock.get(index));
         };
     }
 
@@ -185,7 +190,11 @@ public class MonsterShopScreen extends Screen {
                 final List<Monster> stock = gameManager.getShop().getMonsterStock();
                 if (stock.isEmpty()) {
                     gui.navigateBackToMainMenu();
+                } else if (stock == displayedStock) {
+                    // Nothing was bought, so the same stock is kept selected as it was
+                    goldLabel.setText(String.format("You have %d gold.", gameManager.getGold()));
                 } else {
+                    displayedStock = stock;
                     partyComboBox.setModel(
                         new LabelComboboxModel<>(stock, Monster::uniqueName)
                     );
@@ -30,6 +30,30 @@ public class PartyScreen extends Screen {
      */
     private final State<Monster> chosenMonster;
 
+    /**
+     * The label for when a monster is moved or sold
+     */
+    private JLabel monsterActionLabel;
+
+    /**
+     * The label for when an error occurs
+     */
+    private JLabel errorLabel;
+
+    /**
+     * The panel of the player's party
+     */
+    private PartyPanel partyPanel;
+
+    /**
+     * The detailed panel of the selected monster
+     */
+    private DetailedMonsterPanel monsterPanel;
+
+    /**
+     * The button to sell a monster
+     */
+    private JButton sellButton;
 
     /**
      * Create an active GUI screen for displaying the party of the player and allow moving and selling monsters
@@ -46,54 +70,50 @@ public class PartyScreen extends Screen {
     @Override
     public void render() {
         // Changes background to the current environment
-        Screen
-            .imageIconFromResource(
-                String.format("/images/%s.jpeg", gameManager.getEnvironment().toString().toLowerCase())
-            )
-            .ifPresent(icon -> frame.setContentPane(new JLabel(icon)));
+        setEnvironmentBackground();
 
         // Button to return to the main menu
         JButton backToMainMenu = new JButton("Main menu");
         backToMainMenu.setBounds(351, 398, 117, 29);
-        frame.getContentPane().add(backToMainMenu);
+        panel.add(backToMainMenu);
 
         // Label for when a monster is moved or sold
-        JLabel monsterActionLabel = new JLabel();
+        monsterActionLabel = new JLabel();
         monsterActionLabel.setBounds(66, 51 + DetailedMonsterPanel.HEIGHT, DetailedMonsterPanel.WIDTH, 20);
         monsterActionLabel.setVisible(false);
         monsterActionLabel.setHorizontalAlignment(SwingConstants.CENTER);
-        frame.getContentPane().add(monsterActionLabel);
+        panel.add(monsterActionLabel);
 
         // Label for when an error occurs
-        JLabel errorLabel = new JLabel();
+        errorLabel = new JLabel();
         errorLabel.setBounds(66, 51 + DetailedMonsterPanel.HEIGHT, DetailedMonsterPanel.WIDTH, 20);
         errorLabel.setVisible(false);
         errorLabel.setHorizontalAlignment(SwingConstants.CENTER);
         errorLabel.setForeground(new Color(255, 0, 0));
-        frame.getContentPane().add(errorLabel);
+        panel.add(errorLabel);
 
         // Panel of the player's party
-        PartyPanel partyPanel = new PartyPanel(trainer);
+        partyPanel = new PartyPanel(trainer);
         partyPanel.setBounds(436, 68);
-        partyPanel.applyToFrame(frame);
+        partyPanel.applyToPanel(panel);
 
         // Detailed panel of the selected monster and its stats
-        DetailedMonsterPanel monsterPanel = new DetailedMonsterPanel(chosenMonster.get(), false);
+        monsterPanel = new DetailedMonsterPanel(chosenMonster.get(), false);
         monsterPanel.setBounds(66, 76);
-        monsterPanel.applyToFrame(frame);
+        monsterPanel.applyToPanel(panel);
 
         // Button to move a monster
         JButton moveButton = new JButton();
         moveButton.setText("Move");
         moveButton.setBounds(66, 86 + DetailedMonsterPanel.HEIGHT, DetailedMonsterPanel.WIDTH / 2, 20);
-        frame.getContentPane().add(moveButton);
+        panel.add(moveButton);
 
         // Button to sell a monster
-        JButton sellButton = new JButton();
+        sellButton = new JButton();
         sellButton.setText("Sell");
         sellButton.setBounds(66 + DetailedMonsterPanel.WIDTH / 2, 86 + DetailedMonsterPanel.HEIGHT, DetailedMonsterPanel.WIDTH / 2, 20);
         sellButton.setEnabled(trainer.getParty().size() > 1);
-        frame.getContentPane().add(sellButton);
+        panel.add(sellButton);
 
         // Refreshs the detailed monster panel when selecting a different monster
         chosenMonster.onChange(monsterPanel::refresh);
@@ -102,10 +122,31 @@ public class PartyScreen extends Screen {
         backToMainMenu.addActionListener(backToMainMenuAction());
         moveButton.addActionListener(moveAction(moveButton, sellButton, errorLabel, monsterActionLabel, partyPanel));
         sellButton.addActionListener(sellAction(sellButton, errorLabel, monsterActionLabel, partyPanel));
+    }
+
+    /**
+     * Update the party display to the current party, keeping all the components
+     */
+    @Override
+    public void refresh() {
+        setEnvironmentBackground();
+        partyPanel.refresh();
+        chosenMonster.set(trainer.getParty().get(0));
+        monsterPanel.refresh(chosenMonster.get());
+        sellButton.setEnabled(trainer.getParty().size() > 1);
+        monsterActionLabel.setVisible(false);
+        errorLabel.setVisible(false);
+    }
 
-        frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-        frame.setResizable(false);
-        frame.setVisible(true);
+    /**
+     * Change the background to the current environment
+     */
+    private void setEnvironmentBackground() {
+        Screen
+            .imageIconFromResource(
+                String.format("/images/%s.jpeg", gameManager.getEnvironment().toString().toLowerCase())
+            )
+            .ifPresent(this::setBackgroundImage);
     }
 
     /**
@@ -185,7 +226,7 @@ public class PartyScreen extends Screen {
                 // Monster is successfully moved
                 gameManager.switchMonsterOnParty(chosenMonster.get(), trainer.getParty().indexOf(mon));
                 errorLabel.setVisible(false);
-                if (chosenMonster.get().getId() != mon.getId()) {
+                if (chosenMonster.get().getSequenceId() != mon.getSequenceId()) {
                     monsterActionLabel.setText(String.format("%s swapped with %s!",
                             chosenMonster.get().getName(), mon.getName()));
                     monsterActionLabel.setVisible(true);
@@ -2,12 +2,8 @@ package seng.monsters.ui.gui;
 
 import seng.monsters.model.GameManager;
 
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import java.awt.*;
-import java.io.InputStream;
-import java.net.URL;
-import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -25,9 +21,14 @@ public abstract class Screen {
     protected final GameManager gameManager;
 
     /**
-     * The window screen
+     * The screen content, shown as a card in the GUI window
      */
-    protected final JFrame frame;
+    protected final JPanel panel;
+
+    /**
+     * The background image drawn behind the content if any
+     */
+    private ImageIcon backgroundImage = null;
 
 
     /**
@@ -38,13 +39,22 @@ public abstract class Screen {
     public Screen(GUI gui, GameManager gameManager) {
         this.gui = gui;
         this.gameManager = gameManager;
-        this.frame = new JFrame();
-        this.frame.getContentPane().setBackground(Screen.backgroundColor());
-        this.frame.getContentPane().setForeground(new Color(0, 0, 0));
-        this.frame.setBounds(100, 100, Screen.WIDTH, Screen.HEIGHT);
-        this.frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-        this.frame.getContentPane().setLayout(null);
-        this.frame.setResizable(false);
+        this.panel = new JPanel(null) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                super.paintComponent(g);
+                if (backgroundImage != null) {
+                    // Centered like an icon in a label
+                    backgroundImage.paintIcon(
+                        this, g,
+                        (getWidth() - backgroundImage.getIconWidth()) / 2,
+                        (getHeight() - backgroundImage.getIconHeight()) / 2
+                    );
+                }
+            }
+        };
+        this.panel.setBackground(Screen.backgroundColor());
+        this.panel.setForeground(new Color(0, 0, 0));
     }
 
 
@@ -54,10 +64,45 @@ public abstract class Screen {
     public abstract void render();
 
     /**
-     * Close the Screen and dispose it
+     * Update the Screen's content to the current state of the game, after it is shown again.
+     * <p>
+     * By default, the content is rendered again from scratch.
+     * Screens that are kept in the GUI should update their existing components instead.
+     */
+    public void refresh() {
+        panel.removeAll();
+        backgroundImage = null;
+        render();
+        panel.revalidate();
+        panel.repaint();
+    }
+
+    /**
+     * Get the panel holding the Screen's content
+     *
+     * @return The screen panel
+     */
+    public JPanel getPanel() {
+        return panel;
+    }
+
+    /**
+     * Set the image drawn behind the Screen's content
+     *
+     * @param icon The background image
+     */
+    protected void setBackgroundImage(ImageIcon icon) {
+        backgroundImage = icon;
+        panel.repaint();
+    }
+
+    /**
+     * Close the Screen and remove its content from the GUI window
      */
     public void dispose() {
-        frame.dispose();
+        final Container parent = panel.getParent();
+        if (parent != null)
+            parent.remove(panel);
     }
 
     /**
@@ -80,21 +125,11 @@ public abstract class Screen {
     }
 
     /**
-     * Get the image resource and return it as ImageIcon
+     * Get the image resource and return it as ImageIcon, decoded once and shared through the ImageCache
      * @param path The path to resource
      * @return ImageIcon from the image if any
      */
     public static Optional<ImageIcon> imageIconFromResource(String path) {
-        try {
-            final URL url = Screen.class.getResource(path);
-            if (url != null)
-                return Optional.of(new ImageIcon(url));
-            final InputStream stream = Screen.class.getResourceAsStream(path);
-            if (stream != null)
-                return Optional.of(new ImageIcon(ImageIO.read(stream)));
-            return Optional.empty();
-        } catch (java.io.IOException | NullPointerException ignored) {
-            return Optional.empty();
-        }
+        return ImageCache.icon(path);
     }
 }
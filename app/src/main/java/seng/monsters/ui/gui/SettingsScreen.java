@@ -36,52 +36,52 @@ public class SettingsScreen extends Screen {
     public void render() {
         JLabel difficultyPromptLabel = new JLabel("Choose difficulty:");
         difficultyPromptLabel.setBounds(145, 68, 153, 16);
-        frame.getContentPane().add(difficultyPromptLabel);
+        panel.add(difficultyPromptLabel);
 
         JLabel maxDaysPromptLabel = new JLabel("Choose number of days to play:");
         maxDaysPromptLabel.setBounds(145, 193, 230, 16);
-        frame.getContentPane().add(maxDaysPromptLabel);
+        panel.add(maxDaysPromptLabel);
 
         JLabel difficultyLabel = new JLabel("Normal");
         difficultyLabel.setBounds(400, 68, 346, 16);
-        frame.getContentPane().add(difficultyLabel);
+        panel.add(difficultyLabel);
 
         JLabel maxDaysLabel = new JLabel("5 day(s)");
         maxDaysLabel.setBounds(400, 193, 346, 16);
-        frame.getContentPane().add(maxDaysLabel);
+        panel.add(maxDaysLabel);
 
         // Button to select normal difficulty
         JButton normalDifficultyButton = new JButton("Normal");
         normalDifficultyButton.setBounds(181, 112, 117, 29);
-        frame.getContentPane().add(normalDifficultyButton);
+        panel.add(normalDifficultyButton);
 
         // Button to select hard difficulty
         JButton hardDifficultButton = new JButton("Hard");
         hardDifficultButton.setBounds(324, 112, 117, 29);
-        frame.getContentPane().add(hardDifficultButton);
+        panel.add(hardDifficultButton);
 
         // Button to select impossible difficulty
         JButton impossibleDifficultyLabel = new JButton("Impossible");
         impossibleDifficultyLabel.setBounds(473, 112, 117, 29);
-        frame.getContentPane().add(impossibleDifficultyLabel);
+        panel.add(impossibleDifficultyLabel);
 
         // Textfield to enter number of days to play
         JTextField maxDaysTextField = new JTextField();
         maxDaysTextField.setToolTipText("Must be between 5 to 15 days");
         maxDaysTextField.setText(maxDays.get().toString());
         maxDaysTextField.setBounds(181, 242, 263, 26);
-        frame.getContentPane().add(maxDaysTextField);
+        panel.add(maxDaysTextField);
         maxDaysTextField.setColumns(10);
 
         // Button to confirm number of days change
         JButton verifyMaxDaysButton = new JButton("Change");
         verifyMaxDaysButton.setBounds(473, 242, 117, 29);
-        frame.getContentPane().add(verifyMaxDaysButton);
+        panel.add(verifyMaxDaysButton);
 
         // Button to continue to main menu
         JButton submitButton = new JButton("Next");
         submitButton.setBounds(350, 374, 117, 29);
-        frame.getContentPane().add(submitButton);
+        panel.add(submitButton);
 
         // Label for when an error occurs ( an invalid number of days is passed)
         JLabel errorLabel = new JLabel("");
@@ -90,7 +90,7 @@ public class SettingsScreen extends Screen {
         errorLabel.setFont(new Font("Lucida Grande", Font.ITALIC, 12));
         errorLabel.setBounds(6, 340, 807, 16);
         errorLabel.setVisible(false);
-        frame.getContentPane().add(errorLabel);
+        panel.add(errorLabel);
 
         // Setting the on change callback for the difficulty
         difficulty.onChange(currDifficulty -> {
@@ -113,8 +113,6 @@ public class SettingsScreen extends Screen {
         );
 
         submitButton.addActionListener(submitAction());
-
-        frame.setVisible(true);
     }
 
     /**
@@ -49,24 +49,24 @@ public class StartingMonsterScreen extends Screen {
         );
         startingMonsterComboBox.setSelectedIndex(0);
         startingMonsterComboBox.setBounds(66, 140, 238, 27);
-        frame.getContentPane().add(startingMonsterComboBox);
+        panel.add(startingMonsterComboBox);
 
         JLabel startingMonsterPrompt = new JLabel("Choose your starting monster:");
         startingMonsterPrompt.setBounds(66, 112, 238, 16);
-        frame.getContentPane().add(startingMonsterPrompt);
+        panel.add(startingMonsterPrompt);
 
         // Panel displaying monster and its stats
-        DetailedMonsterPanel panel = new DetailedMonsterPanel(selectedMonster.get(), false);
-        panel.setBounds(439, 90);
-        panel.applyToFrame(frame);
+        DetailedMonsterPanel monsterPanel = new DetailedMonsterPanel(selectedMonster.get(), false);
+        monsterPanel.setBounds(439, 90);
+        monsterPanel.applyToPanel(panel);
 
         // Button to submit monster selection
         JButton submitButton = new JButton("Next");
         submitButton.setBounds(350, 374, 117, 29);
-        frame.getContentPane().add(submitButton);
+        panel.add(submitButton);
 
         // Setting the on change callback for the selected monster
-        selectedMonster.onChange(panel::refresh);
+        selectedMonster.onChange(monsterPanel::refresh);
 
         startingMonsterComboBox.addActionListener(
             comboBoxAction(startingMonsterComboBox)
@@ -75,8 +75,6 @@ public class StartingMonsterScreen extends Screen {
         submitButton.addActionListener(
             submitAction(startingMonsterComboBox)
         );
-
-        frame.setVisible(true);
     }
 
     /**
@@ -123,7 +121,7 @@ public class StartingMonsterScreen extends Screen {
         return ignoredEvent -> {
             gameManager.getPlayer().add(monster);
 
-            gui.navigateTo(new MainMenuScreen(gui, gameManager));
+            gui.navigateBackToMainMenu();
         };
     }
 }
@@ -27,30 +27,30 @@ public class TitleScreen extends Screen {
         titleLabel.setFont(new Font("Lucida Grande", Font.BOLD, 36));
         titleLabel.setHorizontalAlignment(SwingConstants.CENTER);
         titleLabel.setBounds(229, 94, 360, 67);
-        frame.getContentPane().add(titleLabel);
+        panel.add(titleLabel);
 
         JLabel subtitleLabel = new JLabel("Made by David Liang and Vincent");
         subtitleLabel.setHorizontalAlignment(SwingConstants.CENTER);
         subtitleLabel.setFont(new Font("Lucida Grande", Font.ITALIC, 13));
         subtitleLabel.setBounds(289, 185, 240, 16);
-        frame.getContentPane().add(subtitleLabel);
+        panel.add(subtitleLabel);
 
         JLabel namePromptLabel = new JLabel("Choose a name:");
         namePromptLabel.setHorizontalAlignment(SwingConstants.CENTER);
         namePromptLabel.setBounds(326, 287, 167, 16);
-        frame.getContentPane().add(namePromptLabel);
+        panel.add(namePromptLabel);
 
         // Text field for player to enter their name
         JTextField nameTextField = new JTextField();
         nameTextField.setToolTipText("Must be between 3 to 15 characters");
         nameTextField.setBounds(326, 315, 167, 26);
-        frame.getContentPane().add(nameTextField);
+        panel.add(nameTextField);
         nameTextField.setColumns(10);
 
         // Button to submit name and go to next screen
         JButton submitButton = new JButton("Next");
         submitButton.setBounds(350, 374, 117, 29);
-        frame.getContentPane().add(submitButton);
+        panel.add(submitButton);
 
         // Label for when the player enters an invalid name and an error occurs
         JLabel errorLabel = new JLabel("");
@@ -59,13 +59,11 @@ public class TitleScreen extends Screen {
         errorLabel.setForeground(new Color(255, 0, 0));
         errorLabel.setBounds(6, 346, 807, 16);
         errorLabel.setVisible(false);
-        frame.getContentPane().add(errorLabel);
+        panel.add(errorLabel);
 
         submitButton.addActionListener(
             submitAction(nameTextField, errorLabel)
         );
-
-        frame.setVisible(true);
     }
 
     /**
@@ -156,6 +156,15 @@ public final class DetailedMonsterPanel {
         frame.getContentPane().add(monsterDisplayPanel);
     }
 
+    /**
+     * Add this panel to another panel
+     *
+     * @param parentPanel The panel to be displayed into (<b>Must use absolute positioning</b>)
+     */
+    public void applyToPanel(JPanel parentPanel) {
+        parentPanel.add(monsterDisplayPanel);
+    }
+
     /**
      * Refresh the panel with a new monster
      *
@@ -54,6 +54,15 @@ public final class ItemPanel {
         frame.getContentPane().add(itemPanel);
     }
 
+    /**
+     * Add this panel to another panel
+     *
+     * @param parentPanel The panel to be displayed into (<b>Must use absolute positioning</b>)
+     */
+    public void applyToPanel(JPanel parentPanel) {
+        parentPanel.add(itemPanel);
+    }
+
     /**
      * Initialize the UI element for this panel
      */
@@ -14,9 +14,9 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiConsumer;
-import java.util.stream.IntStream;
 
 /**
  * A Pokemon-like display for a party
@@ -38,6 +38,11 @@ public final class PartyPanel {
      */
     private List<PartySlotPanel> slots;
 
+    /**
+     * The label for the order of each slot, parallel to the slots
+     */
+    private List<JLabel> orderLabels;
+
     /**
      * The action to be performed if a slot is clicked
      */
@@ -75,6 +80,15 @@ public final class PartyPanel {
         frame.getContentPane().add(displayPanel);
     }
 
+    /**
+     * Add this panel to another panel
+     *
+     * @param parentPanel The panel to be displayed into (<b>Must use absolute positioning</b>)
+     */
+    public void applyToPanel(JPanel parentPanel) {
+        parentPanel.add(displayPanel);
+    }
+
     /**
      * Set the action to be performed when slot is clicked
      *
@@ -92,25 +106,34 @@ public final class PartyPanel {
         displayPanel = new JPanel();
         displayPanel.setOpaque(false);
 
-        // List of the party of the corresponding trainer
-        final List<Monster> party = trainer.getParty();
+        // Displays each party slot and their order in the party
+        slots = new ArrayList<>();
+        orderLabels = new ArrayList<>();
+        for (final Monster monster : trainer.getParty()) {
+            addSlot(monster);
+        }
+    }
+
+    /**
+     * Add a slot and its order at the end of the party display
+     *
+     * @param monster The monster in the slot
+     */
+    private void addSlot(Monster monster) {
+        final int i = slots.size();
         final int diffY = 20;
 
-        // Displays each party slot and their order in the party
-        slots = IntStream.range(0, party.size())
-            .mapToObj(i -> {
-                JLabel orderLabel = new JLabel(Integer.toString(i+1));
-                orderLabel.setBounds(0, i * (PartySlotPanel.HEIGHT + diffY), 8, 20);
-                orderLabel.setFont(new Font("Lucida Grande", Font.ITALIC, 12));
-                displayPanel.add(orderLabel);
-
-                PartySlotPanel slot = new PartySlotPanel(party.get(i));
-                slot.setBounds(0, diffY + i * (PartySlotPanel.HEIGHT + diffY));
-                slot.applyToPanel(displayPanel);
-                slot.addActionListener(eachPanelAction(i));
-                return slot;
-            })
-            .toList();
+        JLabel orderLabel = new JLabel(Integer.toString(i+1));
+        orderLabel.setBounds(0, i * (PartySlotPanel.HEIGHT + diffY), 8, 20);
+        orderLabel.setFont(new Font("Lucida Grande", Font.ITALIC, 12));
+        displayPanel.add(orderLabel);
+        orderLabels.add(orderLabel);
+
+        PartySlotPanel slot = new PartySlotPanel(monster);
+        slot.setBounds(0, diffY + i * (PartySlotPanel.HEIGHT + diffY));
+        slot.applyToPanel(displayPanel);
+        slot.addActionListener(eachPanelAction(i));
+        slots.add(slot);
     }
 
 
@@ -129,13 +152,20 @@ public final class PartyPanel {
      * Refresh the party display
      */
     public void refresh() {
+        // Add slots if the party has grown since the last render
+        for (int i = slots.size(); i < trainer.getParty().size(); i++) {
+            addSlot(trainer.getParty().get(i));
+        }
         for (int i = 0; i < trainer.getParty().size(); i++) {
             final Monster newMon = trainer.getParty().get(i);
             slots.get(i).refresh(newMon);
             slots.get(i).setVisible(true);
+            orderLabels.get(i).setVisible(true);
         }
+        // Hide the slots and their order past the end of the party
         for (int i = trainer.getParty().size(); i < slots.size(); i++) {
             slots.get(i).setVisible(false);
+            orderLabels.get(i).setVisible(false);
         }
     }
 
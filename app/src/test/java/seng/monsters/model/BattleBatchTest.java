@@ -0,0 +1,294 @@
+package seng.monsters.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BattleBatchTest {
+    private Trainer player;
+    private Trainer enemy;
+
+    @BeforeEach
+    void setUp() {
+        player = new Trainer("Player");
+        enemy = new Trainer("Enemy");
+    }
+
+    /**
+     * BattleBatch <code>run</code> should:
+     * <ul>
+     * <li>Give the same outcome and rewards as BattleManager for one sided battles</li>
+     * <li>Settle immediately if either party has no active monster</li>
+     * <li>Not affect the hp of the actual parties</li>
+     * </ul>
+     */
+    @Test
+    void run() {
+        player.add(new Monster.Shark(20));
+        enemy.add(new Monster.Doger(1));
+        enemy.add(new Monster.Raver(1));
+
+        final BattleBatch batch = new BattleBatch(4);
+        final int win = batch.add(player, enemy, Environment.BEACH);
+        final int loss = batch.add(enemy, player, Environment.BEACH);
+        final Trainer fainted = enemy.copy();
+        fainted.getParty().forEach(mon -> mon.takeDamage(mon.maxHp()));
+        final int settled = batch.add(player, fainted, Environment.BEACH);
+        final int empty = batch.add(new Trainer("Empty"), player, Environment.BEACH);
+        assertEquals(4, batch.size());
+        batch.run(RandomSource.seeded(7));
+
+        final BattleManager battle = new BattleManager(
+            BattleManager.UI.HEADLESS, player.copy(), enemy.copy(), Environment.BEACH, RandomSource.seeded(7)
+        );
+        battle.resolve();
+        assertTrue(batch.hasPlayerWon(win));
+        assertEquals(battle.goldReward(), batch.goldReward(win));
+        assertEquals(battle.scoreReward(), batch.scoreReward(win));
+        assertEquals(1, batch.playerRemaining(win));
+        assertEquals(0, batch.enemyRemaining(win));
+
+        assertFalse(batch.hasPlayerWon(loss));
+        assertTrue(batch.hasPlayerWon(settled));
+        assertEquals(battle.goldReward(), batch.goldReward(settled));
+        assertFalse(batch.hasPlayerWon(empty));
+        assertEquals(0, batch.playerRemaining(empty));
+
+        assertFalse(player.getParty().stream().anyMatch(mon -> mon.getCurrentHp() < mon.maxHp()));
+        assertFalse(enemy.getParty().stream().anyMatch(mon -> mon.getCurrentHp() < mon.maxHp()));
+    }
+
+    /**
+     * BattleBatch <code>run</code> should:
+     * <ul>
+     * <li>Agree with the exact solver for even battles, including a self-healing Eel and a hurt monster</li>
+     * <li>Agree with BattleManager on the win rate, and give the same rewards for the same outcome</li>
+     * <li>Start every run from the same hp, so the batch can be rerun</li>
+     * </ul>
+     */
+    @Test
+    void crossCheck() {
+        player.add(new Monster.Eel(6));
+        player.add(new Monster.Quacker(4));
+        player.getParty().get(1).takeDamage(20);
+        enemy.add(new Monster.Tree(4));
+        enemy.add(new Monster.Shark(3));
+        enemy.add(new Monster.Eel(3));
+
+        final BattleSolver.Outcome outcome = BattleSolver.solve(player, enemy, Environment.URBAN);
+        final BattleBatch batch = new BattleBatch(1000);
+        for (int i = 0; i < 1000; i++) {
+            batch.add(player, enemy, Environment.URBAN);
+        }
+        final RandomSource rng = RandomSource.seeded(1);
+        int wins = 0;
+        int managerWins = 0;
+        for (int run = 0; run < 20; run++) {
+            batch.run(rng);
+            for (int i = 0; i < batch.size(); i++) {
+                final BattleManager battle = new BattleManager(
+                    BattleManager.UI.HEADLESS,
+                    player.copy(),
+                    enemy.copy(),
+                    Environment.URBAN,
+                    RandomSource.seeded(run * 1000L + i)
+                );
+                battle.resolve();
+                if (battle.hasPlayerWon())
+                    managerWins++;
+                if (batch.hasPlayerWon(i)) {
+                    wins++;
+                    assertEquals(enemyGold(), batch.goldReward(i));
+                    assertEquals(enemyScore(), batch.scoreReward(i));
+                } else {
+                    assertEquals(playerGold(), batch.goldReward(i));
+                    assertEquals(playerScore(), batch.scoreReward(i));
+                }
+                // A full party loses either way, so both paths reward the same total for the same outcome
+                if (battle.hasPlayerWon() == batch.hasPlayerWon(i)) {
+                    assertEquals(battle.goldReward(), batch.goldReward(i));
+                    assertEquals(battle.scoreReward(), batch.scoreReward(i));
+                }
+            }
+        }
+        assertEquals(outcome.winProbability(), wins / 20000.0, 0.02);
+        assertEquals(managerWins / 20000.0, wins / 20000.0, 0.02);
+    }
+
+    /**
+     * BattleBatch should:
+     * <ul>
+     * <li>Reject battles once full, until cleared</li>
+     * <li>Reject a negative capacity</li>
+     * <li>Reject a battling monster that can only roll zero damage</li>
+     * </ul>
+     */
+    @Test
+    void errors() {
+        player.add(new Monster.Shark(2));
+        enemy.add(new Monster.Doger(2));
+
+        final BattleBatch batch = new BattleBatch(1);
+        batch.add(player, enemy, Environment.FIELD);
+        assertThrows(IllegalStateException.class, () -> batch.add(player, enemy, Environment.FIELD));
+        batch.clear();
+        assertEquals(0, batch.size());
+        assertEquals(0, batch.add(player, enemy, Environment.FIELD));
+
+        assertThrows(IllegalArgumentException.class, () -> new BattleBatch(-1));
+
+        final Trainer harmless = new Trainer("Harmless");
+        harmless.add(new Monster.Generic(
+            new SpeciesStats("Harmless", "Cannot hurt anyone", 10, 0, 1, 0, Environment.FIELD, 0, 0, 0, 0), 1
+        ));
+        batch.clear();
+        assertThrows(IllegalArgumentException.class, () -> batch.add(harmless, enemy, Environment.FIELD));
+    }
+
+    /**
+     * AttackKernel should:
+     * <ul>
+     * <li>Give the exact same lanes with the fastest kernel as with the scalar one, including the tail lanes and wide spans</li>
+     * <li>List the same fainted lanes in increasing order</li>
+     * <li>Only roll inside the range, even for the widest span</li>
+     * <li>Settle a batch the exact same way whichever kernel is used</li>
+     * </ul>
+     */
+    @Test
+    void kernels() {
+        final RandomSource rng = RandomSource.seeded(13);
+        final BattleBatch.Lanes scalar = new BattleBatch.Lanes(37);
+        final BattleBatch.Lanes best = new BattleBatch.Lanes(37);
+        for (final BattleBatch.Lanes lanes : new BattleBatch.Lanes[]{scalar, best}) {
+            final RandomSource fill = RandomSource.seeded(29);
+            for (int i = 0; i < 37; i++) {
+                lanes.counter[i] = (int) fill.nextLong();
+                lanes.playerTurn[i] = fill.nextInt(2);
+                lanes.playerMax[i] = 1 + fill.nextInt(500);
+                lanes.enemyMax[i] = 1 + fill.nextInt(500);
+                lanes.playerHp[i] = 1 + fill.nextInt(lanes.playerMax[i]);
+                lanes.enemyHp[i] = 1 + fill.nextInt(lanes.enemyMax[i]);
+                lanes.playerHeal[i] = fill.nextInt(20);
+                lanes.enemyHeal[i] = fill.nextInt(20);
+                lanes.playerLow[i] = fill.nextInt(50);
+                lanes.enemyLow[i] = fill.nextInt(50);
+                lanes.playerSpan[i] = 1 + fill.nextInt(AttackKernel.MAX_SPAN);
+                lanes.enemySpan[i] = 1 + fill.nextInt(150);
+            }
+            // A range too wide for 32 random bits, in the middle of what would be a vector
+            lanes.enemySpan[5] = 100_000;
+        }
+        final AttackKernel kernel = AttackKernel.best();
+        for (int step = 0; step < 5; step++) {
+            final int fainted = ScalarAttackKernel.INSTANCE.attack(scalar, 37);
+            assertEquals(fainted, kernel.attack(best, 37));
+            for (int i = 0; i < fainted; i++) {
+                assertEquals(scalar.fainted[i], best.fainted[i]);
+                assertTrue(i == 0 || scalar.fainted[i - 1] < scalar.fainted[i]);
+                assertEquals(0, scalar.playerTurn[scalar.fainted[i]] != 0 ? scalar.enemyHp[scalar.fainted[i]] : scalar.playerHp[scalar.fainted[i]]);
+            }
+            assertArrayEquals(scalar.counter, best.counter);
+            assertArrayEquals(scalar.playerTurn, best.playerTurn);
+            assertArrayEquals(scalar.playerHp, best.playerHp);
+            assertArrayEquals(scalar.enemyHp, best.enemyHp);
+        }
+
+        assertEquals(0, ScalarAttackKernel.roll(0, AttackKernel.MAX_SPAN));
+        assertEquals(AttackKernel.MAX_SPAN - 1, ScalarAttackKernel.roll(-1, AttackKernel.MAX_SPAN));
+        assertEquals(2, ScalarAttackKernel.roll(-1, 3));
+        for (int i = 0; i < 1000; i++) {
+            final int span = 1 + rng.nextInt(AttackKernel.MAX_SPAN);
+            final int roll = ScalarAttackKernel.roll(ScalarAttackKernel.mix((int) rng.nextLong()), span);
+            assertTrue(roll >= 0 && roll < span);
+            final int wideSpan = AttackKernel.MAX_SPAN + 1 + rng.nextInt(Integer.MAX_VALUE - AttackKernel.MAX_SPAN);
+            final int wideRoll = ScalarAttackKernel.wideRoll((int) rng.nextLong(), wideSpan);
+            assertTrue(wideRoll >= 0 && wideRoll < wideSpan);
+        }
+
+        player.add(new Monster.Eel(6));
+        player.add(new Monster.Quacker(4));
+        enemy.add(new Monster.Tree(4));
+        enemy.add(new Monster.Shark(3));
+        final BattleBatch plain = new BattleBatch(101, ScalarAttackKernel.INSTANCE);
+        final BattleBatch fastest = new BattleBatch(101, kernel);
+        for (int i = 0; i < 101; i++) {
+            plain.add(player, enemy, Environment.URBAN);
+            fastest.add(player, enemy, Environment.URBAN);
+        }
+        plain.run(RandomSource.seeded(3));
+        fastest.run(RandomSource.seeded(3));
+        for (int i = 0; i < 101; i++) {
+            assertEquals(plain.hasPlayerWon(i), fastest.hasPlayerWon(i));
+            assertEquals(plain.playerRemaining(i), fastest.playerRemaining(i));
+            assertEquals(plain.enemyRemaining(i), fastest.enemyRemaining(i));
+        }
+    }
+
+    /**
+     * BattleBatch should:
+     * <ul>
+     * <li>Accept monsters whose damage range is too wide for a vector, and settle them the same on every kernel</li>
+     * </ul>
+     */
+    @Test
+    void wideDamage() {
+        final Monster mighty = new Monster.Generic(
+            new SpeciesStats("Mighty", "Hits very hard", 10, 200_000, 1, 0, Environment.FIELD, 0, 0, 0, 0), 1
+        );
+        assertTrue(mighty.attackDamage(Environment.BEACH) - mighty.attackDamage(Environment.BEACH) / 4 > AttackKernel.MAX_SPAN);
+        player.add(mighty);
+        enemy.add(new Monster.Doger(1));
+        enemy.add(new Monster.Raver(1));
+
+        final BattleBatch plain = new BattleBatch(20, ScalarAttackKernel.INSTANCE);
+        final BattleBatch fastest = new BattleBatch(20, AttackKernel.best());
+        for (int i = 0; i < 20; i++) {
+            plain.add(i % 2 == 0 ? player : enemy, i % 2 == 0 ? enemy : player, Environment.BEACH);
+            fastest.add(i % 2 == 0 ? player : enemy, i % 2 == 0 ? enemy : player, Environment.BEACH);
+        }
+        plain.run(RandomSource.seeded(5));
+        fastest.run(RandomSource.seeded(5));
+        for (int i = 0; i < 20; i++) {
+            assertEquals(plain.hasPlayerWon(i), fastest.hasPlayerWon(i));
+            assertEquals(plain.playerRemaining(i), fastest.playerRemaining(i));
+            assertEquals(plain.enemyRemaining(i), fastest.enemyRemaining(i));
+        }
+    }
+
+    /**
+     * Get the total sell price of the enemy party.
+     *
+     * @return The gold rewarded when the player wins.
+     */
+    private int enemyGold() {
+        return enemy.getParty().stream().mapToInt(Monster::sellPrice).sum();
+    }
+
+    /**
+     * Get the total level of the enemy party.
+     *
+     * @return The score rewarded when the player wins.
+     */
+    private int enemyScore() {
+        return enemy.getParty().stream().mapToInt(Monster::getLevel).sum();
+    }
+
+    /**
+     * Get the total level of the player party.
+     *
+     * @return The score rewarded when the player loses.
+     */
+    private int playerScore() {
+        return player.getParty().stream().mapToInt(Monster::getLevel).sum();
+    }
+
+    /**
+     * Get the total sell price of the player party.
+     *
+     * @return The gold rewarded when the player loses.
+     */
+    private int playerGold() {
+        return player.getParty().stream().mapToInt(Monster::sellPrice).sum();
+    }
+}
@@ -0,0 +1,88 @@
+package seng.monsters.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BattleEventLogTest {
+    private BattleEventLog log;
+    private Trainer trainer;
+
+    @BeforeEach
+    void setUp() {
+        log = new BattleEventLog(4);
+        trainer = new Trainer("Trainer");
+    }
+
+    private BattleEvent.Reward reward(int gold) {
+        return new BattleEvent.Reward(gold, 0);
+    }
+
+    /**
+     * BattleEventLog's <code>Cursor</code> should:
+     * <ul>
+     * <li>Read each event once in the order they were written</li>
+     * <li>Skip and count the events overwritten before they were read</li>
+     * </ul>
+     */
+    @Test
+    void cursor() {
+        final BattleEventLog.Cursor cursor = log.cursor();
+        assertFalse(cursor.hasNext());
+        assertNull(cursor.next());
+
+        log.append(reward(0));
+        log.append(reward(1));
+        assertEquals(reward(0), cursor.next());
+        assertEquals(reward(1), cursor.next());
+        assertNull(cursor.next());
+
+        // Falling behind by more than the capacity
+        for (int i = 2; i < 10; i++) {
+            log.append(reward(i));
+        }
+        assertTrue(cursor.hasNext());
+        assertEquals(reward(6), cursor.next());
+        assertEquals(4, cursor.getMissed());
+
+        // A tail cursor only reads new events
+        final BattleEventLog.Cursor tail = log.tail();
+        assertNull(tail.next());
+        log.append(reward(10));
+        assertEquals(reward(10), tail.next());
+    }
+
+    /**
+     * BattleEventLog should:
+     * <ul>
+     * <li>Retain only up to its capacity, rounded up to a power of two</li>
+     * <li>Give the latest feeds without monster switches</li>
+     * </ul>
+     */
+    @Test
+    void bounded() {
+        assertEquals(4, log.capacity());
+        assertEquals(8, new BattleEventLog(5).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new BattleEventLog(0));
+
+        final Monster mon = new Monster.Doger(1);
+        for (int i = 0; i < 6; i++) {
+            log.append(reward(i));
+        }
+        log.append(new BattleEvent.Switch(mon, mon, true));
+        assertEquals(7, log.getWritten());
+        assertEquals(4, log.toList().size());
+
+        assertEquals(
+            List.of("You gained 4 gold and 0 score!", "You gained 5 gold and 0 score!"),
+            log.latestFeeds(2)
+        );
+        assertEquals(3, log.latestFeeds(10).size());
+
+        log.append(new BattleEvent.Faint(trainer, mon));
+        assertEquals("Trainer's Doger fainted", log.latestFeeds(1).get(0));
+    }
+}
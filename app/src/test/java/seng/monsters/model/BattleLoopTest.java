@@ -0,0 +1,165 @@
+package seng.monsters.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BattleLoopTest {
+    /**
+     * Create a battle between two fixed parties
+     *
+     * @param ui   The UI of the battle
+     * @param seed The seed of the damage rolls
+     * @return The battle
+     */
+    private static BattleManager battle(BattleManager.UI ui, long seed) {
+        final Trainer player = new Trainer("Player");
+        final Trainer enemy = new Trainer("Enemy");
+        player.add(new Monster.Tree(10));
+        player.add(new Monster.Doger(8));
+        enemy.add(new Monster.Raver(10));
+        enemy.add(new Monster.Eel(9));
+        return new BattleManager(ui, player, enemy, Environment.FIELD, RandomSource.seeded(seed));
+    }
+
+    /**
+     * Wait for the loop to publish a settled frame
+     *
+     * @param loop The battle loop
+     * @return The settled frame
+     */
+    private static BattleFrame awaitSettled(BattleLoop loop) throws InterruptedException {
+        final long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!loop.latest().isSettled()) {
+            assertTrue(System.nanoTime() < deadline, "Battle did not settle in time");
+            Thread.sleep(1);
+        }
+        return loop.latest();
+    }
+
+    /**
+     * BattleLoop <code>start</code> should:
+     * <ul>
+     * <li>Publish the first frame before starting</li>
+     * <li>Run the battle on another thread until it is settled</li>
+     * <li>Give the same outcome as ticking the battle on the same thread</li>
+     * <li>Publish frames that cannot be changed</li>
+     * </ul>
+     */
+    @Test
+    void start() throws InterruptedException {
+        final BattleLoop loop = new BattleLoop(ui -> battle(ui, 3), Duration.ofNanos(1));
+        final BattleFrame first = loop.latest();
+        assertEquals(0, first.tick());
+        assertFalse(first.isSettled());
+        assertEquals(List.of(true, true), first.playerParty());
+
+        loop.start();
+        final BattleFrame last = awaitSettled(loop);
+        assertTrue(last.tick() > 0);
+        assertEquals(BattleFrame.NO_ATTACK, last.progress());
+        assertThrows(UnsupportedOperationException.class, () -> last.feeds().add(""));
+
+        final BattleManager expected = battle(BattleManager.UI.HEADLESS, 3);
+        long ticks = 0;
+        while (!expected.isSettled()) {
+            expected.nextIteration();
+            ticks++;
+        }
+        assertEquals(ticks, last.tick());
+        assertEquals(expected.hasPlayerWon(), loop.getBattle().hasPlayerWon());
+        assertEquals(expected.latestFeeds(BattleLoop.FEED_COUNT), last.feeds());
+        assertEquals(BattleFrame.Fighter.of(expected.getBattlingPlayerMonster()), last.player());
+        assertEquals(BattleFrame.Fighter.of(expected.getBattlingEnemyMonster()), last.enemy());
+    }
+
+    /**
+     * BattleLoop <code>start</code> and <code>stop</code> should:
+     * <ul>
+     * <li>Throw an error if started twice</li>
+     * <li>Leave the battle where it is when stopped</li>
+     * <li>Throw an error if the tick is not positive</li>
+     * </ul>
+     */
+    @Test
+    void stop() throws InterruptedException {
+        final BattleLoop loop = new BattleLoop(ui -> battle(ui, 5), Duration.ofHours(1));
+        loop.start();
+        assertThrows(IllegalStateException.class, loop::start);
+
+        // Only the first tick is done immediately
+        final long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (loop.latest().tick() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        loop.stop();
+        assertEquals(1, loop.latest().tick());
+        assertFalse(loop.latest().isSettled());
+
+        assertThrows(IllegalArgumentException.class, () -> new BattleLoop(ui -> battle(ui, 5), Duration.ZERO));
+    }
+
+    /**
+     * BattleLoop <code>skip</code> should:
+     * <ul>
+     * <li>Start the loop if it has not been started</li>
+     * <li>Resolve the rest of the battle on the next tick</li>
+     * <li>Give the same outcome as playing the battle at any speed</li>
+     * </ul>
+     */
+    @Test
+    void skip() throws InterruptedException {
+        final BattleLoop loop = new BattleLoop(ui -> battle(ui, 9), Duration.ofHours(1));
+        loop.setPlayback(Playback.FAST);
+        assertEquals(Playback.FAST, loop.getPlayback());
+        loop.skip();
+        final BattleFrame last = awaitSettled(loop);
+        assertEquals(1, last.tick());
+
+        final BattleManager expected = battle(BattleManager.UI.HEADLESS, 9);
+        while (!expected.isSettled()) {
+            Playback.FAST.tick(expected);
+        }
+        assertEquals(expected.latestFeeds(BattleLoop.FEED_COUNT), last.feeds());
+        assertEquals(BattleFrame.Fighter.of(expected.getBattlingPlayerMonster()), last.player());
+    }
+
+    /**
+     * BattleLoop <code>start</code> should:
+     * <ul>
+     * <li>Keep the error if the battle fails while ticking, instead of waiting for a settled frame forever</li>
+     * <li>Stop publishing frames once failed</li>
+     * </ul>
+     */
+    @Test
+    void failure() throws InterruptedException {
+        final BattleLoop loop = new BattleLoop(ui -> {
+            final Trainer player = new Trainer("Player");
+            final Trainer enemy = new Trainer("Enemy");
+            player.add(new Monster(SpeciesTable.bundled().get("Shark"), "Broken", 5) {
+                @Override
+                public int damage(Environment env) {
+                    throw new IllegalStateException("Broken");
+                }
+            });
+            enemy.add(new Monster.Raver(5));
+            return new BattleManager(ui, player, enemy, Environment.FIELD, RandomSource.seeded(1));
+        }, Duration.ofNanos(1));
+        assertTrue(loop.getFailure().isEmpty());
+
+        loop.skip();
+        final long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (loop.getFailure().isEmpty()) {
+            assertTrue(System.nanoTime() < deadline, "Battle failure was not reported in time");
+            Thread.sleep(1);
+        }
+        assertEquals("Broken", loop.getFailure().get().getMessage());
+        final BattleFrame last = loop.latest();
+        assertFalse(last.isSettled());
+        Thread.sleep(20);
+        assertSame(last, loop.latest());
+    }
+}
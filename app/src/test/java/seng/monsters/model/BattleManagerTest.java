@@ -3,6 +3,8 @@ package seng.monsters.model;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -126,6 +128,66 @@ class BattleManagerTest {
         assertTrue(isEachDamageCalled.get());
     }
 
+    /**
+     * BattleManager <code>resolve</code> should:
+     * <ul>
+     * <li>Settle the battle without calling <code>onEachAttackProgress</code></li>
+     * <li>Produce the same damage sequence and feeds as <code>nextIteration</code> given the same randomizer</li>
+     * </ul>
+     */
+    @Test
+    void resolve() {
+        final Trainer otherPlayer = new Trainer("Player");
+        final Trainer otherEnemy = new Trainer("Enemy");
+        for (final Trainer trainer : List.of(player, otherPlayer)) {
+            trainer.add(new Monster.Doger(3));
+            trainer.add(new Monster.Eel(4));
+        }
+        for (final Trainer trainer : List.of(enemy, otherEnemy)) {
+            trainer.add(new Monster.Tree(3));
+            trainer.add(new Monster.Shark(2));
+            trainer.add(new Monster.Quacker(3));
+        }
+
+        final List<Integer> tickedDamages = new ArrayList<>();
+        final BattleManager ticked = new BattleManager(
+            new DudUI() {
+                @Override
+                public void onEachLandedAttack(boolean isPlayerTurn, int dmg) {
+                    tickedDamages.add(dmg);
+                }
+            },
+            player, enemy, Environment.URBAN, RandomSource.seeded(42)
+        );
+        while (!ticked.isSettled()) {
+            ticked.nextIteration();
+        }
+
+        final List<Integer> resolvedDamages = new ArrayList<>();
+        final AtomicBoolean isEachFrameCalled = new AtomicBoolean(false);
+        final BattleManager resolved = new BattleManager(
+            new DudUI() {
+                @Override
+                public void onEachAttackProgress(int percentage) {
+                    isEachFrameCalled.set(true);
+                }
+
+                @Override
+                public void onEachLandedAttack(boolean isPlayerTurn, int dmg) {
+                    resolvedDamages.add(dmg);
+                }
+            },
+            otherPlayer, otherEnemy, Environment.URBAN, RandomSource.seeded(42)
+        );
+        resolved.resolve();
+
+        assertTrue(resolved.isSettled());
+        assertFalse(isEachFrameCalled.get());
+        assertEquals(tickedDamages, resolvedDamages);
+        assertEquals(List.copyOf(ticked.getFeeds()), List.copyOf(resolved.getFeeds()));
+        assertEquals(ticked.hasPlayerWon(), resolved.hasPlayerWon());
+    }
+
     /**
      * BattleManager <code>getFeeds</code> should:
      * <ul>
@@ -157,6 +219,43 @@ class BattleManagerTest {
         assertNotEquals(0, battleManager.getFeeds().size());
     }
 
+    /**
+     * BattleManager <code>getEvents</code> should:
+     * <ul>
+     * <li>Give an event for each attack, faint, switch and the end of the battle</li>
+     * <li>Match the feeds when formatted</li>
+     * </ul>
+     */
+    @Test
+    void getEvents() {
+        player.add(new Monster.Shark(20));
+        enemy.add(new Monster.Doger(1));
+        enemy.add(new Monster.Raver(1));
+        battleManager = new BattleManager(dud, player, enemy, Environment.BEACH);
+        battleManager.resolve();
+
+        final List<BattleEvent> events = battleManager.getEvents().toList();
+        assertEquals(BattleEvent.Attack.class, events.get(0).getClass());
+        assertTrue(events.stream().anyMatch(event -> event instanceof BattleEvent.Switch));
+        assertEquals(2, events.stream().filter(event -> event instanceof BattleEvent.Faint).count());
+
+        final BattleEvent.Settle settle = (BattleEvent.Settle) events.get(events.size() - 2);
+        assertEquals(player, settle.winner());
+        assertEquals(1, settle.remaining());
+        assertEquals("Player win with 1 monster left and Enemy lost", settle.describe());
+        assertEquals(
+            new BattleEvent.Reward(battleManager.goldReward(), battleManager.scoreReward()),
+            events.get(events.size() - 1)
+        );
+
+        final List<String> feeds = events.stream()
+            .filter(BattleEvent::isFeed)
+            .map(BattleEvent::describe)
+            .toList();
+        assertEquals(feeds, List.copyOf(battleManager.getFeeds()));
+        assertEquals(feeds.subList(feeds.size() - 2, feeds.size()), battleManager.latestFeeds(2));
+    }
+
     /**
      * BattleManager <code>isEitherFallen</code> should:
      * <ul>
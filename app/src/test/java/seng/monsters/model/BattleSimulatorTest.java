@@ -0,0 +1,96 @@
+package seng.monsters.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BattleSimulatorTest {
+    private BattleSimulator simulator;
+    private Trainer player;
+    private Trainer enemy;
+
+    @BeforeEach
+    void setUp() {
+        simulator = new BattleSimulator(500, Duration.ofSeconds(10));
+        player = new Trainer("Player");
+        enemy = new Trainer("Enemy");
+    }
+
+    /**
+     * BattleSimulator <code>estimate</code> should:
+     * <ul>
+     * <li>Run all simulations if the time budget allows</li>
+     * <li>Give a certain win for a much stronger party and a certain loss for a much weaker one</li>
+     * <li>Not affect the hp of the actual parties</li>
+     * </ul>
+     */
+    @Test
+    void estimate() {
+        player.add(new Monster.Shark(20));
+        enemy.add(new Monster.Doger(1));
+        enemy.add(new Monster.Raver(1));
+
+        final BattleSimulator.Estimate win = simulator.estimate(player, enemy, Environment.BEACH);
+        assertEquals(500, win.simulations());
+        assertEquals(1.0, win.winProbability());
+        assertEquals(enemy.getParty().stream().mapToInt(Monster::sellPrice).sum(), win.expectedGold());
+        assertEquals(2.0, win.expectedScore());
+
+        final BattleSimulator.Estimate loss = simulator.estimate(enemy, player, Environment.BEACH);
+        assertEquals(0.0, loss.winProbability());
+        assertEquals(0.0, loss.expectedGold());
+
+        assertFalse(player.getParty().stream().anyMatch(mon -> mon.getCurrentHp() < mon.maxHp()));
+        assertFalse(enemy.getParty().stream().anyMatch(mon -> mon.getCurrentHp() < mon.maxHp()));
+    }
+
+    /**
+     * BattleSimulator <code>estimate</code> should:
+     * <ul>
+     * <li>Stop starting new simulations once the time budget is spent</li>
+     * </ul>
+     */
+    @Test
+    void timeBudget() {
+        player.add(new Monster.Quacker(5));
+        enemy.add(new Monster.Quacker(5));
+
+        final BattleSimulator expired = new BattleSimulator(500, Duration.ZERO);
+        final BattleSimulator.Estimate estimate = expired.estimate(player, enemy, Environment.FIELD);
+        assertEquals(0, estimate.simulations());
+        assertEquals(0.0, estimate.winProbability());
+
+        assertThrows(IllegalArgumentException.class, () -> new BattleSimulator(0, Duration.ZERO));
+    }
+
+    /**
+     * BattleSimulator <code>estimateAvailableBattles</code> should:
+     * <ul>
+     * <li>Give one estimate for each available battle in the same order</li>
+     * <li>Not affect the player's party or the enemy parties</li>
+     * </ul>
+     */
+    @Test
+    void estimateAvailableBattles() {
+        final GameManager manager = new GameManager(100, 1, 5, 1, "Player");
+        manager.getPlayer().add(new Monster.Shark(3));
+        manager.getPlayer().add(new Monster.Tree(3));
+
+        final List<Trainer> enemies = manager.getAvailableBattles();
+        final List<BattleSimulator.Estimate> estimates = simulator.estimateAvailableBattles(manager);
+        assertEquals(enemies.size(), estimates.size());
+        for (int i = 0; i < enemies.size(); i++) {
+            final BattleSimulator.Estimate estimate = estimates.get(i);
+            assertEquals(enemies.get(i), estimate.enemy());
+            assertEquals(500, estimate.simulations());
+            assertTrue(estimate.winProbability() >= 0 && estimate.winProbability() <= 1);
+        }
+
+        assertTrue(manager.hasNotBattleOnce());
+        assertFalse(manager.getPlayer().getParty().stream().anyMatch(mon -> mon.getCurrentHp() < mon.maxHp()));
+    }
+}
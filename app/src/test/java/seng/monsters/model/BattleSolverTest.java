@@ -0,0 +1,105 @@
+package seng.monsters.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BattleSolverTest {
+    private Trainer player;
+    private Trainer enemy;
+
+    @BeforeEach
+    void setUp() {
+        player = new Trainer("Player");
+        enemy = new Trainer("Enemy");
+    }
+
+    /**
+     * BattleSolver <code>solve</code> should:
+     * <ul>
+     * <li>Give a certain win for a much stronger party and a certain loss for a much weaker one</li>
+     * <li>Give the settled battle immediately if either party has no active monster</li>
+     * <li>Not affect the hp of the actual parties</li>
+     * </ul>
+     */
+    @Test
+    void solve() {
+        player.add(new Monster.Shark(20));
+        enemy.add(new Monster.Doger(1));
+        enemy.add(new Monster.Raver(1));
+
+        final BattleSolver.Outcome win = BattleSolver.solve(player, enemy, Environment.BEACH);
+        assertEquals(1.0, win.winProbability(), 1e-9);
+        assertEquals(1.0, win.playerRemaining()[1], 1e-9);
+        assertEquals(2.0, win.expectedScore(), 1e-9);
+
+        final BattleSolver.Outcome loss = BattleSolver.solve(enemy, player, Environment.BEACH);
+        assertEquals(0.0, loss.winProbability(), 1e-9);
+        assertEquals(1.0, loss.enemyRemaining()[1], 1e-9);
+
+        assertFalse(player.getParty().stream().anyMatch(mon -> mon.getCurrentHp() < mon.maxHp()));
+        assertFalse(enemy.getParty().stream().anyMatch(mon -> mon.getCurrentHp() < mon.maxHp()));
+
+        // Enemy has no active monster
+        enemy.getParty().forEach(mon -> mon.takeDamage(mon.maxHp()));
+        assertEquals(1.0, BattleSolver.solve(player, enemy, Environment.BEACH).winProbability());
+        assertEquals(0.0, BattleSolver.solve(new Trainer("Empty"), player, Environment.BEACH).winProbability());
+    }
+
+    /**
+     * BattleSolver <code>solve</code> should:
+     * <ul>
+     * <li>Give a distribution that sums to one</li>
+     * <li>Agree with the Monte Carlo estimate for even battles, including a self-healing Eel</li>
+     * </ul>
+     */
+    @Test
+    void crossCheck() {
+        player.add(new Monster.Eel(6));
+        player.add(new Monster.Quacker(4));
+        player.getParty().get(1).takeDamage(20);
+        enemy.add(new Monster.Tree(4));
+        enemy.add(new Monster.Shark(3));
+        enemy.add(new Monster.Eel(3));
+
+        final BattleSolver.Outcome outcome = BattleSolver.solve(player, enemy, Environment.URBAN);
+        final double total = Arrays.stream(outcome.playerRemaining()).sum() + Arrays.stream(outcome.enemyRemaining()).sum();
+        assertEquals(1.0, total, 1e-9);
+        assertTrue(outcome.winProbability() > 0.05 && outcome.winProbability() < 0.95);
+
+        final BattleSimulator simulator = new BattleSimulator(
+            ForkJoinPool.commonPool(), 20000, Duration.ofSeconds(30), RandomSource.seeded(1)
+        );
+        final BattleSimulator.Estimate estimate = simulator.estimate(player, enemy, Environment.URBAN);
+        assertEquals(20000, estimate.simulations());
+        assertEquals(outcome.winProbability(), estimate.winProbability(), 0.02);
+        assertEquals(outcome.expectedGold(), estimate.expectedGold(), 0.02 * outcome.expectedGold() / outcome.winProbability());
+    }
+
+    /**
+     * BattleSolver <code>solveAvailableBattles</code> should:
+     * <ul>
+     * <li>Give one outcome for each available battle in the same order</li>
+     * </ul>
+     */
+    @Test
+    void solveAvailableBattles() {
+        final GameManager manager = new GameManager(100, 4, 5, 3, "Player", RandomSource.seeded(5));
+        manager.getPlayer().add(new Monster.Shark(4));
+        manager.getPlayer().add(new Monster.Raver(5));
+
+        final List<Trainer> enemies = manager.getAvailableBattles();
+        final List<BattleSolver.Outcome> outcomes = BattleSolver.solveAvailableBattles(manager);
+        assertEquals(enemies.size(), outcomes.size());
+        for (int i = 0; i < enemies.size(); i++) {
+            assertEquals(enemies.get(i), outcomes.get(i).enemy());
+            assertTrue(outcomes.get(i).winProbability() >= 0 && outcomes.get(i).winProbability() <= 1 + 1e-9);
+        }
+    }
+}
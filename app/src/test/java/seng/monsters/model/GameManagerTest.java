@@ -4,6 +4,10 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -43,12 +47,12 @@ class GameManagerTest {
             }
 
             @Override
-            public boolean shouldLevelUp() {
+            public boolean shouldLevelUp(RandomSource rng) {
                 return true;
             }
 
             @Override
-            public boolean shouldLeave() {
+            public boolean shouldLeave(RandomSource rng) {
                 return false;
             }
         };
@@ -77,12 +81,12 @@ class GameManagerTest {
             }
 
             @Override
-            public boolean shouldLevelUp() {
+            public boolean shouldLevelUp(RandomSource rng) {
                 return false;
             }
 
             @Override
-            public boolean shouldLeave() {
+            public boolean shouldLeave(RandomSource rng) {
                 return true;
             }
         };
@@ -626,4 +630,68 @@ class GameManagerTest {
         manager.setTrainerName("Jimbo");
         assertEquals("Jimbo", manager.getPlayer().getName());
     }
-}
\ No newline at end of file
+
+    /**
+     * GameManager's <code>setTrainerNames</code> should:
+     * <ul>
+     * <li>Reject a pool with fewer names than the most enemy trainers in a day</li>
+     * <li>Use a pool with enough names on the next day</li>
+     * </ul>
+     */
+    @Test
+    void setTrainerNames() throws IOException {
+        final Path file = Files.createTempFile("names", ".txt");
+        try {
+            Files.writeString(file, "Ranger\nHiker\nSwimmer\nBiker", StandardCharsets.UTF_8);
+            final TrainerNames tooFew = TrainerNames.fromFile(file);
+            assertThrows(IllegalArgumentException.class, () -> manager.setTrainerNames(tooFew));
+
+            Files.writeString(file, "Ranger\nHiker\nSwimmer\nBiker\nSailor", StandardCharsets.UTF_8);
+            manager.setTrainerNames(TrainerNames.fromFile(file));
+            manager.nextDay();
+            final List<String> names = manager.getAvailableBattles().stream().map(Trainer::getName).toList();
+            assertFalse(names.isEmpty());
+            assertTrue(List.of("Ranger", "Hiker", "Swimmer", "Biker", "Sailor").containsAll(names));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * GameManager's with the same seeded <code>RandomSource</code> should:
+     * <ul>
+     * <li>Generate the same battles, shop stock and environment for each day</li>
+     * </ul>
+     */
+    @Test
+    void seededRandomSource() {
+        final GameManager first = new GameManager(0, 1, 5, 2, "Tester", RandomSource.seeded(7));
+        final GameManager second = new GameManager(0, 1, 5, 2, "Tester", RandomSource.seeded(7));
+
+        for (int day = 0; day < 3; day++) {
+            assertEquals(first.getEnvironment(), second.getEnvironment());
+            assertEquals(describeBattles(first), describeBattles(second));
+            assertEquals(describeStock(first), describeStock(second));
+            first.nextDay();
+            second.nextDay();
+        }
+    }
+
+    private static List<String> describeBattles(GameManager manager) {
+        return manager.getAvailableBattles()
+            .stream()
+            .map(trainer -> trainer.getName() + trainer.getParty()
+                .stream()
+                .map(mon -> mon.monsterType() + mon.getLevel())
+                .toList())
+            .toList();
+    }
+
+    private static List<String> describeStock(GameManager manager) {
+        return manager.getShop().getMonsterStock()
+            .stream()
+            .map(mon -> mon.monsterType() + mon.getLevel())
+            .sorted()
+            .toList();
+    }
+}
@@ -0,0 +1,93 @@
+package seng.monsters.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameRunnerTest {
+    private GameRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        runner = new GameRunner(5, 1);
+    }
+
+    /**
+     * GameRunner <code>play</code> should:
+     * <ul>
+     * <li>Play until the game ends within the max days</li>
+     * <li>Battle at most once per day</li>
+     * <li>Give the same result for the same seed and strategy</li>
+     * </ul>
+     */
+    @Test
+    void play() {
+        for (long seed = 0; seed < 20; seed++) {
+            final GameRunner.Result result = runner.play(new Strategy.Greedy(), seed);
+            assertTrue(result.days() >= 1 && result.days() <= 5);
+            assertTrue(result.battlesWon() + result.battlesLost() <= result.days());
+            assertEquals(0, result.rejectedActions());
+            assertEquals(result, runner.play(new Strategy.Greedy(), seed));
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> new GameRunner(4, 1));
+        assertThrows(IllegalArgumentException.class, () -> new GameRunner(5, 4));
+    }
+
+    /**
+     * GameRunner <code>play</code> should:
+     * <ul>
+     * <li>Count the actions the game does not allow instead of failing</li>
+     * <li>Take the first battle if the chosen battle does not exist</li>
+     * </ul>
+     */
+    @Test
+    void rejectedActions() {
+        final Strategy cheating = new Strategy() {
+            @Override
+            public Monster chooseStarter(GameManager manager, List<Monster> starters) {
+                return starters.get(0);
+            }
+
+            @Override
+            public List<Purchasable> sell(GameManager manager) {
+                return List.of(new Item.RareCandy());
+            }
+
+            @Override
+            public int chooseBattle(GameManager manager) {
+                return -1;
+            }
+        };
+        final GameRunner.Result result = runner.play(cheating, 42);
+        assertTrue(result.rejectedActions() >= result.days() + 1);
+        assertTrue(result.battlesWon() + result.battlesLost() > 0);
+    }
+
+    /**
+     * GameRunner <code>playAll</code> should:
+     * <ul>
+     * <li>Play every game and keep the results in order</li>
+     * <li>Give the same results regardless of the parallelism</li>
+     * </ul>
+     */
+    @Test
+    void playAll() {
+        final ForkJoinPool single = new ForkJoinPool(1);
+        final ForkJoinPool many = new ForkJoinPool(4);
+        final GameRunner.Summary first = runner.playAll(Strategy.Aimless::new, 50, 7, single);
+        final GameRunner.Summary second = runner.playAll(Strategy.Aimless::new, 50, 7, many);
+        single.shutdown();
+        many.shutdown();
+
+        assertEquals(50, first.results().size());
+        assertEquals(first.results(), second.results());
+        assertEquals(first.results().get(3), runner.play(new Strategy.Aimless(), first.results().get(3).seed()));
+        assertTrue(first.completionRate() >= 0 && first.completionRate() <= 1);
+        assertTrue(first.gamesPerSecond() > 0);
+    }
+}
@@ -0,0 +1,162 @@
+package seng.monsters.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSnapshotTest {
+    private GameManager manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = new GameManager(120, 3, 10, 2, "Player", RandomSource.seeded(9));
+        final Monster named = new Monster.Eel("Sparky", 6);
+        named.takeDamage(20);
+        manager.getPlayer().add(named);
+        manager.getPlayer().add(new Monster.Tree(4));
+        manager.getInventory().add(new Item.Potion());
+        manager.getInventory().add(new Item.Potion());
+        manager.getInventory().add(new Item.Revive());
+        manager.setScore(33);
+        manager.getAvailableBattles().get(0).getParty().get(0).takeDamage(5);
+    }
+
+    /**
+     * GameSnapshot <code>write</code> and <code>read</code> should:
+     * <ul>
+     * <li>Restore the game values, player party with ids, inventory, shop stock, and battles</li>
+     * <li>Keep the snapshot within a few hundred bytes</li>
+     * </ul>
+     */
+    @Test
+    void roundTrip() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        GameSnapshot.write(manager, Channels.newChannel(out));
+        assertTrue(out.size() < 512);
+
+        final GameManager restored = GameSnapshot.read(
+            Channels.newChannel(new ByteArrayInputStream(out.toByteArray())), RandomSource.seeded(1)
+        );
+        assertEquals(describe(manager), describe(restored));
+        assertEquals(manager.getPlayer().getParty(), restored.getPlayer().getParty());
+        assertEquals("Sparky", restored.getPlayer().getParty().get(0).getName());
+        assertEquals(2, restored.getInventory().getItemNumber(new Item.Potion()));
+        assertEquals(1, restored.getInventory().getItemNumber(new Item.Revive()));
+        assertFalse(restored.hasNotBattleOnce());
+
+        // Snapshot of the restored session is identical
+        assertArrayEquals(out.toByteArray(), GameSnapshot.toBytes(restored));
+
+        // Restored shop stock can still be bought by reference
+        restored.setGold(100_000);
+        restored.getPlayer().remove(1);
+        restored.buy(restored.getShop().getMonsterStock().get(0));
+        assertEquals(2, restored.getPlayer().getParty().size());
+    }
+
+    /**
+     * GameSnapshot <code>read</code> should:
+     * <ul>
+     * <li>Reject bytes that are not a snapshot</li>
+     * <li>Reject a corrupted or truncated snapshot</li>
+     * <li>Reject a newer version</li>
+     * </ul>
+     */
+    @Test
+    void invalid() {
+        final byte[] bytes = GameSnapshot.toBytes(manager);
+
+        final byte[] corrupted = bytes.clone();
+        corrupted[corrupted.length - 3] ^= 0x55;
+        assertThrows(GameSnapshot.InvalidSnapshotException.class,
+            () -> GameSnapshot.fromBytes(corrupted, RandomSource.seeded(1)));
+
+        final byte[] truncated = Arrays.copyOf(bytes, bytes.length - 1);
+        assertThrows(GameSnapshot.InvalidSnapshotException.class,
+            () -> GameSnapshot.read(channel(truncated), RandomSource.seeded(1)));
+
+        final byte[] newer = bytes.clone();
+        newer[4] = (byte) (GameSnapshot.VERSION + 1);
+        assertThrows(GameSnapshot.InvalidSnapshotException.class,
+            () -> GameSnapshot.fromBytes(newer, RandomSource.seeded(1)));
+
+        assertThrows(GameSnapshot.InvalidSnapshotException.class,
+            () -> GameSnapshot.fromBytes("not a snapshot".getBytes(), RandomSource.seeded(1)));
+    }
+
+    /**
+     * GameSnapshot <code>write</code> should:
+     * <ul>
+     * <li>Save a generic monster of a bundled species as that species</li>
+     * <li>Reject a generic monster of any other species with a clear message</li>
+     * </ul>
+     */
+    @Test
+    void genericMonsters() throws IOException {
+        final Monster generic = new Monster.Generic(MonsterSpecies.SHARK.stats(), 5);
+        manager.getPlayer().add(generic);
+        final GameManager restored = GameSnapshot.fromBytes(GameSnapshot.toBytes(manager), RandomSource.seeded(1));
+        final Monster shark = restored.getPlayer().getParty().get(2);
+        assertSame(Monster.Shark.class, shark.getClass());
+        assertEquals(generic, shark);
+        assertEquals(5, shark.getLevel());
+
+        manager.getPlayer().remove(2);
+        manager.getPlayer().add(new Monster.Generic(
+            new SpeciesStats("Mystery", "Not in the game", 50, 10, 5, 5, Environment.FIELD, 0, 0, 0, 0), "Unknown", 3
+        ));
+        final IllegalArgumentException err = assertThrows(
+            IllegalArgumentException.class, () -> GameSnapshot.toBytes(manager)
+        );
+        assertTrue(err.getMessage().contains("Mystery"));
+    }
+
+    private static ReadableByteChannel channel(byte[] bytes) {
+        return Channels.newChannel(new ByteArrayInputStream(bytes));
+    }
+
+    private static String describe(GameManager manager) {
+        final StringBuilder res = new StringBuilder();
+        res.append(List.of(
+            manager.getGold(), manager.getScore(), manager.getCurrentDay(),
+            manager.getMaxDays(), manager.getDifficulty(), manager.getEnvironment()
+        ));
+        describe(res, manager.getPlayer());
+        for (final Item item : List.of(new Item.Potion(), new Item.Revive(), new Item.RareCandy(), new Item.FullRestore())) {
+            res.append(item.getName()).append(manager.getInventory().getItemNumber(item));
+            res.append('/').append(manager.getShop().getItemStock(item));
+        }
+        for (final Monster mon : manager.getShop().getMonsterStock()) {
+            describe(res, mon);
+        }
+        for (final Trainer enemy : manager.getAvailableBattles()) {
+            describe(res, enemy);
+        }
+        return res.toString();
+    }
+
+    private static void describe(StringBuilder res, Trainer trainer) {
+        res.append('\n').append(trainer.getName()).append(':');
+        for (final Monster mon : trainer.getParty()) {
+            describe(res, mon);
+        }
+    }
+
+    private static void describe(StringBuilder res, Monster mon) {
+        res.append(' ')
+            .append(mon.monsterType()).append('/')
+            .append(mon.getName()).append('/')
+            .append(mon.getLevel()).append('/')
+            .append(mon.getCurrentHp()).append('/')
+            .append(mon.maxHp());
+    }
+}
@@ -4,6 +4,8 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -118,4 +120,68 @@ class InventoryTest {
         inventory.add(new Item.RareCandy());
         assertEquals(3, inventory.getItems().size());
     }
-}
\ No newline at end of file
+
+    /**
+     * Inventory <code>forEachCount()</code> should:
+     * <ul>
+     * <li>Give the ordinal and count of every item held, in the order of their ordinals</li>
+     * <li>Skip the items not held</li>
+     * </ul>
+     */
+    @Test
+    void forEachCount() {
+        inventory.add(Item.RareCandy.INSTANCE);
+        inventory.add(Item.Potion.INSTANCE);
+        inventory.add(Item.RareCandy.INSTANCE);
+
+        final List<String> counts = new ArrayList<>();
+        inventory.forEachCount((ordinal, count) -> counts.add(ordinal + ":" + count));
+        assertEquals(List.of("0:1", "2:2"), counts);
+    }
+
+    /**
+     * Inventory listeners should:
+     * <ul>
+     * <li>Be notified with the ordinal and new count of an item added or removed</li>
+     * <li>Not be notified if no count changes</li>
+     * <li>Not be notified after being removed</li>
+     * <li>Notify every listener of a change, even if one removes itself or adds another when notified</li>
+     * </ul>
+     */
+    @Test
+    void listeners() {
+        final List<String> changes = new ArrayList<>();
+        final Inventory.CountConsumer listener = (ordinal, count) -> changes.add(ordinal + ":" + count);
+        inventory.addListener(listener);
+
+        inventory.add(Item.Revive.INSTANCE);
+        inventory.add(Item.Revive.INSTANCE);
+        inventory.remove(Item.Revive.INSTANCE);
+        assertEquals(List.of("1:1", "1:2", "1:1"), changes);
+
+        // Nothing to remove, so nothing changes
+        assertThrows(Inventory.ItemNotExistException.class, () -> inventory.remove(Item.Potion.INSTANCE));
+        inventory.setItemNumber(Item.Revive.INSTANCE, 1);
+        assertEquals(3, changes.size());
+
+        inventory.removeListener(listener);
+        inventory.add(Item.FullRestore.INSTANCE);
+        assertEquals(3, changes.size());
+
+        final List<String> notified = new ArrayList<>();
+        final Inventory.CountConsumer added = (ordinal, count) -> notified.add("added");
+        inventory.addListener(new Inventory.CountConsumer() {
+            @Override
+            public void accept(int ordinal, int count) {
+                notified.add("once");
+                inventory.removeListener(this);
+                inventory.addListener(added);
+            }
+        });
+        inventory.addListener((ordinal, count) -> notified.add("after"));
+        inventory.add(Item.Potion.INSTANCE);
+        assertEquals(List.of("once", "after"), notified);
+        inventory.add(Item.Potion.INSTANCE);
+        assertEquals(List.of("once", "after", "after", "added"), notified);
+    }
+}
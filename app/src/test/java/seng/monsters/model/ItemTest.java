@@ -3,7 +3,6 @@ package seng.monsters.model;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.util.Objects;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -114,20 +113,37 @@ class ItemTest {
     }
 
     /**
-     * Check if all items has their hashcode from the hash of their name
+     * Check if all items has their hashcode from their ordinal
      */
     @Test
     void testHashCode() {
-        final Item potion = new Item.Potion();
-        assertEquals(Objects.hash(potion.getName()), potion.hashCode());
-
-        final Item revive = new Item.Revive();
-        assertEquals(Objects.hash(revive.getName()), revive.hashCode());
-
-        final Item rareCandy = new Item.RareCandy();
-        assertEquals(Objects.hash(rareCandy.getName()), rareCandy.hashCode());
+        assertEquals(0, new Item.Potion().hashCode());
+        assertEquals(1, new Item.Revive().hashCode());
+        assertEquals(2, new Item.RareCandy().hashCode());
+        assertEquals(3, new Item.FullRestore().hashCode());
+    }
 
-        final Item fullRestore = new Item.FullRestore();
-        assertEquals(Objects.hash(fullRestore.getName()), fullRestore.hashCode());
+    /**
+     * Item <code>of</code> and <code>all</code> should:
+     * <ul>
+     * <li>Give the same canonical instance for an ordinal</li>
+     * <li>List every item type in the order of their ordinals</li>
+     * <li>Keep the names of the item types</li>
+     * <li>Throw an error for an ordinal of no item type</li>
+     * </ul>
+     */
+    @Test
+    void canonical() {
+        assertEquals(Item.COUNT, Item.all().size());
+        for (int ordinal = 0; ordinal < Item.COUNT; ordinal++) {
+            assertSame(Item.all().get(ordinal), Item.of(ordinal));
+            assertEquals(ordinal, Item.of(ordinal).ordinal());
+        }
+        assertSame(Item.Potion.INSTANCE, Item.of(0));
+        assertSame(Item.FullRestore.INSTANCE, Item.of(3));
+        assertEquals("RareCandy", Item.RareCandy.INSTANCE.getName());
+        assertEquals(new Item.Revive().getName(), Item.Revive.INSTANCE.getName());
+
+        assertThrows(IndexOutOfBoundsException.class, () -> Item.of(Item.COUNT));
     }
-}
\ No newline at end of file
+}
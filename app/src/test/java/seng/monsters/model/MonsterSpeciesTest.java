@@ -0,0 +1,88 @@
+package seng.monsters.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonsterSpeciesTest {
+
+    /**
+     * MonsterSpecies <code>create()</code> and <code>of()</code> should:
+     * <ul>
+     * <li>Create a monster of that species at the level given</li>
+     * <li>Use the default name unless one is given</li>
+     * <li>Give back the species of any monster, and by its tag</li>
+     * </ul>
+     */
+    @Test
+    void create() {
+        final List<Monster> all = Monster.all(4);
+        assertEquals(MonsterSpecies.values().length, all.size());
+        for (final MonsterSpecies species : MonsterSpecies.values()) {
+            final Monster mon = species.create(4);
+            assertSame(all.get(species.ordinal()).getClass(), mon.getClass());
+            assertEquals(4, mon.getLevel());
+            assertEquals(mon.monsterType(), mon.getName());
+            assertEquals("Named", species.create("Named", 4).getName());
+            assertEquals(mon.monsterType(), species.create(null, 4).getName());
+
+            assertSame(species, MonsterSpecies.of(mon));
+            assertSame(species, MonsterSpecies.of(species.ordinal()));
+        }
+    }
+
+    /**
+     * MonsterSpecies <code>Sampler</code> should:
+     * <ul>
+     * <li>Never pick a species with no weight</li>
+     * <li>Pick the same species as a single <code>nextInt</code> when uniform</li>
+     * <li>Reject weights that do not line up with the species or cannot pick anything</li>
+     * </ul>
+     */
+    @Test
+    void sample() {
+        final MonsterSpecies.Sampler onlyTrees = MonsterSpecies.weighted(0, 0, 5, 0, 0, 0);
+        final RandomSource rng = RandomSource.seeded(3);
+        for (int i = 0; i < 100; i++) {
+            assertSame(MonsterSpecies.TREE, onlyTrees.sample(rng));
+        }
+
+        final RandomSource sampled = RandomSource.seeded(11);
+        final RandomSource drawn = RandomSource.seeded(11);
+        for (int i = 0; i < 100; i++) {
+            assertSame(
+                MonsterSpecies.of(drawn.nextInt(MonsterSpecies.values().length)),
+                MonsterSpecies.uniform().sample(sampled)
+            );
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> MonsterSpecies.weighted(1, 1));
+        assertThrows(IllegalArgumentException.class, () -> MonsterSpecies.weighted(0, 0, 0, 0, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> MonsterSpecies.weighted(1, 1, 1, -1, 1, 1));
+    }
+
+    /**
+     * MonsterSpecies <code>generate()</code> should:
+     * <ul>
+     * <li>Create exactly the amount of monsters asked for</li>
+     * <li>Draw each level from the distribution</li>
+     * <li>Generate the same monsters for the same seed</li>
+     * </ul>
+     */
+    @Test
+    void generate() {
+        final MonsterSpecies.LevelDistribution levels = rng -> 1 + rng.nextInt(10);
+        final List<Monster> first = MonsterSpecies.uniform().generate(20, levels, RandomSource.seeded(5));
+        final List<Monster> second = MonsterSpecies.uniform().generate(20, levels, RandomSource.seeded(5));
+
+        assertEquals(20, first.size());
+        for (int i = 0; i < first.size(); i++) {
+            assertTrue(first.get(i).getLevel() >= 1 && first.get(i).getLevel() <= 10);
+            assertSame(first.get(i).getClass(), second.get(i).getClass());
+            assertEquals(first.get(i).getLevel(), second.get(i).getLevel());
+        }
+        assertTrue(MonsterSpecies.uniform().generate(0, levels, RandomSource.seeded(5)).isEmpty());
+    }
+}
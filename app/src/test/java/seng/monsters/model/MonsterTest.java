@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -261,6 +262,49 @@ class MonsterTest {
         assertEquals(monster, pointer);
     }
 
+    /**
+     * Monster ids should:
+     * <ul>
+     * <li>Be unique for every monster made</li>
+     * <li>Give equal monsters the same hashcode, so they work in hash sets</li>
+     * <li>Derive the same UUID every time, and come back from it when restored</li>
+     * <li>Keep a UUID that was not derived from an id, restoring it as the same monster every time</li>
+     * </ul>
+     */
+    @Test
+    void ids() {
+        final HashSet<Long> ids = new HashSet<>();
+        final HashSet<Monster> monsters = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            final Monster mon = new Monster.Eel(1);
+            assertTrue(ids.add(mon.getSequenceId()));
+            assertTrue(monsters.add(mon));
+        }
+
+        final Monster monster = new Monster.Doger(3);
+        final Monster copy = monster.copy();
+        assertEquals(monster, copy);
+        assertEquals(monster.hashCode(), copy.hashCode());
+        assertEquals(monster.getId(), monster.getId());
+
+        final Monster restored = new Monster.Doger(3);
+        restored.restore(monster.getId(), restored.getBaseHp(), restored.getCurrentHp());
+        assertEquals(monster, restored);
+        assertEquals(monster.hashCode(), restored.hashCode());
+        assertEquals(monster.getId(), restored.getId());
+
+        final UUID legacy = UUID.randomUUID();
+        final Monster old = new Monster.Doger(3);
+        old.restore(legacy, old.getBaseHp(), old.getCurrentHp());
+        assertEquals(legacy, old.getId());
+        assertNotEquals(monster, old);
+        final Monster again = new Monster.Doger(3);
+        again.restore(legacy, again.getBaseHp(), again.getCurrentHp());
+        assertEquals(old, again);
+        assertEquals(old.hashCode(), again.hashCode());
+        assertEquals(old.getSequenceId(), again.getSequenceId());
+    }
+
     /**
      * Monster's random chances method such as:
      * <ul>
@@ -325,4 +369,88 @@ class MonsterTest {
             new Monster.Quacker(sameName, 1).uniqueName()
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * Monster's cached stats should:
+     * <ul>
+     * <li>Match the level scaled formula for every level, including after <code>levelUp</code></li>
+     * <li>Be updated when <code>setBaseHp</code> is called</li>
+     * </ul>
+     */
+    @Test
+    void cachedStats() {
+        for (final Monster monster : all) {
+            for (int level = 1; level <= 300; level++) {
+                final double multiplier = Math.pow(1.1, level - 1);
+                assertEquals(level, monster.getLevel());
+                assertEquals((int) Math.min(Integer.MAX_VALUE - 1, monster.baseDamage() * multiplier), monster.scaledDamage());
+                assertEquals(
+                    (int) Math.min(Integer.MAX_VALUE - 1, monster.baseDamage() * multiplier * 1.5),
+                    monster.damage(monster.idealEnvironment())
+                );
+                monster.levelUp();
+            }
+        }
+
+        final Monster monster = new Monster.Raver(7);
+        final int previousMaxHp = monster.maxHp();
+        final int previousPrice = monster.buyPrice();
+        monster.setBaseHp(100);
+        assertEquals((int) (100 * Math.pow(1.1, 6)), monster.maxHp());
+        assertTrue(monster.maxHp() < previousMaxHp);
+        assertTrue(monster.buyPrice() < previousPrice);
+        assertEquals(monster.maxHp(), monster.getCurrentHp());
+    }
+
+    /**
+     * Monster's stats for a subclass giving its own stats should:
+     * <ul>
+     * <li>Use the stats of the subclass even if they read fields set after the Monster constructor</li>
+     * <li>Follow the stats of the subclass when they change later</li>
+     * </ul>
+     */
+    @Test
+    void subclassStats() {
+        final Monster monster = new Monster("Growing", 100, 1) {
+            private int power = 50;
+
+            @Override
+            public String description() { return "Monster getting stronger";}
+
+            @Override
+            public int baseDamage() {
+                return power++;
+            }
+
+            @Override
+            public int speed() {
+                return 10;
+            }
+
+            @Override
+            public int healRate() {
+                return 10;
+            }
+
+            @Override
+            public Environment idealEnvironment() {
+                return Environment.FIELD;
+            }
+
+            @Override
+            public boolean shouldLevelUp(RandomSource rng) {
+                return false;
+            }
+
+            @Override
+            public boolean shouldLeave(RandomSource rng) {
+                return false;
+            }
+        };
+
+        assertEquals(50, monster.scaledDamage());
+        assertEquals(51, monster.damage(Environment.BEACH));
+        assertEquals((int) (52 * 1.5), monster.damage(Environment.FIELD));
+        assertEquals(100 + 53 + 10 + 10, monster.buyPrice());
+    }
+}
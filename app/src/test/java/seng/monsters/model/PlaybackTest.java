@@ -0,0 +1,61 @@
+package seng.monsters.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlaybackTest {
+    /**
+     * Playback <code>tick</code> should:
+     * <ul>
+     * <li>Do as many iterations as the speed on each tick</li>
+     * <li>Stop early if the battle is settled</li>
+     * <li>Resolve the whole battle at once if instant, without moving the attacks</li>
+     * </ul>
+     */
+    @Test
+    void tick() {
+        final AtomicInteger progresses = new AtomicInteger(0);
+        final BattleManager.UI counting = new BattleManager.UI() {
+            @Override
+            public void onEachAttackProgress(int percentage) {
+                progresses.incrementAndGet();
+            }
+
+            @Override
+            public void onEachLandedAttack(boolean isPlayerTurn, int dmg) {
+            }
+
+            @Override
+            public void onEachNextMonster(boolean isPlayerTurn) {
+            }
+
+            @Override
+            public void onEnd() {
+            }
+        };
+
+        final Trainer player = new Trainer("Player");
+        final Trainer enemy = new Trainer("Enemy");
+        player.add(new Monster.Tree(30));
+        enemy.add(new Monster.Raver(30));
+        final BattleManager battle = new BattleManager(counting, player, enemy, Environment.FIELD, RandomSource.seeded(1));
+
+        Playback.NORMAL.tick(battle);
+        assertEquals(1, progresses.get());
+        Playback.DOUBLE.tick(battle);
+        assertEquals(3, progresses.get());
+        Playback.FAST.tick(battle);
+        assertEquals(11, progresses.get());
+
+        Playback.INSTANT.tick(battle);
+        assertTrue(battle.isSettled());
+        assertEquals(11, progresses.get());
+
+        Playback.FAST.tick(battle);
+        assertEquals(11, progresses.get());
+        assertEquals("8x", Playback.FAST.toString());
+    }
+}
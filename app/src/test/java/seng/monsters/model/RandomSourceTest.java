@@ -0,0 +1,50 @@
+package seng.monsters.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RandomSourceTest {
+
+    /**
+     * RandomSource <code>seeded</code> should:
+     * <ul>
+     * <li>Give the same sequence for the same seed</li>
+     * <li>Give the same split sources for the same seed</li>
+     * </ul>
+     */
+    @Test
+    void seeded() {
+        final RandomSource first = RandomSource.seeded(42);
+        final RandomSource second = RandomSource.seeded(42);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.nextInt(1000), second.nextInt(1000));
+            assertEquals(first.nextDouble(), second.nextDouble());
+        }
+
+        final RandomSource firstSplit = first.split();
+        final RandomSource secondSplit = second.split();
+        for (int i = 0; i < 100; i++) {
+            assertEquals(firstSplit.nextLong(), secondSplit.nextLong());
+        }
+    }
+
+    /**
+     * RandomSource's <code>nextInt</code> and <code>nextDouble</code> should:
+     * <ul>
+     * <li>Stay within their bounds for every kind of source</li>
+     * </ul>
+     */
+    @Test
+    void bounds() {
+        for (final RandomSource rng : new RandomSource[]{RandomSource.create(), RandomSource.current()}) {
+            for (int i = 0; i < 1000; i++) {
+                final int value = rng.nextInt(6);
+                assertTrue(value >= 0 && value < 6);
+                final double chance = rng.nextDouble();
+                assertTrue(chance >= 0 && chance < 1);
+            }
+            assertNotNull(rng.split());
+        }
+    }
+}
@@ -4,8 +4,10 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -210,4 +212,44 @@ class ShopTest {
 
         assertEquals(6, shop.getMonsterStock().size());
     }
-}
\ No newline at end of file
+
+    /**
+     * Shop <code>getMonsterStock()</code> should:
+     * <ul>
+     * <li>Give out the same immutable list until the stock changes</li>
+     * <li>Keep the monsters in the order they were stocked after one is bought</li>
+     * <li>Look up a monster by position or by id</li>
+     * </ul>
+     */
+    @Test
+    void getMonsterStock() {
+        gameManager.setDifficulty(2);
+        gameManager.setCurrentDay(1);
+        gameManager.setMaxDays(2);
+        shop.restock();
+
+        final List<Monster> stock = shop.getMonsterStock();
+        assertSame(stock, shop.getMonsterStock());
+        assertThrows(UnsupportedOperationException.class, () -> stock.remove(0));
+        for (int i = 0; i < stock.size(); i++) {
+            assertSame(stock.get(i), shop.getMonsterInStock(i));
+            assertSame(stock.get(i), shop.findMonsterInStock(stock.get(i).getSequenceId()).orElseThrow());
+            assertSame(stock.get(i), shop.findMonsterInStock(stock.get(i).getId()).orElseThrow());
+        }
+        assertThrows(Shop.NotInStockException.class, () -> shop.getMonsterInStock(stock.size()));
+        assertThrows(Shop.NotInStockException.class, () -> shop.getMonsterInStock(-1));
+
+        final Monster bought = stock.get(1);
+        gameManager.setGold(bought.buyPrice());
+        shop.buyPurchasable(bought);
+
+        final List<Monster> remaining = shop.getMonsterStock();
+        assertNotSame(stock, remaining);
+        assertEquals(stock.size() - 1, remaining.size());
+        assertSame(stock.get(0), remaining.get(0));
+        assertSame(stock.get(2), remaining.get(1));
+        assertTrue(shop.findMonsterInStock(bought.getSequenceId()).isEmpty());
+        assertTrue(shop.findMonsterInStock(bought.getId()).isEmpty());
+        assertTrue(shop.findMonsterInStock(UUID.randomUUID()).isEmpty());
+    }
+}
@@ -0,0 +1,99 @@
+package seng.monsters.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpeciesTableTest {
+
+    /**
+     * SpeciesTable <code>bundled()</code> should:
+     * <ul>
+     * <li>Have every registered species, in the order of their tags</li>
+     * <li>Share the same stats with every monster of a species</li>
+     * <li>Give the special behaviours as flags</li>
+     * </ul>
+     */
+    @Test
+    void bundled() {
+        final SpeciesTable table = SpeciesTable.bundled();
+        assertEquals(MonsterSpecies.values().length, table.size());
+        for (final MonsterSpecies species : MonsterSpecies.values()) {
+            final SpeciesStats stats = table.get(species.ordinal());
+            assertSame(stats, species.stats());
+            assertSame(stats, species.create(3).getSpeciesStats().orElseThrow());
+            assertSame(stats, table.get(stats.name()));
+        }
+
+        assertTrue(table.get("Eel").has(SpeciesStats.LIFESTEAL));
+        assertTrue(table.get("Tree").has(SpeciesStats.SELLS_AT_BUY_PRICE));
+        assertTrue(table.get("Tree").has(SpeciesStats.LEVELS_UP_HEALTHY));
+        assertEquals(0, table.get("Shark").flags());
+        assertThrows(IllegalArgumentException.class, () -> table.get("Dragon"));
+    }
+
+    /**
+     * SpeciesTable <code>parse()</code> should:
+     * <ul>
+     * <li>Skip blank lines and comments</li>
+     * <li>Keep any character in the description</li>
+     * <li>Make monsters of the species behave by their flags</li>
+     * </ul>
+     */
+    @Test
+    void parse() throws IOException {
+        final SpeciesTable table = SpeciesTable.parse(new StringReader("""
+            # A comment
+
+            Leech | 30 | 50 | 10 | 5 | BEACH | 1 | 0 | 0 | lifesteal, sells-at-buy-price | Sucks | and sells well.
+            """));
+        assertEquals(1, table.size());
+
+        final SpeciesStats stats = table.get("Leech");
+        assertEquals("Sucks | and sells well.", stats.description());
+        assertEquals(Environment.BEACH, stats.idealEnvironment());
+
+        final Monster leech = new Monster.Generic(stats, 1);
+        assertEquals("Leech", leech.getName());
+        assertEquals("Leech", leech.monsterType());
+        assertEquals(leech.buyPrice(), leech.sellPrice());
+        assertEquals(50 / 5, leech.attackHeal(Environment.FIELD));
+        assertTrue(leech.shouldLevelUp(RandomSource.seeded(1)));
+        assertFalse(leech.shouldLeave(RandomSource.seeded(1)));
+
+        leech.takeDamage(20);
+        leech.damage(Environment.FIELD);
+        assertEquals(20, leech.getCurrentHp());
+    }
+
+    /**
+     * SpeciesTable <code>parse()</code> should throw an error with the line number for:
+     * <ul>
+     * <li>A missing column</li>
+     * <li>A negative stat or a chance above 1</li>
+     * <li>An unknown environment or flag</li>
+     * <li>Two species with the same name</li>
+     * </ul>
+     */
+    @Test
+    void invalid() {
+        final String valid = "Blob | 10 | 10 | 10 | 10 | FIELD | 0.5 | 0.1 | 0.1 | - | A blob.\n";
+        final IllegalArgumentException missing = assertThrows(IllegalArgumentException.class,
+            () -> SpeciesTable.parse(new StringReader(valid + "Blob | 10 | 10\n")));
+        assertTrue(missing.getMessage().startsWith("Line 2"));
+
+        assertThrows(IllegalArgumentException.class,
+            () -> SpeciesTable.parse(new StringReader(valid.replace("| 10 | 10 | 10 | 10 |", "| -1 | 10 | 10 | 10 |"))));
+        assertThrows(IllegalArgumentException.class,
+            () -> SpeciesTable.parse(new StringReader(valid.replace("0.5", "1.5"))));
+        assertThrows(IllegalArgumentException.class,
+            () -> SpeciesTable.parse(new StringReader(valid.replace("FIELD", "MOON"))));
+        assertThrows(IllegalArgumentException.class,
+            () -> SpeciesTable.parse(new StringReader(valid.replace("| - |", "| flying |"))));
+        assertThrows(IllegalArgumentException.class,
+            () -> SpeciesTable.parse(new StringReader(valid + valid)));
+    }
+}
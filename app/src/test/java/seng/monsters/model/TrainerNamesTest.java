@@ -0,0 +1,72 @@
+package seng.monsters.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrainerNamesTest {
+    /**
+     * TrainerNames <code>bundled</code> should:
+     * <ul>
+     * <li>Load every name from roles.txt</li>
+     * <li>Be loaded once and shared</li>
+     * </ul>
+     */
+    @Test
+    void bundled() {
+        final TrainerNames names = TrainerNames.bundled();
+        assertEquals(56, names.size());
+        assertEquals("A-list Actor", names.get(0));
+        assertSame(names, TrainerNames.bundled());
+        assertThrows(IndexOutOfBoundsException.class, () -> names.get(56));
+    }
+
+    /**
+     * TrainerNames <code>sample</code> should:
+     * <ul>
+     * <li>Pick different names</li>
+     * <li>Pick the same names for the same seed</li>
+     * <li>Throw an error if there are not enough names</li>
+     * </ul>
+     */
+    @Test
+    void sample() {
+        final TrainerNames names = TrainerNames.bundled();
+        for (int seed = 0; seed < 100; seed++) {
+            final List<String> picked = names.sample(5, RandomSource.seeded(seed));
+            assertEquals(5, new HashSet<>(picked).size());
+            assertEquals(picked, names.sample(5, RandomSource.seeded(seed)));
+        }
+        assertEquals(56, new HashSet<>(names.sample(56, RandomSource.seeded(1))).size());
+        assertThrows(IllegalArgumentException.class, () -> names.sample(57, RandomSource.seeded(1)));
+    }
+
+    /**
+     * TrainerNames <code>fromFile</code> should:
+     * <ul>
+     * <li>Skip blank lines and strip any line ending</li>
+     * <li>Keep non-ASCII names intact</li>
+     * </ul>
+     */
+    @Test
+    void fromFile() throws IOException {
+        final Path file = Files.createTempFile("names", ".txt");
+        try {
+            Files.writeString(file, "Ranger\r\n\n  \nJosé\nGym Leader", StandardCharsets.UTF_8);
+            final TrainerNames names = TrainerNames.fromFile(file);
+            assertEquals(3, names.size());
+            assertEquals("Ranger", names.get(0));
+            assertEquals("José", names.get(1));
+            assertEquals("Gym Leader", names.get(2));
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
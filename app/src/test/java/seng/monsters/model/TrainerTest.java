@@ -207,4 +207,26 @@ class TrainerTest {
 
         assertTrue(trainer.isWhitedOut());
     }
-}
\ No newline at end of file
+
+    /**
+     * Trainer <code>copy()</code> should:
+     * <ul>
+     * <li>Have the same name and monsters as the original</li>
+     * <li>Not affect the original party when the copied monsters are damaged</li>
+     * </ul>
+     */
+    @Test
+    void copy() {
+        trainer.add(new Monster.Doger(10));
+        trainer.add(new Monster.Tree(10));
+
+        final Trainer copied = trainer.copy();
+        assertEquals(trainer.getName(), copied.getName());
+        assertEquals(trainer.getParty(), copied.getParty());
+
+        // Damaging the copy leaves the original untouched
+        copied.getParty().forEach(mon -> mon.takeDamage(mon.maxHp()));
+        assertTrue(copied.isWhitedOut());
+        assertFalse(trainer.isWhitedOut());
+    }
+}
@@ -7,17 +7,13 @@
 //
 package seng.monsters.ui.cli;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.InputStream;
-import java.io.PrintStream;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.util.Collection;
 
 public abstract class CLITestBase {
-    private final InputStream systemIn = System.in;
-    private final PrintStream systemOut = System.out;
-
-    private ByteArrayOutputStream testOut;
+    private StringWriter testOut;
+    private Output output;
 
     /**
      * The TestableCLI being tested
@@ -27,33 +23,35 @@ public abstract class CLITestBase {
     public abstract TestableCLI cli();
 
     /**
-     * Base setup method to be called on <code>@BeforeEach</code>
+     * Base setup method to be called on <code>@BeforeEach</code>, after the CLI is created
+     * <p>
+     * The CLI gets its own terminal instead of the <code>System.in</code> and <code>System.out</code>,
+     * so tests can run in parallel
      */
     protected void baseSetup() {
-        testOut = new ByteArrayOutputStream();
-        System.setOut(new PrintStream(testOut));
+        testOut = new StringWriter();
+        output = Output.buffered(testOut);
+        provideInput("");
     }
 
     /**
      * Base teardown method to be called on <code>@AfterEach</code>
      */
     protected void baseTeardown() {
-        System.setIn(systemIn);
-        System.setOut(systemOut);
+        output.flush();
     }
 
     /**
-     * Provide the <code>System.in</code> with a single input that can be acquired through <code>Scanner::nextLine</code>
+     * Provide the CLI with a single input that can be acquired through <code>Scanner::nextLine</code>
      *
      * @param data The input as string
      */
     protected void provideInput(String data) {
-        System.setIn(new ByteArrayInputStream(data.getBytes()));
-        cli().refreshSystemIn();
+        cli().useTerminal(Terminal.scripted(new StringReader(data), output));
     }
 
     /**
-     * Provide the <code>System.in</code> with multiple inputs that can be acquired through <code>Scanner::nextLine</code>
+     * Provide the CLI with multiple inputs that can be acquired through <code>Scanner::nextLine</code>
      *
      * @param data The input as a collection of string
      */
@@ -63,13 +61,14 @@ public abstract class CLITestBase {
     }
 
     /**
-     * Take a snapshot of the current <code>System.out</code> and return it as String
+     * Take a snapshot of the current output and return it as String
      *
      * @return The output as string
      */
     protected String acquireOutput() {
+        output.flush();
         final String current = testOut.toString();
-        baseSetup();
+        testOut.getBuffer().setLength(0);
         return current;
     }
 }
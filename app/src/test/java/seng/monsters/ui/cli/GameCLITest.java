@@ -0,0 +1,100 @@
+package seng.monsters.ui.cli;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seng.monsters.model.GameManager;
+import seng.monsters.model.Monster;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameCLITest extends CLITestBase {
+
+    private GameManager gameManager;
+    private GameCLI gameCLI;
+
+    @BeforeEach
+    void setUp() {
+        gameManager = new GameManager(1000, 1, 5, 1, "Test");
+        gameManager.getPlayer().add(new Monster.Tree(3));
+        gameCLI = new GameCLI(gameManager);
+        baseSetup();
+    }
+
+    @Override
+    public TestableCLI cli() {
+        return gameCLI;
+    }
+
+    @AfterEach
+    void tearDown() {
+        baseTeardown();
+    }
+
+    /**
+     * GameCLI's <code>step</code> should:
+     * <ul>
+     * <li>Start on the main menu</li>
+     * <li>Move to the screen chosen in the main menu</li>
+     * <li>Move back to the main menu once the screen is left</li>
+     * <li>Output <code>"Invalid input!"</code> for an invalid main menu option and ask again</li>
+     * </ul>
+     */
+    @Test
+    void step() {
+        assertEquals(GameCLI.State.MAIN_MENU, gameCLI.getState());
+
+        provideMultipleInput(List.of("1", "0", "3", "0", "4", "0", "9", "2", "0"));
+        final List<GameCLI.State> expected = List.of(
+            GameCLI.State.PARTY, GameCLI.State.MAIN_MENU,
+            GameCLI.State.INVENTORY, GameCLI.State.MAIN_MENU,
+            GameCLI.State.SHOP, GameCLI.State.MAIN_MENU,
+            GameCLI.State.BATTLE, GameCLI.State.MAIN_MENU
+        );
+        for (final GameCLI.State state : expected) {
+            assertEquals(state, gameCLI.step());
+            assertEquals(state, gameCLI.getState());
+        }
+        assertTrue(acquireOutput().contains("Invalid input!"));
+    }
+
+    /**
+     * GameCLI's <code>step</code> should:
+     * <ul>
+     * <li>Go through any amount of screens without running out of stack</li>
+     * </ul>
+     */
+    @Test
+    void longSession() {
+        final int visits = 20_000;
+        provideMultipleInput(Collections.nCopies(visits, "1\n0"));
+        for (int i = 0; i < visits; i++) {
+            assertEquals(GameCLI.State.PARTY, gameCLI.step());
+            assertEquals(GameCLI.State.MAIN_MENU, gameCLI.step());
+        }
+    }
+
+    /**
+     * GameCLI's <code>run</code> should:
+     * <ul>
+     * <li>Move to the end screen once the game is lost</li>
+     * <li>Output the outcome of the game and stop</li>
+     * </ul>
+     */
+    @Test
+    void run() {
+        gameManager = new GameManager(0, 1, 5, 1, "Test");
+        final Monster fainted = new Monster.Tree(3);
+        fainted.takeDamage(fainted.maxHp());
+        gameManager.getPlayer().add(fainted);
+        gameCLI = new GameCLI(gameManager);
+        provideInput("5");
+        gameCLI.run();
+        assertEquals(GameCLI.State.EXIT, gameCLI.getState());
+        assertEquals(GameCLI.State.EXIT, gameCLI.step());
+        assertTrue(acquireOutput().contains("Thanks for playing!"));
+    }
+}
@@ -0,0 +1,150 @@
+package seng.monsters.ui.cli;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seng.monsters.model.GameManager;
+import seng.monsters.model.RandomSource;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranscriptTest extends CLITestBase {
+
+    private SetupCLI setupCLI;
+
+    @BeforeEach
+    void setUp() {
+        setupCLI = new SetupCLI();
+        baseSetup();
+    }
+
+    @Override
+    public TestableCLI cli() {
+        return setupCLI;
+    }
+
+    @AfterEach
+    void tearDown() {
+        baseTeardown();
+    }
+
+    /**
+     * The commands of a whole game, sleeping through every day.
+     * A name follows each sleep for any monster joining overnight, otherwise it is ignored by the main menu.
+     *
+     * @return The commands
+     */
+    private static List<String> wholeGame() {
+        final List<String> commands = new ArrayList<>(List.of("Tester", "5", "1", "1", "Rex"));
+        for (int day = 0; day < 5; day++) {
+            commands.add("5");
+            commands.add("Rex");
+        }
+        return commands;
+    }
+
+    /**
+     * Transcript's <code>read</code> should:
+     * <ul>
+     * <li>Hand out one line at a time</li>
+     * <li>Time each line handed out</li>
+     * <li>End after the last line</li>
+     * </ul>
+     */
+    @Test
+    void read() throws IOException {
+        final Transcript transcript = new Transcript(Transcript.read(new StringReader("1\nabc\r\n")));
+        assertEquals(List.of("1", "abc"), transcript.getCommands());
+
+        final char[] buffer = new char[16];
+        assertEquals(2, transcript.read(buffer, 0, buffer.length));
+        assertEquals("1\n", new String(buffer, 0, 2));
+        assertEquals(1, transcript.served());
+        assertEquals(4, transcript.read(buffer, 0, buffer.length));
+        assertEquals("abc\n", new String(buffer, 0, 4));
+        assertEquals(-1, transcript.read(buffer, 0, buffer.length));
+
+        final long[] latencies = transcript.latencies(System.nanoTime());
+        assertEquals(2, latencies.length);
+        assertTrue(latencies[0] >= 0 && latencies[1] >= 0);
+    }
+
+    /**
+     * Play a whole game from a transcript
+     *
+     * @param commands The commands of the game
+     * @param out      The writer the output of the game ends up in
+     * @return The game manager of the finished game
+     */
+    private static GameManager play(List<String> commands, StringWriter out) {
+        final Terminal terminal = Terminal.scripted(new Transcript(commands), Output.buffered(out));
+        return new SetupCLI(terminal, RandomSource.seeded(7)).setup();
+    }
+
+    /**
+     * SetupCLI's <code>setup</code> from a scripted terminal should:
+     * <ul>
+     * <li>Play a whole game from the transcript without pausing</li>
+     * <li>Write every output to the terminal's output</li>
+     * <li>Play the same game for the same seed</li>
+     * <li>Throw an error if the transcript ends before the game does</li>
+     * </ul>
+     */
+    @Test
+    void scripted() {
+        final StringWriter firstOut = new StringWriter();
+        final long start = System.nanoTime();
+        final GameManager first = play(wholeGame(), firstOut);
+        assertTrue(System.nanoTime() - start < 2_000_000_000L, "The end screen should not pause");
+        assertTrue(firstOut.toString().contains("Thanks for playing!"));
+        assertEquals("", acquireOutput());
+
+        final StringWriter secondOut = new StringWriter();
+        final GameManager second = play(wholeGame(), secondOut);
+        assertEquals(first.getCurrentDay(), second.getCurrentDay());
+        assertEquals(first.getScore(), second.getScore());
+        assertEquals(firstOut.toString(), secondOut.toString());
+
+        assertThrows(NoSuchElementException.class, () -> play(List.of("Tester", "5"), new StringWriter()));
+    }
+
+    /**
+     * SetupCLI's <code>setup</code> from scripted terminals should:
+     * <ul>
+     * <li>Play games on different threads at once without mixing their outputs</li>
+     * </ul>
+     */
+    @Test
+    void concurrent() throws InterruptedException, ExecutionException {
+        final StringWriter expected = new StringWriter();
+        play(wholeGame(), expected);
+
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<String>> outputs = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                outputs.add(pool.submit(() -> {
+                    final StringWriter out = new StringWriter();
+                    play(wholeGame(), out);
+                    return out.toString();
+                }));
+            }
+            for (final Future<String> output : outputs) {
+                assertEquals(expected.toString(), output.get());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
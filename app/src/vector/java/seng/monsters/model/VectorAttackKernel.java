@@ -0,0 +1,111 @@
+package seng.monsters.model;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * <p>
+ * The attack step on as many lanes at once as the CPU has room for, using <code>jdk.incubator.vector</code>.
+ * Only loaded by <code>AttackKernel.best()</code>, so the rest of the game compiles and runs without the module.
+ * </p>
+ * <p>
+ * Each branch of <code>ScalarAttackKernel</code> is a blend here. The lanes left over at the end,
+ * and any vector of lanes with a roll range too wide for 32 random bits, go through the scalar loop.
+ * </p>
+ */
+final class VectorAttackKernel implements AttackKernel {
+    /**
+     * The widest int vectors the CPU supports.
+     */
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    /**
+     * Creates the vector kernel, failing if the module is not in this runtime.
+     */
+    VectorAttackKernel() {
+    }
+
+    @Override
+    public int attack(BattleBatch.Lanes lanes, int count) {
+        final int bound = SPECIES.loopBound(count);
+        int fainted = 0;
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            final IntVector turn = IntVector.fromArray(SPECIES, lanes.playerTurn, i);
+            final VectorMask<Integer> isPlayer = turn.compare(VectorOperators.NE, 0);
+            final IntVector atkSpan = pick(lanes.playerSpan, lanes.enemySpan, i, isPlayer);
+            if (atkSpan.compare(VectorOperators.GT, MAX_SPAN).anyTrue()) {
+                // Rare enough that the whole vector of lanes can take the wide rolls of the scalar loop
+                fainted = ScalarAttackKernel.attack(lanes, i, i + SPECIES.length(), fainted);
+                continue;
+            }
+
+            final IntVector counter = IntVector.fromArray(SPECIES, lanes.counter, i).add(GOLDEN);
+            counter.intoArray(lanes.counter, i);
+            final IntVector playerHp = IntVector.fromArray(SPECIES, lanes.playerHp, i);
+            final IntVector enemyHp = IntVector.fromArray(SPECIES, lanes.enemyHp, i);
+            final IntVector atkHeal = pick(lanes.playerHeal, lanes.enemyHeal, i, isPlayer);
+            final IntVector atkMax = pick(lanes.playerMax, lanes.enemyMax, i, isPlayer);
+            final IntVector atkLow = pick(lanes.playerLow, lanes.enemyLow, i, isPlayer);
+
+            final IntVector atkHp = enemyHp.blend(playerHp, isPlayer).add(atkHeal).min(atkMax);
+            final IntVector defHp = playerHp.blend(enemyHp, isPlayer)
+                .sub(roll(mix(counter), atkSpan).add(atkLow))
+                .max(0);
+
+            defHp.blend(atkHp, isPlayer).intoArray(lanes.playerHp, i);
+            atkHp.blend(defHp, isPlayer).intoArray(lanes.enemyHp, i);
+            final VectorMask<Integer> isFainted = defHp.compare(VectorOperators.EQ, 0);
+            turn.lanewise(VectorOperators.XOR, 1).blend(turn, isFainted).intoArray(lanes.playerTurn, i);
+
+            // Most attacks leave both monsters standing, so the lanes are only listed when a vector has a faint
+            if (isFainted.anyTrue()) {
+                for (long bits = isFainted.toLong(); bits != 0; bits &= bits - 1) {
+                    lanes.fainted[fainted++] = i + Long.numberOfTrailingZeros(bits);
+                }
+            }
+        }
+        return ScalarAttackKernel.attack(lanes, i, count, fainted);
+    }
+
+    /**
+     * Load the stat of the attacker on each lane.
+     *
+     * @param player   The stat of the player's monsters.
+     * @param enemy    The stat of the enemy's monsters.
+     * @param offset   The first lane.
+     * @param isPlayer The lanes where the player attacks.
+     * @return The stat of each attacker.
+     */
+    private static IntVector pick(int[] player, int[] enemy, int offset, VectorMask<Integer> isPlayer) {
+        return IntVector.fromArray(SPECIES, enemy, offset).blend(IntVector.fromArray(SPECIES, player, offset), isPlayer);
+    }
+
+    /**
+     * The lane by lane <code>ScalarAttackKernel.mix</code>.
+     *
+     * @param counter The counter of each lane.
+     * @return The random bits of each lane.
+     */
+    private static IntVector mix(IntVector counter) {
+        IntVector z = counter;
+        z = z.lanewise(VectorOperators.XOR, z.lanewise(VectorOperators.LSHR, 16)).mul(0x85EBCA6B);
+        z = z.lanewise(VectorOperators.XOR, z.lanewise(VectorOperators.LSHR, 13)).mul(0xC2B2AE35);
+        return z.lanewise(VectorOperators.XOR, z.lanewise(VectorOperators.LSHR, 16));
+    }
+
+    /**
+     * The lane by lane <code>ScalarAttackKernel.roll</code>.
+     *
+     * @param bits The random bits of each lane.
+     * @param span The size of the range of each lane.
+     * @return The roll of each lane.
+     */
+    private static IntVector roll(IntVector bits, IntVector span) {
+        final IntVector high = bits.lanewise(VectorOperators.LSHR, 16).mul(span);
+        final IntVector low = bits.and(0xFFFF).mul(span).lanewise(VectorOperators.LSHR, 16);
+        return high.add(low).lanewise(VectorOperators.LSHR, 16);
+    }
+}